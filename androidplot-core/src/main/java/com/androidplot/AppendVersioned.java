@@ -0,0 +1,18 @@
+package com.androidplot;
+
+/**
+ * A {@link Versioned} object, typically a series, that distinguishes changes that only append
+ * values from those that modify or remove existing values.  Allows indexes over its values,
+ * such as {@link com.androidplot.xy.IndexedXYSeries}, to be extended rather than rebuilt as it
+ * grows.
+ * @since 1.5.12
+ */
+public interface AppendVersioned extends Versioned {
+
+    /**
+     * @return A value that changes each time values already present are modified, inserted
+     * before or removed; unlike {@link #getVersion()}, it does not change when values are only
+     * appended.
+     */
+    long getRewriteVersion();
+}
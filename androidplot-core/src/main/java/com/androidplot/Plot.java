@@ -45,6 +45,7 @@ import com.androidplot.ui.SizeMode;
 import com.androidplot.ui.TextOrientation;
 import com.androidplot.ui.VerticalPositioning;
 import com.androidplot.ui.widget.TextLabelWidget;
+import com.androidplot.ui.widget.Widget;
 import com.androidplot.util.AttrUtils;
 import com.androidplot.util.DisplayDimensions;
 import com.androidplot.util.PixelUtils;
@@ -93,6 +94,7 @@ public abstract class Plot<SeriesType extends Series, FormatterType extends Form
         for(BundleType bundle : registry.getSeriesAndFormatterList()) {
             attachSeries(bundle.getSeries(), bundle.getFormatter());
         }
+        markChanged();
     }
 
     /**
@@ -107,10 +109,12 @@ public abstract class Plot<SeriesType extends Series, FormatterType extends Form
 
     public void setTitle(TextLabelWidget title) {
         this.title = title;
+        markChanged();
     }
 
     public void setTitle(String title) {
         getTitle().setText(title);
+        markChanged();
     }
 
     public enum BorderStyle {
@@ -163,7 +167,19 @@ public abstract class Plot<SeriesType extends Series, FormatterType extends Form
          * XML value: use_background_thread
          * @since 0.5.1
          */
-        USE_BACKGROUND_THREAD
+        USE_BACKGROUND_THREAD,
+
+        /**
+         * Like {@link #USE_BACKGROUND_THREAD} but renders into one of three off-screen buffers, so
+         * that the render thread always has a free buffer to draw into and the UI thread never
+         * waits for a render in progress to finish before drawing the most recently completed
+         * frame.  Recommended for background rendered plots hosted in scrolling containers, at
+         * the cost of a third buffer.
+         *
+         * XML value: use_triple_buffered_background_thread
+         * @since 1.5.12
+         */
+        USE_TRIPLE_BUFFERED_BACKGROUND_THREAD
     }
     private BoxModel boxModel = new BoxModel();
 
@@ -178,6 +194,7 @@ public abstract class Plot<SeriesType extends Series, FormatterType extends Form
     private DisplayDimensions displayDims = new DisplayDimensions();
     private RenderMode renderMode = RenderMode.USE_MAIN_THREAD;
     private final BufferedCanvas pingPong = new BufferedCanvas();
+    private final TripleBufferedCanvas tripleBuffer = new TripleBufferedCanvas();
 
     // used to get rid of flickering when drawing offScreenBitmap to the visible Canvas.
     private final Object renderSync = new Object();
@@ -191,6 +208,17 @@ public abstract class Plot<SeriesType extends Series, FormatterType extends Form
     private boolean keepRunning = false;
     private boolean isIdle = true;
 
+    // returned by computeState() when the state of the plot can't be determined:
+    protected static final long UNKNOWN_STATE = Long.MIN_VALUE;
+    private static final long STATE_SEED = 0xcbf29ce484222325L;
+    private static final long STATE_PRIME = 0x100000001b3L;
+
+    private volatile boolean dirtyTrackingEnabled;
+    private volatile long version;
+
+    // the state of the plot when it was last rendered:
+    private volatile long renderedState = UNKNOWN_STATE;
+
     {
         listeners = new ArrayList<>();
         registry = getRegistryInstance();
@@ -294,6 +322,109 @@ public abstract class Plot<SeriesType extends Series, FormatterType extends Form
         }
     }
 
+    /**
+     * A buffer of three Bitmaps: one rendered into by the render thread, one holding the most
+     * recently completed frame and one being drawn by the UI thread.  Completed frames are
+     * published and claimed by swapping references, so neither thread waits on the other
+     * for longer than it takes to swap.
+     */
+    static class TripleBufferedCanvas {
+        private int lastHeight = 0;
+        private int lastWidth = 0;
+        private Bitmap backBuffer;  // all drawing is done on this buffer.
+        private Bitmap readyBuffer; // the most recently completed frame, if not yet claimed.
+        private Bitmap frontBuffer; // the frame being drawn by the UI thread.
+        private Bitmap renderBuffer; // the buffer the Canvas is currently bound to.
+        private boolean hasNewFrame;
+        private final Canvas canvas = new Canvas();
+
+        public void resizeToLast() {
+            resize(lastHeight, lastWidth);
+        }
+
+        /**
+         * Replaces all three buffers.  A render in progress completes into its old buffer, which
+         * is then discarded by {@link #swap()}.
+         */
+        public synchronized void resize(int h, int w) {
+            hasNewFrame = false;
+            if (w <= 0 || h <= 0) {
+                backBuffer = null;
+                readyBuffer = null;
+                frontBuffer = null;
+            } else {
+                lastHeight = h;
+                lastWidth = w;
+                try {
+                    backBuffer = Bitmap.createBitmap(w, h, Bitmap.Config.ARGB_8888);
+                    readyBuffer = Bitmap.createBitmap(w, h, Bitmap.Config.ARGB_8888);
+                    frontBuffer = Bitmap.createBitmap(w, h, Bitmap.Config.ARGB_8888);
+                } catch(IllegalArgumentException e) {
+                    throw new IllegalArgumentException("Illegal argument passed to Bitmap.createBitmap.  width: " + w + " height: " + h);
+                }
+            }
+        }
+
+        /**
+         * Releases the back buffer.  The front buffer may still be referenced by the View's
+         * display list, as may the ready buffer if it was the front buffer until the last
+         * {@link #getBitmap()}, so both are dropped rather than recycled.
+         */
+        public synchronized void recycle() {
+            if (backBuffer != null) {
+                backBuffer.recycle();
+                backBuffer = null;
+            }
+            readyBuffer = null;
+            frontBuffer = null;
+            renderBuffer = null;
+            hasNewFrame = false;
+        }
+
+        /**
+         * Invoked by the render thread to get a Canvas for drawing the next frame.
+         * @return The Canvas instance to draw onto.  Returns null if drawing buffers have not
+         *         been initialized a la {@link #resize(int, int)}.
+         */
+        public synchronized Canvas getCanvas() {
+            renderBuffer = backBuffer;
+            if (renderBuffer != null) {
+                canvas.setBitmap(renderBuffer);
+                return canvas;
+            } else {
+                return null;
+            }
+        }
+
+        /**
+         * Invoked by the render thread once drawing on a Canvas retrieved by {@link #getCanvas()}
+         * is complete, to publish it as the most recent frame.
+         */
+        public synchronized void swap() {
+            if (renderBuffer != null && renderBuffer == backBuffer) {
+                backBuffer = readyBuffer;
+                readyBuffer = renderBuffer;
+                hasNewFrame = true;
+            }
+            renderBuffer = null;
+        }
+
+        /**
+         * Invoked by the UI thread to claim the most recently completed frame.  The returned
+         * Bitmap is not drawn into until the next invocation.
+         * @return The most recent fully rendered Bitmap, or null if none are available.
+         */
+        public synchronized Bitmap getBitmap() {
+            if (hasNewFrame) {
+                final Bitmap tmp = frontBuffer;
+                frontBuffer = readyBuffer;
+                readyBuffer = tmp;
+                hasNewFrame = false;
+            }
+            return frontBuffer;
+        }
+    }
+
     /**
      * Convenience constructor - wraps {@link #Plot(android.content.Context, String, com.androidplot.Plot.RenderMode)}.
      * RenderMode is set to {@link RenderMode#USE_BACKGROUND_THREAD}.
@@ -419,11 +550,19 @@ public abstract class Plot<SeriesType extends Series, FormatterType extends Form
         onAfterConfig();
 
         layoutManager.onPostInit();
-        if (renderMode == RenderMode.USE_BACKGROUND_THREAD) {
+        if (isBackgroundRendering()) {
             startBackgroundRendering();
         }
     }
 
+    /**
+     * @return True if the render mode renders on a background thread.
+     */
+    private boolean isBackgroundRendering() {
+        return renderMode == RenderMode.USE_BACKGROUND_THREAD
+                || renderMode == RenderMode.USE_TRIPLE_BUFFERED_BACKGROUND_THREAD;
+    }
+
     protected void startBackgroundRendering() {
         if(renderThread != null) {
             return;
@@ -435,10 +574,17 @@ public abstract class Plot<SeriesType extends Series, FormatterType extends Form
             keepRunning = true;
             while (keepRunning) {
                 isIdle = false;
-                synchronized (pingPong) {
-                    Canvas c = pingPong.getCanvas();
+                if (renderMode == RenderMode.USE_TRIPLE_BUFFERED_BACKGROUND_THREAD) {
+                    // never holds a lock the UI thread waits on while rendering:
+                    Canvas c = tripleBuffer.getCanvas();
                     renderOnCanvas(c);
-                    pingPong.swap();
+                    tripleBuffer.swap();
+                } else {
+                    synchronized (pingPong) {
+                        Canvas c = pingPong.getCanvas();
+                        renderOnCanvas(c);
+                        pingPong.swap();
+                    }
                 }
                 synchronized (renderSync) {
                     postInvalidate();
@@ -456,6 +602,7 @@ public abstract class Plot<SeriesType extends Series, FormatterType extends Form
             System.out.println("Thread exited with id " + this.hashCode());
             renderThread = null;
             pingPong.recycle();
+            tripleBuffer.recycle();
         }, "Androidplot renderThread");
     }
 
@@ -752,15 +899,30 @@ public abstract class Plot<SeriesType extends Series, FormatterType extends Form
 
     public void setMarkupEnabled(boolean enabled) {
         this.layoutManager.setMarkupEnabled(enabled);
+        markChanged();
     }
 
     /**
-     * Causes the plot to be redrawn.
+     * Causes the plot to be redrawn.  When dirty tracking is enabled, does nothing unless
+     * {@link #isDirty()}.
      * @since 0.5.1
      */
     public void redraw() {
+        redrawIfDirty();
+    }
 
-        if (renderMode == RenderMode.USE_BACKGROUND_THREAD) {
+    /**
+     * Equivalent to {@link #redraw()}, but reports whether a render was requested.
+     * @return False if dirty tracking is enabled and nothing has changed since the plot was last
+     * rendered, in which case no render will follow.
+     * @since 1.5.12
+     */
+    public boolean redrawIfDirty() {
+        if (!isDirty()) {
+            return false;
+        }
+
+        if (isBackgroundRendering()) {
 
             // only enter synchronized block if the call is expected to block OR
             // if the render thread is idle, so we know that we won't have to wait to
@@ -782,12 +944,108 @@ public abstract class Plot<SeriesType extends Series, FormatterType extends Form
         } else {
             throw new IllegalArgumentException("Unsupported Render Mode: " + renderMode);
         }
+        return true;
+    }
+
+    /**
+     * @return True if anything drawn by this plot has changed since it was last rendered, or if
+     * dirty tracking is disabled.
+     * @since 1.5.12
+     */
+    public boolean isDirty() {
+        if (!dirtyTrackingEnabled) {
+            return true;
+        }
+        final long state = computeState();
+        return state == UNKNOWN_STATE || state != renderedState;
+    }
+
+    public boolean isDirtyTrackingEnabled() {
+        return dirtyTrackingEnabled;
+    }
+
+    /**
+     * When enabled, {@link #redraw()} does nothing unless a series, formatter, widget or
+     * setting of this plot has changed since the plot was last rendered, saving the cost of
+     * redundantly redrawing idle plots.  Changes are detected through the {@link Versioned}
+     * interface; as long as any series of this plot does not implement it, the plot is always
+     * considered dirty.  Changes that can't be detected, such as modifying a Paint in place,
+     * must be followed by {@link #markChanged()} (or {@link Widget#markChanged()} /
+     * {@link Formatter#markChanged()}) to be drawn.  Disabled by default.
+     * @param enabled
+     * @since 1.5.12
+     */
+    public void setDirtyTrackingEnabled(boolean enabled) {
+        this.dirtyTrackingEnabled = enabled;
+        this.renderedState = UNKNOWN_STATE;
+    }
+
+    /**
+     * Marks the plot as changed, causing the next {@link #redraw()} to redraw it even if dirty
+     * tracking is enabled.  Invoked by this plot's setters; should also be invoked after changes
+     * that can't be detected, such as modifying one of the plot's Paints.
+     * @since 1.5.12
+     */
+    public void markChanged() {
+        version++;
+    }
+
+    /**
+     * Computes a value that changes whenever anything drawn by the plot changes.  Implementations
+     * should combine the result of the super implementation with their own state using
+     * {@link #mixState(long, long)}.  May be invoked concurrently with changes to the plot.
+     * @return The state of the plot or {@link #UNKNOWN_STATE} if it can't be determined.
+     * @since 1.5.12
+     */
+    protected long computeState() {
+        long state = mixState(STATE_SEED, version);
+        try {
+            final List<BundleType> bundles = getRegistry().getSeriesAndFormatterList();
+            for (int i = 0; i < bundles.size(); i++) {
+                final BundleType bundle = bundles.get(i);
+                final SeriesType series = bundle.getSeries();
+                if (!(series instanceof Versioned)) {
+                    return UNKNOWN_STATE;
+                }
+                state = mixState(state, System.identityHashCode(series));
+                state = mixState(state, ((Versioned) series).getVersion());
+                state = mixState(state, System.identityHashCode(bundle.getFormatter()));
+                state = mixState(state, bundle.getFormatter().getVersion());
+            }
+            for (Widget widget : layoutManager.elements()) {
+                state = mixState(state, System.identityHashCode(widget));
+                state = mixState(state, widget.getVersion());
+            }
+        } catch (RuntimeException e) {
+            // series or widgets were added or removed concurrently; either way, the plot changed.
+            return UNKNOWN_STATE;
+        }
+        return state;
+    }
+
+    protected static long mixState(long state, long value) {
+        return (state ^ value) * STATE_PRIME;
+    }
+
+    protected static long mixState(long state, double value) {
+        return mixState(state, Double.doubleToLongBits(value));
+    }
+
+    /**
+     *
+     * @param state
+     * @param value Null is permitted.
+     * @return
+     */
+    protected static long mixState(long state, Number value) {
+        return mixState(state, value != null ? value.doubleValue() : Double.NaN);
     }
 
     @Override
     public synchronized void layout(final DisplayDimensions dims) {
         this.displayDims = dims;
         layoutManager.layout(displayDims);
+        markChanged();
     }
 
     @Override
@@ -804,8 +1062,12 @@ public abstract class Plot<SeriesType extends Series, FormatterType extends Form
         super.onAttachedToWindow();
 
         // necessary to support rendering in recyclerview etc.
-        if(renderMode == RenderMode.USE_BACKGROUND_THREAD && renderThread == null) {
-            pingPong.resizeToLast();
+        if(isBackgroundRendering() && renderThread == null) {
+            if (renderMode == RenderMode.USE_TRIPLE_BUFFERED_BACKGROUND_THREAD) {
+                tripleBuffer.resizeToLast();
+            } else {
+                pingPong.resizeToLast();
+            }
             startBackgroundRendering();
             renderThread.start();
         }
@@ -826,9 +1088,11 @@ public abstract class Plot<SeriesType extends Series, FormatterType extends Form
             }
         }
 
-        // pingPong is only used in background rendering mode.
+        // pingPong and tripleBuffer are only used in background rendering modes.
         if(renderMode == RenderMode.USE_BACKGROUND_THREAD) {
             pingPong.resize(h, w);
+        } else if (renderMode == RenderMode.USE_TRIPLE_BUFFERED_BACKGROUND_THREAD) {
+            tripleBuffer.resize(h, w);
         }
 
         RectF cRect = new RectF(0, 0, w, h);
@@ -856,6 +1120,12 @@ public abstract class Plot<SeriesType extends Series, FormatterType extends Form
                     canvas.drawBitmap(bmp, 0, 0, null);
                 }
             }
+        } else if (renderMode == RenderMode.USE_TRIPLE_BUFFERED_BACKGROUND_THREAD) {
+            // claims the latest completed frame without waiting on a render in progress:
+            Bitmap bmp = tripleBuffer.getBitmap();
+            if(bmp != null) {
+                canvas.drawBitmap(bmp, 0, 0, null);
+            }
         } else if (renderMode == RenderMode.USE_MAIN_THREAD) {
             renderOnCanvas(canvas);
         } else {
@@ -879,6 +1149,9 @@ public abstract class Plot<SeriesType extends Series, FormatterType extends Form
             // implement PlotListener.onBeforeDraw(...) and do a read lock from within its
             // invocation.  This is the entry point into that call:
             notifyListenersBeforeDraw(canvas);
+            if (dirtyTrackingEnabled) {
+                renderedState = computeState();
+            }
             try {
                 // need to completely erase what was on the canvas before redrawing, otherwise
                 // some odd aliasing artifacts begin to build up around the edges of aa'd entities
@@ -922,6 +1195,7 @@ public abstract class Plot<SeriesType extends Series, FormatterType extends Form
             this.borderRadiusY = radiusY;
         }
         this.borderStyle = style;
+        markChanged();
     }
 
     /**
@@ -954,6 +1228,7 @@ public abstract class Plot<SeriesType extends Series, FormatterType extends Form
 
     public void setLayoutManager(LayoutManager layoutManager) {
         this.layoutManager = layoutManager;
+        markChanged();
     }
 
     public Paint getBackgroundPaint() {
@@ -962,6 +1237,7 @@ public abstract class Plot<SeriesType extends Series, FormatterType extends Form
 
     public void setBackgroundPaint(Paint backgroundPaint) {
         this.backgroundPaint = backgroundPaint;
+        markChanged();
     }
 
     /**
@@ -976,6 +1252,7 @@ public abstract class Plot<SeriesType extends Series, FormatterType extends Form
         setPlotMarginTop(top);
         setPlotMarginRight(right);
         setPlotMarginBottom(bottom);
+        markChanged();
     }
 
     /**
@@ -990,6 +1267,7 @@ public abstract class Plot<SeriesType extends Series, FormatterType extends Form
         setPlotPaddingTop(top);
         setPlotPaddingRight(right);
         setPlotPaddingBottom(bottom);
+        markChanged();
     }
 
     public float getPlotMarginTop() {
@@ -998,6 +1276,7 @@ public abstract class Plot<SeriesType extends Series, FormatterType extends Form
 
     public void setPlotMarginTop(float plotMarginTop) {
         boxModel.setMarginTop(plotMarginTop);
+        markChanged();
     }
 
     public float getPlotMarginBottom() {
@@ -1006,6 +1285,7 @@ public abstract class Plot<SeriesType extends Series, FormatterType extends Form
 
     public void setPlotMarginBottom(float plotMarginBottom) {
         boxModel.setMarginBottom(plotMarginBottom);
+        markChanged();
     }
 
     public float getPlotMarginLeft() {
@@ -1014,6 +1294,7 @@ public abstract class Plot<SeriesType extends Series, FormatterType extends Form
 
     public void setPlotMarginLeft(float plotMarginLeft) {
         boxModel.setMarginLeft(plotMarginLeft);
+        markChanged();
     }
 
     public float getPlotMarginRight() {
@@ -1022,6 +1303,7 @@ public abstract class Plot<SeriesType extends Series, FormatterType extends Form
 
     public void setPlotMarginRight(float plotMarginRight) {
         boxModel.setMarginRight(plotMarginRight);
+        markChanged();
     }
 
     public float getPlotPaddingTop() {
@@ -1030,6 +1312,7 @@ public abstract class Plot<SeriesType extends Series, FormatterType extends Form
 
     public void setPlotPaddingTop(float plotPaddingTop) {
         boxModel.setPaddingTop(plotPaddingTop);
+        markChanged();
     }
 
     public float getPlotPaddingBottom() {
@@ -1038,6 +1321,7 @@ public abstract class Plot<SeriesType extends Series, FormatterType extends Form
 
     public void setPlotPaddingBottom(float plotPaddingBottom) {
         boxModel.setPaddingBottom(plotPaddingBottom);
+        markChanged();
     }
 
     public float getPlotPaddingLeft() {
@@ -1046,6 +1330,7 @@ public abstract class Plot<SeriesType extends Series, FormatterType extends Form
 
     public void setPlotPaddingLeft(float plotPaddingLeft) {
         boxModel.setPaddingLeft(plotPaddingLeft);
+        markChanged();
     }
 
     public float getPlotPaddingRight() {
@@ -1054,6 +1339,7 @@ public abstract class Plot<SeriesType extends Series, FormatterType extends Form
 
     public void setPlotPaddingRight(float plotPaddingRight) {
         boxModel.setPaddingRight(plotPaddingRight);
+        markChanged();
     }
 
     public Paint getBorderPaint() {
@@ -1073,5 +1359,6 @@ public abstract class Plot<SeriesType extends Series, FormatterType extends Form
             this.borderPaint = new Paint(borderPaint);
             this.borderPaint.setStyle(Paint.Style.STROKE);
         }
+        markChanged();
     }
 }
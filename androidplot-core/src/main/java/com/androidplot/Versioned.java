@@ -0,0 +1,16 @@
+package com.androidplot;
+
+/**
+ * Implemented by objects that track changes to their state, allowing a {@link Plot} with dirty
+ * tracking enabled to skip redraws when nothing it draws has changed.
+ * See {@link Plot#setDirtyTrackingEnabled(boolean)}.
+ * @since 1.5.12
+ */
+public interface Versioned {
+
+    /**
+     * @return A value that changes each time this object's state changes in a way that
+     * would affect how it is drawn.
+     */
+    long getVersion();
+}
@@ -30,6 +30,12 @@ public class PieLegendWidget extends LegendWidget<PieLegendItem> {
         canvas.drawRect(iconRect, item.formatter.getFillPaint());
     }
 
+    @Override
+    protected long getItemVersion(@NonNull PieLegendItem item) {
+        return 31 * (31 * super.getItemVersion(item) + System.identityHashCode(item.formatter))
+                + item.formatter.getVersion();
+    }
+
     @Override
     protected List<PieLegendItem> getLegendItems() {
         final List<PieLegendItem> legendItems = new ArrayList<>();
@@ -46,4 +46,18 @@ public class PieWidget extends Widget {
             }
         }
     }
+
+    /**
+     * Not supported; the pie's segments change without this widget being notified, so a cached
+     * rendering would go stale.
+     * @param cachingEnabled
+     * @throws UnsupportedOperationException if cachingEnabled is true.
+     */
+    @Override
+    public void setCachingEnabled(boolean cachingEnabled) {
+        if (cachingEnabled) {
+            throw new UnsupportedOperationException("PieWidget does not support caching.");
+        }
+        super.setCachingEnabled(false);
+    }
 }
@@ -137,6 +137,7 @@ public class SegmentFormatter extends Formatter<PieChart> {
 
     public void setInnerEdgePaint(Paint innerEdgePaint) {
         this.innerEdgePaint = innerEdgePaint;
+        markChanged();
     }
 
     public Paint getOuterEdgePaint() {
@@ -145,6 +146,7 @@ public class SegmentFormatter extends Formatter<PieChart> {
 
     public void setOuterEdgePaint(Paint outerEdgePaint) {
         this.outerEdgePaint = outerEdgePaint;
+        markChanged();
     }
 
     public Paint getRadialEdgePaint() {
@@ -153,6 +155,7 @@ public class SegmentFormatter extends Formatter<PieChart> {
 
     public void setRadialEdgePaint(Paint radialEdgePaint) {
         this.radialEdgePaint = radialEdgePaint;
+        markChanged();
     }
 
     public Paint getFillPaint() {
@@ -161,6 +164,7 @@ public class SegmentFormatter extends Formatter<PieChart> {
 
     public void setFillPaint(Paint fillPaint) {
         this.fillPaint = fillPaint;
+        markChanged();
     }
 
     public Paint getLabelPaint() {
@@ -169,6 +173,7 @@ public class SegmentFormatter extends Formatter<PieChart> {
 
     public void setLabelPaint(Paint labelPaint) {
         this.labelPaint = labelPaint;
+        markChanged();
     }
 
     public Paint getLabelMarkerPaint() {
@@ -177,6 +182,7 @@ public class SegmentFormatter extends Formatter<PieChart> {
 
     public void setLabelMarkerPaint(Paint labelMarkerPaint) {
         this.labelMarkerPaint = labelMarkerPaint;
+        markChanged();
     }
 
     public float getOffset() {
@@ -190,6 +196,7 @@ public class SegmentFormatter extends Formatter<PieChart> {
      */
     public void setOffset(float offset) {
         this.offset = offset;
+        markChanged();
     }
 
     public float getRadialInset() {
@@ -203,6 +210,7 @@ public class SegmentFormatter extends Formatter<PieChart> {
      */
     public void setRadialInset(float radialInset) {
         this.radialInset = radialInset;
+        markChanged();
     }
 
     public float getInnerInset() {
@@ -211,6 +219,7 @@ public class SegmentFormatter extends Formatter<PieChart> {
 
     public void setInnerInset(float innerInset) {
         this.innerInset = innerInset;
+        markChanged();
     }
 
     public float getOuterInset() {
@@ -219,5 +228,6 @@ public class SegmentFormatter extends Formatter<PieChart> {
 
     public void setOuterInset(float outerInset) {
         this.outerInset = outerInset;
+        markChanged();
     }
 }
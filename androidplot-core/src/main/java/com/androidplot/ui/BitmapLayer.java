@@ -0,0 +1,70 @@
+package com.androidplot.ui;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.RectF;
+
+/**
+ * A Bitmap into which content is rendered once and then drawn in place of re-rendering it, until
+ * the region it's drawn into or its key changes.  Used to cache the rendering of widgets and of
+ * the grid.
+ * @since 1.5.12
+ */
+public class BitmapLayer {
+
+    /**
+     * Renders the content of a {@link BitmapLayer}.
+     */
+    public interface Renderer {
+
+        /**
+         * @param canvas Translated such that content is drawn at the same coordinates at which
+         *               it would be drawn without the layer.
+         */
+        void render(Canvas canvas);
+    }
+
+    private final Renderer renderer;
+    private Bitmap bitmap;
+    private Canvas bitmapCanvas;
+    private RectF renderedRect;
+    private long renderedKey;
+
+    public BitmapLayer(Renderer renderer) {
+        this.renderer = renderer;
+    }
+
+    /**
+     * Draws the layer into canvas, first re-rendering it if rect or key have changed since it
+     * was last rendered.  The layer is aligned to whole pixels so that it is drawn without
+     * resampling; anything rendered outside of rect is clipped.
+     * @param canvas
+     * @param rect The region of canvas into which the content is rendered.
+     * @param key A value that changes whenever the rendered content changes.
+     */
+    public void draw(Canvas canvas, RectF rect, long key) {
+        final float left = (float) Math.floor(rect.left);
+        final float top = (float) Math.floor(rect.top);
+        final int width = (int) Math.ceil(rect.right) - (int) left;
+        final int height = (int) Math.ceil(rect.bottom) - (int) top;
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+        if (bitmap == null || bitmap.getWidth() != width || bitmap.getHeight() != height) {
+            bitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+            bitmapCanvas = new Canvas(bitmap);
+            renderedRect = null;
+        }
+        if (renderedRect == null || !renderedRect.equals(rect) || renderedKey != key) {
+            bitmap.eraseColor(Color.TRANSPARENT);
+            bitmapCanvas.save();
+            bitmapCanvas.translate(-left, -top);
+            renderer.render(bitmapCanvas);
+            bitmapCanvas.restore();
+            renderedRect = new RectF(rect);
+            renderedKey = key;
+        }
+        canvas.drawBitmap(bitmap, left, top, null);
+    }
+}
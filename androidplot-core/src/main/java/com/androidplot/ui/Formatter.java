@@ -18,6 +18,7 @@ package com.androidplot.ui;
 
 import android.content.Context;
 import com.androidplot.Plot;
+import com.androidplot.Versioned;
 import com.halfhp.fig.*;
 
 /**
@@ -37,9 +38,10 @@ import com.halfhp.fig.*;
  * }
  * </pre>
  */
-public abstract class Formatter<PlotType extends Plot> {
+public abstract class Formatter<PlotType extends Plot> implements Versioned {
 
     private boolean isLegendIconEnabled = true;
+    private volatile long version;
 
     public Formatter() {}
 
@@ -78,6 +80,21 @@ public abstract class Formatter<PlotType extends Plot> {
      */
     protected abstract SeriesRenderer doGetRendererInstance(PlotType plot);
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Invoked by this Formatter's setters to signal that series using it must be redrawn.
+     * Should also be invoked after changes Androidplot can't detect, such as modifying one of
+     * this Formatter's Paints.
+     * @since 1.5.12
+     */
+    public void markChanged() {
+        version++;
+    }
+
     public boolean isLegendIconEnabled() {
         return isLegendIconEnabled;
     }
@@ -88,5 +105,6 @@ public abstract class Formatter<PlotType extends Plot> {
      */
     public void setLegendIconEnabled(boolean legendIconEnabled) {
         this.isLegendIconEnabled = legendIconEnabled;
+        markChanged();
     }
 }
@@ -107,7 +107,8 @@ public class LayoutManager extends LinkedLayerList<Widget>
                 // not positive why this is, but the rect clipped by clipRect is 1 less than the one drawn by drawRect.
                 // so this is necessary to avoid clipping borders.  I suspect that its a floating point
                 // jitter issue.
-                if (widget.isClippingEnabled()) {
+                // cached widgets are already clipped to their bounds by the size of their cache.
+                if (widget.isClippingEnabled() && !widget.isCachingEnabled()) {
                     canvas.clipRect(dims.canvasRect, Region.Op.INTERSECT);
                 }
                 widget.draw(canvas);
@@ -74,6 +74,30 @@ public abstract class LegendWidget<ItemT extends LegendItem> extends Widget {
         }
     }
 
+    /**
+     * Includes the version of each legend item; see {@link #getItemVersion(LegendItem)}.
+     * @return
+     */
+    @Override
+    protected long getContentVersion() {
+        long version = super.getContentVersion();
+        for (ItemT item : getLegendItems()) {
+            version = 31 * version + getItemVersion(item);
+        }
+        return version;
+    }
+
+    /**
+     * @param item
+     * @return A value that changes whenever the appearance of item changes.  By default derived
+     * from the item's title; implementations should also include the item's icon.
+     * @since 1.5.12
+     */
+    protected long getItemVersion(@NonNull ItemT item) {
+        final String title = item.getTitle();
+        return title != null ? title.hashCode() : 0;
+    }
+
     protected void drawItem(@NonNull Canvas canvas,  @NonNull RectF iconRect, @NonNull ItemT item) {
         drawIcon(canvas, iconRect, item);
     }
@@ -144,6 +168,7 @@ public abstract class LegendWidget<ItemT extends LegendItem> extends Widget {
 
     public synchronized void setTableModel(TableModel tableModel) {
         this.tableModel = tableModel;
+        markChanged();
     }
 
     public Paint getTextPaint() {
@@ -152,6 +177,7 @@ public abstract class LegendWidget<ItemT extends LegendItem> extends Widget {
 
     public void setTextPaint(Paint textPaint) {
         this.textPaint = textPaint;
+        markChanged();
     }
 
     public boolean isDrawIconBackgroundEnabled() {
@@ -160,6 +186,7 @@ public abstract class LegendWidget<ItemT extends LegendItem> extends Widget {
 
     public void setDrawIconBackgroundEnabled(boolean drawIconBackgroundEnabled) {
         this.drawIconBackgroundEnabled = drawIconBackgroundEnabled;
+        markChanged();
     }
 
     public boolean isDrawIconBorderEnabled() {
@@ -168,6 +195,7 @@ public abstract class LegendWidget<ItemT extends LegendItem> extends Widget {
 
     public void setDrawIconBorderEnabled(boolean drawIconBorderEnabled) {
         this.drawIconBorderEnabled = drawIconBorderEnabled;
+        markChanged();
     }
 
     public Size getIconSize() {
@@ -176,6 +204,7 @@ public abstract class LegendWidget<ItemT extends LegendItem> extends Widget {
 
     public void setIconSize(Size iconSize) {
         this.iconSize = iconSize;
+        markChanged();
     }
 
     public Comparator<ItemT> getLegendItemComparator() {
@@ -190,5 +219,6 @@ public abstract class LegendWidget<ItemT extends LegendItem> extends Widget {
      */
     public void setLegendItemComparator(Comparator<ItemT> legendItemComparator) {
         this.legendItemComparator = legendItemComparator;
+        markChanged();
     }
 }
@@ -134,6 +134,7 @@ public class TextLabelWidget extends Widget {
         if(autoPackEnabled) {
             pack();
         }
+        markChanged();
     }
 
     public TextOrientation getOrientation() {
@@ -145,6 +146,7 @@ public class TextLabelWidget extends Widget {
         if(autoPackEnabled) {
             pack();
         }
+        markChanged();
     }
 
     public boolean isAutoPackEnabled() {
@@ -156,6 +158,7 @@ public class TextLabelWidget extends Widget {
         if(autoPackEnabled) {
             pack();
         }
+        markChanged();
     }
 
     public void setText(String text) {
@@ -163,6 +166,7 @@ public class TextLabelWidget extends Widget {
         if(autoPackEnabled) {
             pack();
         }
+        markChanged();
     }
 
     public String getText() {
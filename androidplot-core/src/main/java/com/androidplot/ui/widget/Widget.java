@@ -20,6 +20,7 @@ import android.graphics.*;
 import androidx.annotation.Nullable;
 import androidx.annotation.NonNull;
 
+import com.androidplot.Versioned;
 import com.androidplot.ui.*;
 import com.androidplot.util.DisplayDimensions;
 import com.androidplot.ui.HorizontalPositioning;
@@ -30,7 +31,7 @@ import com.androidplot.util.PixelUtils;
  * A Widget is a graphical sub-element of a Plot that can be positioned relative
  * to the bounds of the Plot.
  */
-public abstract class Widget implements BoxModelable, Resizable {
+public abstract class Widget implements BoxModelable, Resizable, Versioned {
 
     private Paint borderPaint;
     private Paint backgroundPaint;
@@ -45,6 +46,10 @@ public abstract class Widget implements BoxModelable, Resizable {
 
     private Rotation rotation = Rotation.NONE;
     private RectF lastWidgetRect = null;
+    private volatile long version;
+
+    // cached rendering of this widget; null unless caching is enabled:
+    private BitmapLayer cache;
 
     public enum Rotation {
         NINETY_DEGREES,
@@ -74,6 +79,7 @@ public abstract class Widget implements BoxModelable, Resizable {
 
     public void setAnchor(Anchor anchor) {
         getPositionMetrics().setAnchor(anchor);
+        markChanged();
     }
 
 
@@ -131,6 +137,7 @@ public abstract class Widget implements BoxModelable, Resizable {
 
     public void setSize(Size size) {
         this.size = size;
+        markChanged();
     }
 
     public Size getSize() {
@@ -140,18 +147,22 @@ public abstract class Widget implements BoxModelable, Resizable {
 
     public void setWidth(float width) {
         size.getWidth().setValue(width);
+        markChanged();
     }
 
     public void setWidth(float width, SizeMode layoutType) {
         size.getWidth().set(width, layoutType);
+        markChanged();
     }
 
     public void setHeight(float height) {
         size.getHeight().setValue(height);
+        markChanged();
     }
 
     public void setHeight(float height, SizeMode layoutType) {
         size.getHeight().set(height, layoutType);
+        markChanged();
     }
 
     public SizeMetric getWidthMetric() {
@@ -181,16 +192,19 @@ public abstract class Widget implements BoxModelable, Resizable {
     @Override
     public void setMarginRight(float marginRight) {
         boxModel.setMarginRight(marginRight);
+        markChanged();
     }
 
     @Override
     public void setMargins(float left, float top, float right, float bottom) {
         boxModel.setMargins(left, top, right, bottom);
+        markChanged();
     }
 
     @Override
     public void setPadding(float left, float top, float right, float bottom) {
         boxModel.setPadding(left, top, right, bottom);
+        markChanged();
     }
 
     @Override
@@ -201,6 +215,7 @@ public abstract class Widget implements BoxModelable, Resizable {
     @Override
     public void setMarginTop(float marginTop) {
         boxModel.setMarginTop(marginTop);
+        markChanged();
     }
 
     @Override
@@ -216,6 +231,7 @@ public abstract class Widget implements BoxModelable, Resizable {
     @Override
     public void setPaddingLeft(float paddingLeft) {
         boxModel.setPaddingLeft(paddingLeft);
+        markChanged();
     }
 
     @Override
@@ -226,6 +242,7 @@ public abstract class Widget implements BoxModelable, Resizable {
     @Override
     public void setPaddingTop(float paddingTop) {
         boxModel.setPaddingTop(paddingTop);
+        markChanged();
     }
 
     @Override
@@ -236,6 +253,7 @@ public abstract class Widget implements BoxModelable, Resizable {
     @Override
     public void setPaddingRight(float paddingRight) {
         boxModel.setPaddingRight(paddingRight);
+        markChanged();
     }
 
     @Override
@@ -246,12 +264,14 @@ public abstract class Widget implements BoxModelable, Resizable {
     @Override
     public void setPaddingBottom(float paddingBottom) {
         boxModel.setPaddingBottom(paddingBottom);
+        markChanged();
     }
 
     @Override
     @SuppressWarnings("SameParameterValue")
     public void setMarginBottom(float marginBottom) {
         boxModel.setMarginBottom(marginBottom);
+        markChanged();
     }
 
     @Override
@@ -262,6 +282,7 @@ public abstract class Widget implements BoxModelable, Resizable {
     @Override
     public void setMarginLeft(float marginLeft) {
         boxModel.setMarginLeft(marginLeft);
+        markChanged();
     }
 
     @Override
@@ -373,21 +394,40 @@ public abstract class Widget implements BoxModelable, Resizable {
 
     public void draw(Canvas canvas) {
         if (isVisible()) {
-            if (backgroundPaint != null) {
-                drawBackground(canvas, widgetDimensions.canvasRect);
-            }
-            canvas.save();
-            final RectF widgetRect = applyRotation(canvas, widgetDimensions.paddedRect);
-            checkSize(widgetRect);
-            doOnDraw(canvas, widgetRect);
-            canvas.restore();
-
-            if (borderPaint != null) {
-                drawBorder(canvas, widgetRect);
+            if (cache != null) {
+                drawCached(canvas);
+            } else {
+                drawWidget(canvas);
             }
         }
     }
 
+    /**
+     * Draws from the cached rendering of this widget, first re-rendering it if the widget's
+     * layout or {@link #getContentVersion()} has changed since it was rendered.
+     */
+    protected void drawCached(Canvas canvas) {
+        cache.draw(canvas, widgetDimensions.canvasRect, getContentVersion());
+    }
+
+    /**
+     * Draws the widget's background, content and border.
+     */
+    protected void drawWidget(Canvas canvas) {
+        if (backgroundPaint != null) {
+            drawBackground(canvas, widgetDimensions.canvasRect);
+        }
+        canvas.save();
+        final RectF widgetRect = applyRotation(canvas, widgetDimensions.paddedRect);
+        checkSize(widgetRect);
+        doOnDraw(canvas, widgetRect);
+        canvas.restore();
+
+        if (borderPaint != null) {
+            drawBorder(canvas, widgetRect);
+        }
+    }
+
     protected RectF applyRotation(Canvas canvas, RectF rect) {
         float rotationDegs = 0;
         final float cx = widgetDimensions.paddedRect.centerX();
@@ -440,12 +480,62 @@ public abstract class Widget implements BoxModelable, Resizable {
      */
     protected abstract void doOnDraw(Canvas canvas, RectF widgetRect);
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Invoked by this Widget's setters to signal that it must be redrawn.  Should also be invoked
+     * after changes Androidplot can't detect, such as modifying one of this Widget's Paints.
+     * @since 1.5.12
+     */
+    public void markChanged() {
+        version++;
+    }
+
+    /**
+     * When caching is enabled, this widget's cached rendering is discarded whenever the value
+     * returned by this method changes.  Widgets whose content depends on state other than their
+     * own properties, such as the series listed by a legend, should mix that state in.
+     * @return By default, {@link #getVersion()}.
+     * @since 1.5.12
+     */
+    protected long getContentVersion() {
+        return getVersion();
+    }
+
+    public boolean isCachingEnabled() {
+        return cache != null;
+    }
+
+    /**
+     * When enabled, this widget is rendered once into a cached Bitmap which is then drawn in place
+     * of re-rendering the widget, until its layout or {@link #getContentVersion()} changes.
+     * Intended for static widgets such as titles and legends whose content rarely changes,
+     * especially on plots that are redrawn at a high frequency.  Changes Androidplot can't
+     * detect, such as modifying one of this widget's Paints, must be followed by
+     * {@link #markChanged()}.  Anything drawn outside of the widget's bounds is clipped.
+     * Not supported by widgets that draw series, such as
+     * {@link com.androidplot.xy.XYGraphWidget}.  Disabled by default.
+     * @param cachingEnabled
+     * @since 1.5.12
+     */
+    public void setCachingEnabled(boolean cachingEnabled) {
+        if (!cachingEnabled) {
+            cache = null;
+        } else if (cache == null) {
+            cache = new BitmapLayer(canvas -> drawWidget(canvas));
+        }
+    }
+
     public Paint getBorderPaint() {
         return borderPaint;
     }
 
     public void setBorderPaint(Paint borderPaint) {
         this.borderPaint = borderPaint;
+        markChanged();
     }
 
     public Paint getBackgroundPaint() {
@@ -454,6 +544,7 @@ public abstract class Widget implements BoxModelable, Resizable {
 
     public void setBackgroundPaint(Paint backgroundPaint) {
         this.backgroundPaint = backgroundPaint;
+        markChanged();
     }
 
     public boolean isClippingEnabled() {
@@ -462,6 +553,7 @@ public abstract class Widget implements BoxModelable, Resizable {
 
     public void setClippingEnabled(boolean clippingEnabled) {
         this.clippingEnabled = clippingEnabled;
+        markChanged();
     }
 
     public boolean isVisible() {
@@ -470,6 +562,7 @@ public abstract class Widget implements BoxModelable, Resizable {
 
     public void setVisible(boolean visible) {
         isVisible = visible;
+        markChanged();
     }
 
     public PositionMetrics getPositionMetrics() {
@@ -478,6 +571,7 @@ public abstract class Widget implements BoxModelable, Resizable {
 
     public void setPositionMetrics(PositionMetrics positionMetrics) {
         this.positionMetrics = positionMetrics;
+        markChanged();
     }
 
     public Rotation getRotation() {
@@ -486,5 +580,6 @@ public abstract class Widget implements BoxModelable, Resizable {
 
     public void setRotation(Rotation rotation) {
         this.rotation = rotation;
+        markChanged();
     }
 }
@@ -0,0 +1,177 @@
+package com.androidplot.util;
+
+import java.util.AbstractList;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+/**
+ * A {@link java.util.List} backed by a growable circular array.  Supports O(1) random access as well
+ * as amortized O(1) insertion and removal at either end, making it a drop in replacement for
+ * {@link java.util.LinkedList} in cases where elements are frequently accessed by index.
+ * @param <E>
+ * @since 1.5.12
+ */
+public class ArrayDequeList<E> extends AbstractList<E> implements RandomAccess {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private Object[] elements;
+
+    // index of the first element within elements:
+    private int head;
+    private int size;
+
+    public ArrayDequeList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ArrayDequeList(int initialCapacity) {
+        elements = new Object[Math.max(1, initialCapacity)];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E get(int index) {
+        return (E) elements[toArrayIndex(index)];
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E set(int index, E element) {
+        final int i = toArrayIndex(index);
+        final E previous = (E) elements[i];
+        elements[i] = element;
+        return previous;
+    }
+
+    @Override
+    public boolean add(E element) {
+        addLast(element);
+        return true;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        if (index == 0) {
+            addFirst(element);
+        } else if (index == size) {
+            addLast(element);
+        } else {
+            ensureCapacity(size + 1);
+            for (int i = size; i > index; i--) {
+                elements[wrap(head + i)] = elements[wrap(head + i - 1)];
+            }
+            elements[wrap(head + index)] = element;
+            size++;
+            modCount++;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E remove(int index) {
+        final int i = toArrayIndex(index);
+        if (index == 0) {
+            return removeFirst();
+        } else if (index == size - 1) {
+            return removeLast();
+        }
+        final E removed = (E) elements[i];
+        for (int j = index; j < size - 1; j++) {
+            elements[wrap(head + j)] = elements[wrap(head + j + 1)];
+        }
+        elements[wrap(head + size - 1)] = null;
+        size--;
+        modCount++;
+        return removed;
+    }
+
+    public void addFirst(E element) {
+        ensureCapacity(size + 1);
+        head = wrap(head - 1 + elements.length);
+        elements[head] = element;
+        size++;
+        modCount++;
+    }
+
+    public void addLast(E element) {
+        ensureCapacity(size + 1);
+        elements[wrap(head + size)] = element;
+        size++;
+        modCount++;
+    }
+
+    @SuppressWarnings("unchecked")
+    public E removeFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        final E removed = (E) elements[head];
+        elements[head] = null;
+        head = wrap(head + 1);
+        size--;
+        modCount++;
+        return removed;
+    }
+
+    @SuppressWarnings("unchecked")
+    public E removeLast() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        final int i = wrap(head + size - 1);
+        final E removed = (E) elements[i];
+        elements[i] = null;
+        size--;
+        modCount++;
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            elements[wrap(head + i)] = null;
+        }
+        head = 0;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Grows the backing array if necessary to hold at least minCapacity elements.
+     * @param minCapacity
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > elements.length) {
+            int newCapacity = elements.length * 2;
+            if (newCapacity < minCapacity) {
+                newCapacity = minCapacity;
+            }
+            final Object[] newElements = new Object[newCapacity];
+            final int firstLen = Math.min(size, elements.length - head);
+            System.arraycopy(elements, head, newElements, 0, firstLen);
+            System.arraycopy(elements, 0, newElements, firstLen, size - firstLen);
+            elements = newElements;
+            head = 0;
+        }
+    }
+
+    private int toArrayIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return wrap(head + index);
+    }
+
+    private int wrap(int i) {
+        return i >= elements.length ? i - elements.length : i;
+    }
+}
@@ -0,0 +1,133 @@
+package com.androidplot.util;
+
+import java.util.Arrays;
+
+/**
+ * A segment tree answering min/max queries over any contiguous range of leaves in O(log n) time.
+ * Each leaf holds its own min and max value, allowing a leaf to represent either a single value
+ * or a pre-aggregated block of values.  Leaves may be updated in O(log n) time.
+ *
+ * {@link Double#NaN} is treated as null and never becomes the min or max of a range.
+ * @since 1.5.12
+ */
+public class MinMaxSegmentTree {
+
+    private final int size;
+
+    // implicit binary tree; node i has children 2i and 2i+1 and leaf j is stored at size+j:
+    private final double[] mins;
+    private final double[] maxs;
+
+    /**
+     * Creates a tree whose leaves each hold a single value.
+     * @param values Use {@link Double#NaN} to represent null.
+     */
+    public MinMaxSegmentTree(double[] values) {
+        this(values, values);
+    }
+
+    /**
+     *
+     * @param leafMins The min value of each leaf.
+     * @param leafMaxs The max value of each leaf; must be the same length as leafMins.
+     */
+    public MinMaxSegmentTree(double[] leafMins, double[] leafMaxs) {
+        if(leafMins.length != leafMaxs.length) {
+            throw new IllegalArgumentException("leafMins and leafMaxs must be of the same length.");
+        }
+        size = leafMins.length;
+        mins = new double[Math.max(2, size * 2)];
+        maxs = new double[mins.length];
+        Arrays.fill(mins, Double.NaN);
+        Arrays.fill(maxs, Double.NaN);
+        System.arraycopy(leafMins, 0, mins, size, size);
+        System.arraycopy(leafMaxs, 0, maxs, size, size);
+        for(int i = size - 1; i > 0; i--) {
+            mins[i] = min(mins[2 * i], mins[2 * i + 1]);
+            maxs[i] = max(maxs[2 * i], maxs[2 * i + 1]);
+        }
+    }
+
+    /**
+     * @return The number of leaves in this tree.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Replace the values of a single leaf.
+     * @param index
+     * @param min
+     * @param max
+     */
+    public void update(int index, double min, double max) {
+        checkRange(index, index + 1);
+        int i = index + size;
+        mins[i] = min;
+        maxs[i] = max;
+        for(i /= 2; i > 0; i /= 2) {
+            mins[i] = min(mins[2 * i], mins[2 * i + 1]);
+            maxs[i] = max(maxs[2 * i], maxs[2 * i + 1]);
+        }
+    }
+
+    /**
+     * @param fromIndex First leaf, inclusive.
+     * @param toIndex Last leaf, exclusive.
+     * @return The smallest value in the range or {@link Double#NaN} if the range holds no values.
+     */
+    public double getMin(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+        double result = Double.NaN;
+        for(int lo = fromIndex + size, hi = toIndex + size; lo < hi; lo /= 2, hi /= 2) {
+            if((lo & 1) == 1) {
+                result = min(result, mins[lo++]);
+            }
+            if((hi & 1) == 1) {
+                result = min(result, mins[--hi]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @param fromIndex First leaf, inclusive.
+     * @param toIndex Last leaf, exclusive.
+     * @return The largest value in the range or {@link Double#NaN} if the range holds no values.
+     */
+    public double getMax(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+        double result = Double.NaN;
+        for(int lo = fromIndex + size, hi = toIndex + size; lo < hi; lo /= 2, hi /= 2) {
+            if((lo & 1) == 1) {
+                result = max(result, maxs[lo++]);
+            }
+            if((hi & 1) == 1) {
+                result = max(result, maxs[--hi]);
+            }
+        }
+        return result;
+    }
+
+    private void checkRange(int fromIndex, int toIndex) {
+        if(fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException(
+                    "fromIndex: " + fromIndex + ", toIndex: " + toIndex + ", Size: " + size);
+        }
+    }
+
+    /**
+     * NaN aware equivalent of {@link Math#min(double, double)}.
+     */
+    static double min(double a, double b) {
+        return Double.isNaN(a) || b < a ? b : a;
+    }
+
+    /**
+     * NaN aware equivalent of {@link Math#max(double, double)}.
+     */
+    static double max(double a, double b) {
+        return Double.isNaN(a) || b > a ? b : a;
+    }
+}
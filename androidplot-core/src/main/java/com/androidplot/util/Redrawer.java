@@ -16,9 +16,11 @@
 
 package com.androidplot.util;
 
+import android.graphics.Canvas;
 import android.util.Log;
 
 import com.androidplot.Plot;
+import com.androidplot.PlotListener;
 
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
@@ -28,15 +30,41 @@ import java.util.List;
 /**
  * Utility class for invoking Plot.redraw() on a background thread
  * at a set frequency.
+ *
+ * Frames are scheduled against absolute deadlines so that the time taken to issue each redraw
+ * does not accumulate as drift.  Since rendering itself is asynchronous, Redrawer listens to each
+ * plot to measure how long rendering takes: a plot that has not finished rendering the previous
+ * frame is skipped rather than having another redraw queued behind it, and when the redrawer
+ * falls behind, missed deadlines are skipped rather than issued in a burst.  Either case counts as
+ * a missed frame; see {@link #getMissedFrames()}.
+ *
+ * When adaptive mode is enabled (see {@link #setAdaptive(boolean)}), the refresh rate is lowered
+ * whenever frames are missed or rendering exceeds the frame budget, and raised back towards the
+ * max refresh rate once there is headroom again.
  */
 public class Redrawer implements Runnable {
 
     private static final int ONE_SECOND_MS = 1000;
+    private static final long ONE_SECOND_NS = 1000000000L;
+
+    // a plot that has not finished rendering within this time is assumed not to be drawing at
+    // all (e.g. because it is detached) and is redrawn regardless:
+    private static final long STALE_RENDER_NS = ONE_SECOND_NS;
+
+    // adaptive mode lowers the rate when rendering takes more than this fraction of the frame
+    // budget and raises it when rendering takes less than RAISE_THRESHOLD:
+    static final float LOWER_THRESHOLD = 0.9f;
+    static final float RAISE_THRESHOLD = 0.5f;
+    static final float RATE_STEP = 1.25f;
 
     private static final String TAG = Redrawer.class.getName();
 
-    private List<WeakReference<Plot>> plots;
-    private long sleepTime;
+    private final List<PlotState> plots;
+
+    private volatile float maxRefreshRate;
+    private volatile float minRefreshRate = 1;
+    private volatile float refreshRate;
+    private volatile boolean adaptive;
 
     // used to temporarily pause rendering without disposing of the run thread
     private boolean keepRunning;
@@ -46,6 +74,50 @@ public class Redrawer implements Runnable {
 
     private Thread thread;
 
+    // statistics; guarded by stats:
+    private final Object stats = new Object();
+    private long missedFrames;
+    private float achievedRate;
+    private long averageRenderNs;
+    private long windowStart;
+    private int windowRenders;
+    private long windowMissedFrames;
+    private long windowMaxRenderNs;
+
+    /**
+     * Redraw state of a single plot.
+     */
+    private static class PlotState {
+        final WeakReference<Plot> plot;
+
+        // time at which the current redraw was requested or 0 if the plot is idle:
+        volatile long requestedAt;
+        volatile long renderStart;
+
+        PlotState(Plot plot) {
+            this.plot = new WeakReference<>(plot);
+        }
+    }
+
+    private final PlotListener renderListener = new PlotListener() {
+        @Override
+        public void onBeforeDraw(Plot source, Canvas canvas) {
+            final PlotState state = getState(source);
+            if(state != null) {
+                state.renderStart = System.nanoTime();
+            }
+        }
+
+        @Override
+        public void onAfterDraw(Plot source, Canvas canvas) {
+            final PlotState state = getState(source);
+            if(state != null) {
+                onRendered(System.nanoTime() - state.renderStart);
+                state.requestedAt = 0;
+            }
+        }
+    };
+
     /**
      *
      * @param plots List of Plot instances to be redrawn
@@ -55,9 +127,12 @@ public class Redrawer implements Runnable {
     public Redrawer(List<Plot> plots, float maxRefreshRate, boolean startImmediately) {
         this.plots = new ArrayList<>(plots.size());
         for(Plot plot : plots) {
-            this.plots.add(new WeakReference<>(plot));
+            this.plots.add(new PlotState(plot));
+            plot.addListener(renderListener);
         }
         setMaxRefreshRate(maxRefreshRate);
+        // set before starting the thread so that an immediate finish() isn't overwritten:
+        keepAlive = true;
         thread = new Thread(this, "Androidplot Redrawer");
         thread.start();
         if(startImmediately) {
@@ -69,6 +144,15 @@ public class Redrawer implements Runnable {
         this(Collections.singletonList(plot), maxRefreshRate, startImmediately);
     }
 
+    private PlotState getState(Plot plot) {
+        for(PlotState state : plots) {
+            if(state.plot.get() == plot) {
+                return state;
+            }
+        }
+        return null;
+    }
+
     /**
      * Temporarily stop redrawing the plot.
      */
@@ -96,32 +180,50 @@ public class Redrawer implements Runnable {
         keepRunning = false;
         keepAlive = false;
         notify();
+        for(PlotState state : plots) {
+            final Plot plot = state.plot.get();
+            if(plot != null) {
+                plot.removeListener(renderListener);
+            }
+        }
     }
 
     @Override
     public void run() {
-        keepAlive = true;
         try {
-        while(keepAlive) {
-            if(keepRunning) {
-                // redraw plot(s) and sleep in an interruptible state for a
-                // max of sleepTime ms.
-                // TODO: record start and end timestamps and
-                // TODO: calculate sleepTime from that, in order to more accurately
-                // TODO: meet desired refresh rate.
-                for(WeakReference<Plot> plotRef : plots) {
-                    plotRef.get().redraw();
-                }
-                synchronized (this) {
-                    wait(sleepTime);
-                }
-            } else {
-                // sleep until notified
-                synchronized (this) {
-                    wait();
+            long deadline = 0;
+            while(keepAlive) {
+                if(keepRunning) {
+                    long now = System.nanoTime();
+                    if(deadline == 0) {
+                        deadline = now;
+                    }
+                    if(now < deadline) {
+                        // sleep in an interruptible state until the next deadline:
+                        final long remaining = deadline - now;
+                        synchronized (this) {
+                            if(keepRunning) {
+                                wait(remaining / 1000000, (int) (remaining % 1000000));
+                            }
+                        }
+                        continue;
+                    }
+                    redrawPlots(now);
+
+                    final long period = (long) (ONE_SECOND_NS / refreshRate);
+                    now = System.nanoTime();
+                    deadline = nextDeadline(deadline + period, period, now);
+                    updateStatistics(now);
+                } else {
+                    deadline = 0;
+                    // sleep until notified
+                    synchronized (this) {
+                        while(!keepRunning && keepAlive) {
+                            wait();
+                        }
+                    }
                 }
             }
-        }
         } catch (InterruptedException ignored) {
 
         } finally {
@@ -129,14 +231,204 @@ public class Redrawer implements Runnable {
         }
     }
 
+    /**
+     * If the redrawer has fallen behind, skips the deadlines that have already passed rather than
+     * bursting to catch up, counting each as a missed frame.
+     * @param deadline The next scheduled deadline.
+     * @param period
+     * @param now
+     * @return The first deadline after now.
+     */
+    long nextDeadline(long deadline, long period, long now) {
+        if(deadline <= now) {
+            final long behind = (now - deadline) / period + 1;
+            deadline += behind * period;
+            synchronized (stats) {
+                missedFrames += behind;
+                windowMissedFrames += behind;
+            }
+        }
+        return deadline;
+    }
+
+    /**
+     * Redraws each plot that is not still rendering the previous frame.  Plots with dirty tracking
+     * enabled are skipped if nothing has changed; see {@link Plot#redrawIfDirty()}.
+     */
+    void redrawPlots(long now) {
+        boolean missed = false;
+        for(PlotState state : plots) {
+            final Plot plot = state.plot.get();
+            if(plot == null) {
+                continue;
+            }
+            final long requestedAt = state.requestedAt;
+            if(requestedAt != 0 && now - requestedAt < STALE_RENDER_NS) {
+                missed = true;
+                continue;
+            }
+
+            // marked before requesting so that the requested render's onAfterDraw clears it:
+            state.requestedAt = now;
+            if(!plot.redrawIfDirty()) {
+                // nothing changed, so no render will follow:
+                state.requestedAt = 0;
+            }
+        }
+        if(missed) {
+            synchronized (stats) {
+                missedFrames++;
+                windowMissedFrames++;
+            }
+        }
+    }
+
+    private void onRendered(long renderNs) {
+        synchronized (stats) {
+            windowRenders++;
+            // exponential moving average, weighting the most recent render by 1/8:
+            averageRenderNs = averageRenderNs == 0 ? renderNs : averageRenderNs + (renderNs - averageRenderNs) / 8;
+            windowMaxRenderNs = Math.max(windowMaxRenderNs, renderNs);
+        }
+    }
+
+    /**
+     * Once per second, recalculates the achieved rate and, in adaptive mode, adjusts the
+     * refresh rate.
+     */
+    void updateStatistics(long now) {
+        synchronized (stats) {
+            if(windowStart == 0) {
+                windowStart = now;
+                return;
+            }
+            final long elapsed = now - windowStart;
+            if(elapsed < ONE_SECOND_NS) {
+                return;
+            }
+            achievedRate = windowRenders * (float) ONE_SECOND_NS / elapsed / Math.max(1, plots.size());
+            if(adaptive) {
+                refreshRate = adjustRate(refreshRate, minRefreshRate, maxRefreshRate,
+                        windowMaxRenderNs, windowMissedFrames);
+            }
+            windowStart = now;
+            windowRenders = 0;
+            windowMissedFrames = 0;
+            windowMaxRenderNs = 0;
+        }
+    }
+
+    /**
+     * @param rate The current refresh rate.
+     * @param minRate
+     * @param maxRate
+     * @param renderNs The longest render time observed since the last adjustment.
+     * @param missedFrames The number of frames missed since the last adjustment.
+     * @return The adjusted refresh rate.
+     */
+    static float adjustRate(float rate, float minRate, float maxRate, long renderNs, long missedFrames) {
+        final double budgetNs = ONE_SECOND_NS / rate;
+        if(missedFrames > 0 || renderNs > budgetNs * LOWER_THRESHOLD) {
+            rate /= RATE_STEP;
+        } else if(renderNs < budgetNs * RAISE_THRESHOLD) {
+            rate *= RATE_STEP;
+        }
+        return Math.max(minRate, Math.min(maxRate, rate));
+    }
+
     /**
      * Set the maximum refresh rate that Redrawer should use.  Actual
      * refresh rate could be slower.
      * @param refreshRate Refresh rate in Hz.
      */
     public void setMaxRefreshRate(float refreshRate) {
-        sleepTime = (long)(ONE_SECOND_MS / refreshRate);
+        if(refreshRate <= 0) {
+            throw new IllegalArgumentException("Refresh rate must be greater than 0.");
+        }
+        this.maxRefreshRate = refreshRate;
+        this.refreshRate = refreshRate;
         Log.d(TAG, "Set Redrawer refresh rate to " +
-                refreshRate + "( " + sleepTime + " ms)");
+                refreshRate + "( " + (ONE_SECOND_MS / refreshRate) + " ms)");
+    }
+
+    public float getMaxRefreshRate() {
+        return maxRefreshRate;
+    }
+
+    /**
+     * @return The rate currently targeted; below the max refresh rate when adaptive mode has
+     * lowered it.
+     * @since 1.5.12
+     */
+    public float getRefreshRate() {
+        return refreshRate;
+    }
+
+    public float getMinRefreshRate() {
+        return minRefreshRate;
+    }
+
+    /**
+     * @param minRefreshRate The lowest rate to which adaptive mode may lower the refresh rate.
+     *                       Default is 1Hz.
+     * @since 1.5.12
+     */
+    public void setMinRefreshRate(float minRefreshRate) {
+        if(minRefreshRate <= 0) {
+            throw new IllegalArgumentException("Refresh rate must be greater than 0.");
+        }
+        this.minRefreshRate = minRefreshRate;
+    }
+
+    public boolean isAdaptive() {
+        return adaptive;
+    }
+
+    /**
+     * When enabled, the refresh rate is lowered (down to the min refresh rate) when frames are
+     * missed or rendering takes more than 90% of the frame budget, and raised (up to the max
+     * refresh rate) when rendering takes less than half of it.  Adjustments are made at most once
+     * per second.  When disabled, the max refresh rate is restored.  Disabled by default.
+     * @param adaptive
+     * @since 1.5.12
+     */
+    public void setAdaptive(boolean adaptive) {
+        this.adaptive = adaptive;
+        if(!adaptive) {
+            refreshRate = maxRefreshRate;
+        }
+    }
+
+    /**
+     * @return The number of frames per second that finished rendering, averaged across plots and
+     * measured over the most recent second.  Includes renders not requested by this redrawer;
+     * excludes redraws skipped by dirty tracking.
+     * @since 1.5.12
+     */
+    public float getAchievedRate() {
+        synchronized (stats) {
+            return achievedRate;
+        }
+    }
+
+    /**
+     * @return The number of frames skipped because a plot was still rendering the previous frame
+     * or because the redrawer fell behind schedule.
+     * @since 1.5.12
+     */
+    public long getMissedFrames() {
+        synchronized (stats) {
+            return missedFrames;
+        }
+    }
+
+    /**
+     * @return A moving average of the time taken to render a plot, in milliseconds.
+     * @since 1.5.12
+     */
+    public float getAverageRenderTime() {
+        synchronized (stats) {
+            return averageRenderNs / 1000000f;
+        }
     }
 }
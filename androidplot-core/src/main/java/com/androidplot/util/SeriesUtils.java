@@ -17,8 +17,12 @@
 package com.androidplot.util;
 
 import com.androidplot.Region;
+import com.androidplot.xy.EditableXYSeries;
 import com.androidplot.xy.FastXYSeries;
+import com.androidplot.xy.FixedSizeEditableXYSeries;
 import com.androidplot.xy.OrderedXYSeries;
+import com.androidplot.xy.PrimitiveXYSeries;
+import com.androidplot.xy.RangeIndexedXYSeries;
 import com.androidplot.xy.RectRegion;
 import com.androidplot.xy.XYConstraints;
 import com.androidplot.xy.XYSeries;
@@ -41,6 +45,10 @@ public class SeriesUtils {
     public static Region minMaxX(XYSeries... seriesList) {
         final Region bounds = new Region();
         for (XYSeries series : seriesList) {
+            if(series instanceof PrimitiveXYSeries) {
+                unionPrimitive(bounds, (PrimitiveXYSeries) series, true);
+                continue;
+            }
             for (int i = 0; i < series.size(); i++) {
                 bounds.union(series.getX(i));
             }
@@ -51,6 +59,10 @@ public class SeriesUtils {
     public static Region minMaxY(XYSeries... seriesList) {
         final Region bounds = new Region();
         for (XYSeries series : seriesList) {
+            if(series instanceof PrimitiveXYSeries) {
+                unionPrimitive(bounds, (PrimitiveXYSeries) series, false);
+                continue;
+            }
             for (int i = 0; i < series.size(); i++) {
                 bounds.union(series.getY(i));
             }
@@ -96,6 +108,16 @@ public class SeriesUtils {
                         continue;
                     }
                 }
+
+                if (isRangeIndexable(constraints, series)) {
+                    unionIndexed(bounds, constraints, (RangeIndexedXYSeries) series);
+                    continue;
+                }
+
+                if (series instanceof PrimitiveXYSeries) {
+                    unionPrimitive(bounds, constraints, (PrimitiveXYSeries) series);
+                    continue;
+                }
                 for (int i = 0; i < series.size(); i++) {
                     final Number xi = series.getX(i);
                     final Number yi = series.getY(i);
@@ -110,6 +132,300 @@ public class SeriesUtils {
         return bounds;
     }
 
+    /**
+     * Binary searches a series whose non-null x-values are in ascending order.
+     * @param series
+     * @param x
+     * @param isInclusive True to find the first index whose x-value is greater than x, false
+     *                    to find the first index whose x-value is greater than or equal to x.
+     * @return The index found or the size of the series if there is none.  May be preceded by
+     * points with null x-values.
+     * @since 1.5.12
+     */
+    public static int searchX(XYSeries series, double x, boolean isInclusive) {
+        int low = 0;
+        int high = series.size();
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+
+            // probe the first non-null x-value at or after mid:
+            int probe = mid;
+            double probeX = getXDouble(series, probe);
+            while (Double.isNaN(probeX) && ++probe < high) {
+                probeX = getXDouble(series, probe);
+            }
+            if (probe < high && (probeX < x || (isInclusive && probeX == x))) {
+                low = probe + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Boxing-free equivalent of iterating over series and invoking {@link Region#union(Number)}
+     * on each x or y value.
+     * @param bounds
+     * @param series
+     * @param useX True to use x-values, false to use y-values.
+     */
+    private static void unionPrimitive(Region bounds, PrimitiveXYSeries series, boolean useX) {
+        double min = Double.NaN;
+        double max = Double.NaN;
+        final int size = series.size();
+        for (int i = 0; i < size; i++) {
+            final double v = useX ? series.getXDouble(i) : series.getYDouble(i);
+            if (!Double.isNaN(v)) {
+                if (Double.isNaN(min) || v < min) {
+                    min = v;
+                }
+                if (Double.isNaN(max) || v > max) {
+                    max = v;
+                }
+            }
+        }
+        if (!Double.isNaN(min)) {
+            bounds.union(min);
+            bounds.union(max);
+        }
+    }
+
+    /**
+     * @param constraints May be null.
+     * @param series
+     * @return True if the y-extent of series within constraints can be calculated via
+     * {@link #unionIndexed(RectRegion, XYConstraints, RangeIndexedXYSeries)}; requires an
+     * ascending {@link RangeIndexedXYSeries} and constraints limiting only the x-axis.
+     */
+    private static boolean isRangeIndexable(XYConstraints constraints, XYSeries series) {
+        return constraints != null
+                && series instanceof RangeIndexedXYSeries
+                && ((RangeIndexedXYSeries) series).getXOrder() == OrderedXYSeries.XOrder.ASCENDING
+                && constraints.getMinY() == null && constraints.getMaxY() == null
+                && (constraints.getMinX() != null || constraints.getMaxX() != null);
+    }
+
+    /**
+     * Equivalent to invoking {@link RectRegion#union(Number, Number)} on each xy pair that
+     * satisfies constraints, but in O(log n) time: the visible index range is located by binary
+     * search over the ascending x-values and its y-extent is then queried from the series' index.
+     * Runs of null values encountered by the search or at the edges of the range are scanned
+     * linearly.
+     * @param bounds
+     * @param constraints
+     * @param series
+     */
+    private static void unionIndexed(RectRegion bounds, XYConstraints constraints, RangeIndexedXYSeries series) {
+        final int size = series.size();
+        if (size == 0) {
+            return;
+        }
+        int from = constraints.getMinX() != null ?
+                searchX(series, constraints.getMinX().doubleValue(), false) : 0;
+        int to = constraints.getMaxX() != null ?
+                searchX(series, constraints.getMaxX().doubleValue(), true) - 1 : size - 1;
+
+        // the range found may begin or end with points containing nulls; trim them off:
+        while (from <= to && !constraints.contains(getXDouble(series, from), getYDouble(series, from))) {
+            from++;
+        }
+        while (to >= from && !constraints.contains(getXDouble(series, to), getYDouble(series, to))) {
+            to--;
+        }
+        if (from > to) {
+            return;
+        }
+
+        bounds.getxRegion().union(getXDouble(series, from));
+        bounds.getxRegion().union(getXDouble(series, to));
+        final Region y = series.minMaxY(from, to + 1);
+        if (y != null) {
+            bounds.getyRegion().union(y);
+        }
+    }
+
+    /**
+     * Boxing-free equivalent of iterating over series and invoking
+     * {@link RectRegion#union(Number, Number)} on each xy pair that satisfies constraints.
+     * @param bounds
+     * @param constraints May be null.
+     * @param series
+     */
+    private static void unionPrimitive(RectRegion bounds, XYConstraints constraints, PrimitiveXYSeries series) {
+        double minX = Double.NaN;
+        double maxX = Double.NaN;
+        double minY = Double.NaN;
+        double maxY = Double.NaN;
+        final int size = series.size();
+        for (int i = 0; i < size; i++) {
+            final double x = series.getXDouble(i);
+            final double y = series.getYDouble(i);
+
+            // if constraints have been set, make sure this xy coordinate exists within them:
+            if (constraints != null && !constraints.contains(x, y)) {
+                continue;
+            }
+
+            if (!Double.isNaN(x)) {
+                if (Double.isNaN(minX) || x < minX) {
+                    minX = x;
+                }
+                if (Double.isNaN(maxX) || x > maxX) {
+                    maxX = x;
+                }
+            }
+
+            if (!Double.isNaN(y)) {
+                if (Double.isNaN(minY) || y < minY) {
+                    minY = y;
+                }
+                if (Double.isNaN(maxY) || y > maxY) {
+                    maxY = y;
+                }
+            }
+        }
+        if (!Double.isNaN(minX)) {
+            bounds.getxRegion().union(minX);
+            bounds.getxRegion().union(maxX);
+        }
+        if (!Double.isNaN(minY)) {
+            bounds.getyRegion().union(minY);
+            bounds.getyRegion().union(maxY);
+        }
+    }
+
+    /**
+     * @param series
+     * @param index
+     * @return The x-value at index as a primitive or {@link Double#NaN} if the value is null.
+     * @since 1.5.12
+     */
+    public static double getXDouble(XYSeries series, int index) {
+        if (series instanceof PrimitiveXYSeries) {
+            return ((PrimitiveXYSeries) series).getXDouble(index);
+        }
+        final Number x = series.getX(index);
+        return x != null ? x.doubleValue() : Double.NaN;
+    }
+
+    /**
+     * @param series
+     * @param index
+     * @return The y-value at index as a primitive or {@link Double#NaN} if the value is null.
+     * @since 1.5.12
+     */
+    public static double getYDouble(XYSeries series, int index) {
+        if (series instanceof PrimitiveXYSeries) {
+            return ((PrimitiveXYSeries) series).getYDouble(index);
+        }
+        final Number y = series.getY(index);
+        return y != null ? y.doubleValue() : Double.NaN;
+    }
+
+    /**
+     * Sets the xy pair at index, avoiding boxing when series is a
+     * {@link FixedSizeEditableXYSeries}.
+     * @param series
+     * @param x Use {@link Double#NaN} to represent null.
+     * @param y Use {@link Double#NaN} to represent null.
+     * @param index
+     * @since 1.5.12
+     */
+    public static void setXY(EditableXYSeries series, double x, double y, int index) {
+        if (series instanceof FixedSizeEditableXYSeries) {
+            ((FixedSizeEditableXYSeries) series).setX(x, index);
+            ((FixedSizeEditableXYSeries) series).setY(y, index);
+        } else {
+            series.setX(Double.isNaN(x) ? null : x, index);
+            series.setY(Double.isNaN(y) ? null : y, index);
+        }
+    }
+
+    /**
+     * Copy a range of x-values from any {@link XYSeries} into dst, using
+     * {@link PrimitiveXYSeries#copyX(int, int, double[])} when available.  Null values are
+     * copied as {@link Double#NaN}.
+     * @param series
+     * @param fromIndex First index to copy, inclusive.
+     * @param toIndex Last index to copy, exclusive.
+     * @param dst
+     * @since 1.5.12
+     */
+    public static void copyX(XYSeries series, int fromIndex, int toIndex, double[] dst) {
+        if (series instanceof PrimitiveXYSeries) {
+            ((PrimitiveXYSeries) series).copyX(fromIndex, toIndex, dst);
+        } else {
+            for (int i = fromIndex, j = 0; i < toIndex; i++, j++) {
+                final Number x = series.getX(i);
+                dst[j] = x != null ? x.doubleValue() : Double.NaN;
+            }
+        }
+    }
+
+    /**
+     * Copy a range of y-values from any {@link XYSeries} into dst, using
+     * {@link PrimitiveXYSeries#copyY(int, int, double[])} when available.  Null values are
+     * copied as {@link Double#NaN}.
+     * @param series
+     * @param fromIndex First index to copy, inclusive.
+     * @param toIndex Last index to copy, exclusive.
+     * @param dst
+     * @since 1.5.12
+     */
+    public static void copyY(XYSeries series, int fromIndex, int toIndex, double[] dst) {
+        if (series instanceof PrimitiveXYSeries) {
+            ((PrimitiveXYSeries) series).copyY(fromIndex, toIndex, dst);
+        } else {
+            for (int i = fromIndex, j = 0; i < toIndex; i++, j++) {
+                final Number y = series.getY(i);
+                dst[j] = y != null ? y.doubleValue() : Double.NaN;
+            }
+        }
+    }
+
+    /**
+     * Computes a 64-bit hash of the size and x/y values of series, suitable for detecting
+     * whether the contents of a series have changed.  Values are read in bulk, without boxing
+     * when series is a {@link PrimitiveXYSeries}.  Null values hash as {@link Double#NaN}.
+     * @param series
+     * @return The hash.
+     * @since 1.5.12
+     */
+    public static long contentHash(XYSeries series) {
+        final int size = series.size();
+        final double[] buffer = new double[Math.min(size, HASH_BUFFER_SIZE)];
+        long hash = FNV_OFFSET_BASIS ^ size;
+        for (int from = 0; from < size; from += buffer.length) {
+            final int to = Math.min(size, from + buffer.length);
+            copyX(series, from, to, buffer);
+            hash = hash(hash, buffer, to - from);
+            copyY(series, from, to, buffer);
+            hash = hash(hash, buffer, to - from);
+        }
+
+        // spread the bits of the final word so that small differences affect the whole hash:
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private static final int HASH_BUFFER_SIZE = 4096;
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    /**
+     * FNV-1a, applied to each value's 64 bits at a time rather than byte by byte.
+     */
+    private static long hash(long hash, double[] values, int count) {
+        for (int i = 0; i < count; i++) {
+            hash ^= Double.doubleToLongBits(values[i]);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
     /**
      *
      * @param bounds Starting minMax values to work from; only lists values that are greater than or less
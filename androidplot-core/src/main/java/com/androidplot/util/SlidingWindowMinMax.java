@@ -0,0 +1,159 @@
+package com.androidplot.util;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Tracks the min and max of a sliding window of doubles, where values are appended to the end
+ * of the window and evicted from its start.  Both operations run in amortized O(1) time and
+ * no objects are allocated once the internal buffers have grown to fit the window.
+ *
+ * Internally, a pair of monotonic deques are maintained: the min deque holds the positions of
+ * values that could still become the minimum once older values are evicted (and likewise for
+ * the max deque).  The current min/max is therefore always found at the head of its deque.
+ *
+ * {@link Double#NaN} is treated as null; it occupies a position in the window but never becomes
+ * the min or max.
+ * @since 1.5.12
+ */
+public class SlidingWindowMinMax {
+
+    private final MonotonicDeque minDeque = new MonotonicDeque(true);
+    private final MonotonicDeque maxDeque = new MonotonicDeque(false);
+
+    // sequence number of the oldest value in the window:
+    private long firstSeq;
+
+    // sequence number to assign to the next appended value:
+    private long nextSeq;
+
+    /**
+     * Append a value to the end of the window.
+     * @param value Use {@link Double#NaN} to represent null.
+     */
+    public void addLast(double value) {
+        final long seq = nextSeq++;
+        if(!Double.isNaN(value)) {
+            minDeque.push(seq, value);
+            maxDeque.push(seq, value);
+        }
+    }
+
+    /**
+     * Evict the oldest value from the window.
+     * @throws NoSuchElementException if the window is empty.
+     */
+    public void removeFirst() {
+        if(firstSeq == nextSeq) {
+            throw new NoSuchElementException();
+        }
+        minDeque.evict(firstSeq);
+        maxDeque.evict(firstSeq);
+        firstSeq++;
+    }
+
+    /**
+     * @return The smallest non-null value in the window or {@link Double#NaN} if none exists.
+     */
+    public double getMin() {
+        return minDeque.peek();
+    }
+
+    /**
+     * @return The largest non-null value in the window or {@link Double#NaN} if none exists.
+     */
+    public double getMax() {
+        return maxDeque.peek();
+    }
+
+    /**
+     * @return The number of values (including nulls) currently in the window.
+     */
+    public int size() {
+        return (int) (nextSeq - firstSeq);
+    }
+
+    /**
+     * Remove all values from the window.
+     */
+    public void clear() {
+        minDeque.clear();
+        maxDeque.clear();
+        firstSeq = 0;
+        nextSeq = 0;
+    }
+
+    /**
+     * A deque of (sequence, value) pairs whose values are kept in ascending order for a min
+     * deque and descending order for a max deque, backed by a pair of growable ring buffers.
+     */
+    private static class MonotonicDeque {
+
+        private static final int DEFAULT_CAPACITY = 16;
+
+        private final boolean isMin;
+        private long[] seqs = new long[DEFAULT_CAPACITY];
+        private double[] values = new double[DEFAULT_CAPACITY];
+        private int head;
+        private int size;
+
+        MonotonicDeque(boolean isMin) {
+            this.isMin = isMin;
+        }
+
+        /**
+         * Appends a value, first discarding any values that it dominates; those can never again
+         * become the min (or max) since they will be evicted before this value is.
+         */
+        void push(long seq, double value) {
+            while(size > 0) {
+                final double last = values[wrap(head + size - 1)];
+                if(isMin ? last >= value : last <= value) {
+                    size--;
+                } else {
+                    break;
+                }
+            }
+            if(size == seqs.length) {
+                grow();
+            }
+            final int i = wrap(head + size);
+            seqs[i] = seq;
+            values[i] = value;
+            size++;
+        }
+
+        void evict(long seq) {
+            if(size > 0 && seqs[head] == seq) {
+                head = wrap(head + 1);
+                size--;
+            }
+        }
+
+        double peek() {
+            return size > 0 ? values[head] : Double.NaN;
+        }
+
+        void clear() {
+            head = 0;
+            size = 0;
+        }
+
+        private void grow() {
+            final int capacity = seqs.length * 2;
+            final long[] newSeqs = new long[capacity];
+            final double[] newValues = new double[capacity];
+            final int firstLen = Math.min(size, seqs.length - head);
+            System.arraycopy(seqs, head, newSeqs, 0, firstLen);
+            System.arraycopy(seqs, 0, newSeqs, firstLen, size - firstLen);
+            System.arraycopy(values, head, newValues, 0, firstLen);
+            System.arraycopy(values, 0, newValues, firstLen, size - firstLen);
+            seqs = newSeqs;
+            values = newValues;
+            head = 0;
+        }
+
+        private int wrap(int i) {
+            return i >= seqs.length ? i - seqs.length : i;
+        }
+    }
+}
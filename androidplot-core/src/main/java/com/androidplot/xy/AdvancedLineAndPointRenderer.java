@@ -20,6 +20,7 @@ import android.content.*;
 import android.graphics.*;
 import com.androidplot.ui.RenderStack;
 import com.androidplot.ui.SeriesRenderer;
+import com.androidplot.util.SeriesUtils;
 
 /**
  * This is an experimental (but stable) implementation of an {@link XYSeriesRenderer} that provides instrumentation
@@ -34,6 +35,8 @@ import com.androidplot.ui.SeriesRenderer;
 public class AdvancedLineAndPointRenderer extends XYSeriesRenderer<XYSeries, AdvancedLineAndPointRenderer.Formatter> {
 
     private int latestIndex;
+    private final PointF point1 = new PointF();
+    private final PointF point2 = new PointF();
 
     public AdvancedLineAndPointRenderer(XYPlot plot) {
         super(plot);
@@ -44,12 +47,13 @@ public class AdvancedLineAndPointRenderer extends XYSeriesRenderer<XYSeries, Adv
         PointF thisPoint;
         PointF lastPoint = null;
         for (int i = 0; i < series.size(); i++) {
-            Number y = series.getY(i);
-            Number x = series.getX(i);
+            final double y = SeriesUtils.getYDouble(series, i);
+            final double x = SeriesUtils.getXDouble(series, i);
 
-            if (y != null && x != null) {
-                thisPoint = getPlot().getBounds()
-                        .transformScreen(x, y, plotArea);
+            if (!Double.isNaN(y) && !Double.isNaN(x)) {
+                // alternate between two reusable points so that lastPoint is never overwritten:
+                thisPoint = lastPoint == point1 ? point2 : point1;
+                getPlot().getBounds().transformScreen(thisPoint, x, y, plotArea);
             } else {
                 thisPoint = null;
             }
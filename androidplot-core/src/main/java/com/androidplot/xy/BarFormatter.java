@@ -27,6 +27,7 @@ public class BarFormatter extends LineAndPointFormatter {
 
     public void setFillPaint(Paint fillPaint) {
         this.fillPaint = fillPaint;
+        markChanged();
     }
 
     public Paint getBorderPaint() {
@@ -35,6 +36,7 @@ public class BarFormatter extends LineAndPointFormatter {
 
     public void setBorderPaint(Paint borderPaint) {
         this.borderPaint = borderPaint;
+        markChanged();
     }
 
     private Paint fillPaint;
@@ -84,6 +86,7 @@ public class BarFormatter extends LineAndPointFormatter {
 
     public void setMarginTop(float marginTop) {
         this.marginTop = marginTop;
+        markChanged();
     }
 
     public float getMarginBottom() {
@@ -92,6 +95,7 @@ public class BarFormatter extends LineAndPointFormatter {
 
     public void setMarginBottom(float marginBottom) {
         this.marginBottom = marginBottom;
+        markChanged();
     }
 
     public float getMarginLeft() {
@@ -100,6 +104,7 @@ public class BarFormatter extends LineAndPointFormatter {
 
     public void setMarginLeft(float marginLeft) {
         this.marginLeft = marginLeft;
+        markChanged();
     }
 
     public float getMarginRight() {
@@ -108,5 +113,6 @@ public class BarFormatter extends LineAndPointFormatter {
 
     public void setMarginRight(float marginRight) {
         this.marginRight = marginRight;
+        markChanged();
     }
 }
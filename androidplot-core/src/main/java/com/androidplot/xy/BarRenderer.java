@@ -28,6 +28,7 @@ import com.androidplot.ui.RenderStack;
 import com.androidplot.ui.SeriesBundle;
 import com.androidplot.util.PixelUtils;
 import com.androidplot.util.RectFUtils;
+import com.androidplot.util.SeriesUtils;
 
 /**
  * Renders the points in an XYSeries as bars.  See {@link BarOrientation} javadoc for details on supported
@@ -146,7 +147,7 @@ public class BarRenderer<FormatterType extends BarFormatter> extends GroupRender
             int seriesOrder = 0;
             for(SeriesBundle<XYSeries, ? extends FormatterType> bundle : sfList) {
                 // TODO: is this null check really necessary?
-                if(bundle.getSeries().getX(i) != null) {
+                if(!Double.isNaN(SeriesUtils.getXDouble(bundle.getSeries(), i))) {
                     Bar bar = new Bar(getPlot(), bundle.getSeries(),
                             bundle.getFormatter(), seriesOrder, i, plotArea);
                     group.addBar(bar);
@@ -248,7 +249,7 @@ public class BarRenderer<FormatterType extends BarFormatter> extends GroupRender
     protected void drawBar(Canvas canvas, Bar<FormatterType> bar, RectF rect) {
 
         // null yVals are skipped:
-        if(bar.getY() == null) {
+        if(Double.isNaN(bar.yVal)) {
             return;
         }
 
@@ -293,6 +294,12 @@ public class BarRenderer<FormatterType extends BarFormatter> extends GroupRender
         public final int seriesOrder;
         public final float xPix;
         public final float yPix;
+
+        /**
+         * The y-value of the bar or {@link Double#NaN} if it's null.
+         * @since 1.5.12
+         */
+        public final double yVal;
         protected BarGroup barGroup;
 
         // TODO: factor out plot param
@@ -302,12 +309,12 @@ public class BarRenderer<FormatterType extends BarFormatter> extends GroupRender
             this.i = i;
             this.seriesOrder = seriesOrder;
 
-            final double xVal = series.getX(i).doubleValue();
+            final double xVal = SeriesUtils.getXDouble(series, i);
             xPix = (float) plot.getBounds().getxRegion()
                     .transform(xVal, plotArea.left, plotArea.right, false);
 
-            if (series.getY(i) != null) {
-                final double yVal = series.getY(i).doubleValue();
+            yVal = SeriesUtils.getYDouble(series, i);
+            if (!Double.isNaN(yVal)) {
                 this.yPix = (float) plot.getBounds().yRegion
                         .transform(yVal, plotArea.top, plotArea.bottom, true);
             } else {
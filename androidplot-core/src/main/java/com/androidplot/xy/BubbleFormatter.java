@@ -85,6 +85,7 @@ public class BubbleFormatter extends XYSeriesFormatter<XYRegionFormatter> {
 
     public void setStrokePaint(Paint strokePaint) {
         this.strokePaint = strokePaint;
+        markChanged();
     }
 
     public Paint getFillPaint() {
@@ -93,5 +94,6 @@ public class BubbleFormatter extends XYSeriesFormatter<XYRegionFormatter> {
 
     public void setFillPaint(Paint fillPaint) {
         this.fillPaint = fillPaint;
+        markChanged();
     }
 }
@@ -20,6 +20,9 @@ public class BubbleRenderer<FormatterType extends BubbleFormatter> extends XYSer
 
     private BubbleScaleMode bubbleScaleMode = BubbleScaleMode.SQUARE_ROOT;
 
+    // reused for every bubble to avoid allocating during render:
+    private final PointF centerPoint = new PointF();
+
     public enum BubbleScaleMode {
 
         /**
@@ -48,18 +51,21 @@ public class BubbleRenderer<FormatterType extends BubbleFormatter> extends XYSer
 
         Region magnitudeBounds = calculateBounds();
         for(int i = 0; i < series.size(); i++) {
+            final double y = SeriesUtils.getYDouble(series, i);
+            final double z = series.getZ(i).doubleValue();
 
             // only render non-null values greater than zero:
-            if(series.getY(i) != null && series.getZ(i).doubleValue() > 0) {
+            if(!Double.isNaN(y) && z > 0) {
 
-                final PointF centerPoint = getPlot().getBounds().
-                        transform(series.getX(i), series.getY(i), plotArea, false, true);
+                getPlot().getBounds().transform(centerPoint,
+                        SeriesUtils.getXDouble(series, i), y, plotArea, false, true);
 
                 // calculate bubble radius:
-                float bubbleRadius = magnitudeBounds.
+                float bubbleRadius = (float) magnitudeBounds.
                         transform(bubbleScaleMode == BubbleScaleMode.SQUARE_ROOT ?
-                                  Math.sqrt(series.getZ(i).doubleValue()) :
-                                  series.getZ(i).doubleValue(), bubbleBounds).floatValue();
+                                  Math.sqrt(z) : z,
+                                bubbleBounds.getMin().doubleValue(),
+                                bubbleBounds.getMax().doubleValue(), false);
                 drawBubble(canvas, formatter, series, i, centerPoint, bubbleRadius);
             }
         }
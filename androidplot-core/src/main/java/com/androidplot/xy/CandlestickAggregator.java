@@ -0,0 +1,348 @@
+package com.androidplot.xy;
+
+import android.graphics.Canvas;
+
+import com.androidplot.Plot;
+import com.androidplot.PlotListener;
+import com.androidplot.Versioned;
+import com.androidplot.util.SlidingWindowMinMax;
+
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Aggregates a stream of raw (timestamp, price) ticks into candlesticks of a fixed time interval,
+ * for rendering with {@link CandlestickRenderer}.  Each tick updates the open/high/low/close of the
+ * current candle in place, or starts a new candle once its timestamp passes the end of the current
+ * interval, in O(1) time and without allocating.  Candles are stored in primitive ring buffers;
+ * once capacity candles have been produced, the oldest candle is evicted for each new one.
+ *
+ * Candles are aligned to multiples of interval and the x-value of each candle is the start of its
+ * interval.  No candles are produced for intervals in which no ticks arrive.  Ticks older than the
+ * current candle are ignored.
+ *
+ * The candles are exposed as four series, in the form expected by {@link CandlestickRenderer};
+ * use {@link CandlestickMaker#make(XYPlot, CandlestickFormatter, CandlestickAggregator)} to add
+ * them to a plot.  All four share a single lock, so the plot never observes a partially updated
+ * candle.  Each series' {@link FastXYSeries#minMax()} reports the bounds of the candles as a whole
+ * (the lowest low and highest high), tracked incrementally as candles are added and evicted.
+ * @since 1.5.12
+ */
+public class CandlestickAggregator {
+
+    private final double interval;
+
+    private final double[] xVals;
+    private final double[] openVals;
+    private final double[] highVals;
+    private final double[] lowVals;
+    private final double[] closeVals;
+
+    // index of the oldest candle:
+    private int head;
+    private int size;
+
+    // incremented by every applied tick:
+    private volatile long version;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock(true);
+
+    // the lows and highs of every candle but the current one, whose values are still changing:
+    private final SlidingWindowMinMax lowBounds = new SlidingWindowMinMax();
+    private final SlidingWindowMinMax highBounds = new SlidingWindowMinMax();
+
+    private final CandleSeries highSeries;
+    private final CandleSeries lowSeries;
+    private final CandleSeries openSeries;
+    private final CandleSeries closeSeries;
+
+    /**
+     *
+     * @param interval Duration of each candle, in the same units as tick timestamps.  Must be > 0.
+     * @param capacity Max number of candles retained.  Must be > 0.
+     */
+    public CandlestickAggregator(double interval, int capacity) {
+        if (!(interval > 0)) {
+            throw new IllegalArgumentException("Interval must be greater than 0.");
+        }
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be greater than 0.");
+        }
+        this.interval = interval;
+        this.xVals = new double[capacity];
+        this.openVals = new double[capacity];
+        this.highVals = new double[capacity];
+        this.lowVals = new double[capacity];
+        this.closeVals = new double[capacity];
+        this.highSeries = new CandleSeries(highVals);
+        this.lowSeries = new CandleSeries(lowVals);
+        this.openSeries = new CandleSeries(openVals);
+        this.closeSeries = new CandleSeries(closeVals);
+    }
+
+    /**
+     * Adds a tick to the candle containing timestamp.
+     * @param timestamp
+     * @param price Ignored if NaN.
+     * @return True if the tick was applied, false if it was ignored.
+     */
+    public boolean addTick(double timestamp, double price) {
+        lock.writeLock().lock();
+        try {
+            return apply(timestamp, price);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds ticks in order, acquiring the write lock only once.
+     * @param timestamps
+     * @param prices
+     * @param offset Index of the first tick to add.
+     * @param length Number of ticks to add.
+     * @return The number of ticks applied.
+     */
+    public int addTicks(double[] timestamps, double[] prices, int offset, int length) {
+        if (offset < 0 || length < 0 || offset + length > timestamps.length
+                || offset + length > prices.length) {
+            throw new IndexOutOfBoundsException(
+                    "offset: " + offset + ", length: " + length + ", array length: " + timestamps.length);
+        }
+        lock.writeLock().lock();
+        try {
+            int applied = 0;
+            for (int i = offset; i < offset + length; i++) {
+                if (apply(timestamps[i], prices[i])) {
+                    applied++;
+                }
+            }
+            return applied;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Must be invoked while holding the write lock.
+     */
+    private boolean apply(double timestamp, double price) {
+        if (Double.isNaN(price) || Double.isNaN(timestamp)) {
+            return false;
+        }
+        final double start = Math.floor(timestamp / interval) * interval;
+        if (size > 0) {
+            final int last = toBufferIndex(size - 1);
+            if (start == xVals[last]) {
+                if (price > highVals[last]) {
+                    highVals[last] = price;
+                }
+                if (price < lowVals[last]) {
+                    lowVals[last] = price;
+                }
+                closeVals[last] = price;
+                version++;
+                return true;
+            } else if (start < xVals[last]) {
+                return false;
+            }
+
+            // the current candle is complete:
+            lowBounds.addLast(lowVals[last]);
+            highBounds.addLast(highVals[last]);
+        }
+
+        final int capacity = xVals.length;
+        if (size == capacity) {
+            if (lowBounds.size() > 0) {
+                lowBounds.removeFirst();
+                highBounds.removeFirst();
+            }
+            head = (head + 1) % capacity;
+            size--;
+        }
+        final int i = (head + size) % capacity;
+        xVals[i] = start;
+        openVals[i] = price;
+        highVals[i] = price;
+        lowVals[i] = price;
+        closeVals[i] = price;
+        size++;
+        version++;
+        return true;
+    }
+
+    /**
+     * Removes all candles.
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            head = 0;
+            size = 0;
+            lowBounds.clear();
+            highBounds.clear();
+            version++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Must be invoked while holding the read or write lock.
+     */
+    private RectRegion getBounds() {
+        if (size == 0) {
+            return null;
+        }
+        final int last = toBufferIndex(size - 1);
+        final double min = lowBounds.size() > 0 ? Math.min(lowBounds.getMin(), lowVals[last]) : lowVals[last];
+        final double max = highBounds.size() > 0 ? Math.max(highBounds.getMax(), highVals[last]) : highVals[last];
+        return new RectRegion(xVals[head], xVals[last], min, max);
+    }
+
+    private int toBufferIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return (head + index) % xVals.length;
+    }
+
+    public double getInterval() {
+        return interval;
+    }
+
+    /**
+     * @return Max number of candles retained.
+     */
+    public int getCapacity() {
+        return xVals.length;
+    }
+
+    /**
+     * @return The number of candles currently retained.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public XYSeries getHighSeries() {
+        return highSeries;
+    }
+
+    public XYSeries getLowSeries() {
+        return lowSeries;
+    }
+
+    public XYSeries getOpenSeries() {
+        return openSeries;
+    }
+
+    public XYSeries getCloseSeries() {
+        return closeSeries;
+    }
+
+    /**
+     * A read-only view of one of the four values of each candle.
+     */
+    private class CandleSeries implements FastXYSeries, OrderedXYSeries, PrimitiveXYSeries, PlotListener,
+            Versioned {
+
+        private final double[] yVals;
+
+        CandleSeries(double[] yVals) {
+            this.yVals = yVals;
+        }
+
+        @Override
+        public void onBeforeDraw(Plot source, Canvas canvas) {
+            lock.readLock().lock();
+        }
+
+        @Override
+        public void onAfterDraw(Plot source, Canvas canvas) {
+            lock.readLock().unlock();
+        }
+
+        @Override
+        public long getVersion() {
+            return version;
+        }
+
+        @Override
+        public RectRegion minMax() {
+            lock.readLock().lock();
+            try {
+                return getBounds();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        @Override
+        public XOrder getXOrder() {
+            return XOrder.ASCENDING;
+        }
+
+        @Override
+        public String getTitle() {
+            return null;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Number getX(int index) {
+            return getXDouble(index);
+        }
+
+        @Override
+        public Number getY(int index) {
+            return getYDouble(index);
+        }
+
+        @Override
+        public double getXDouble(int index) {
+            return xVals[toBufferIndex(index)];
+        }
+
+        @Override
+        public double getYDouble(int index) {
+            return yVals[toBufferIndex(index)];
+        }
+
+        @Override
+        public void copyX(int fromIndex, int toIndex, double[] dst) {
+            copy(xVals, fromIndex, toIndex, dst);
+        }
+
+        @Override
+        public void copyY(int fromIndex, int toIndex, double[] dst) {
+            copy(yVals, fromIndex, toIndex, dst);
+        }
+
+        /**
+         * Copies the specified range out of the ring buffer using at most two array copies.
+         */
+        private void copy(double[] src, int fromIndex, int toIndex, double[] dst) {
+            if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+                throw new IndexOutOfBoundsException(
+                        "fromIndex: " + fromIndex + ", toIndex: " + toIndex + ", Size: " + size);
+            }
+            final int len = toIndex - fromIndex;
+            final int start = (head + fromIndex) % src.length;
+            final int firstLen = Math.min(len, src.length - start);
+            System.arraycopy(src, start, dst, 0, firstLen);
+            if (firstLen < len) {
+                System.arraycopy(src, 0, dst, firstLen, len - firstLen);
+            }
+        }
+    }
+}
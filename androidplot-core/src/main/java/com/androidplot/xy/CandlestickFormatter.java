@@ -111,6 +111,7 @@ public class CandlestickFormatter extends XYSeriesFormatter<XYRegionFormatter> {
 
     public void setWickPaint(Paint wickPaint) {
         this.wickPaint = wickPaint;
+        markChanged();
     }
 
     public Paint getRisingBodyFillPaint() {
@@ -119,6 +120,7 @@ public class CandlestickFormatter extends XYSeriesFormatter<XYRegionFormatter> {
 
     public void setRisingBodyFillPaint(Paint risingBodyFillPaint) {
         this.risingBodyFillPaint = risingBodyFillPaint;
+        markChanged();
     }
 
     public Paint getRisingBodyStrokePaint() {
@@ -127,6 +129,7 @@ public class CandlestickFormatter extends XYSeriesFormatter<XYRegionFormatter> {
 
     public void setRisingBodyStrokePaint(Paint risingBodyStrokePaint) {
         this.risingBodyStrokePaint = risingBodyStrokePaint;
+        markChanged();
     }
 
     public Paint getUpperCapPaint() {
@@ -135,6 +138,7 @@ public class CandlestickFormatter extends XYSeriesFormatter<XYRegionFormatter> {
 
     public void setUpperCapPaint(Paint upperCapPaint) {
         this.upperCapPaint = upperCapPaint;
+        markChanged();
     }
 
     public Paint getLowerCapPaint() {
@@ -143,6 +147,7 @@ public class CandlestickFormatter extends XYSeriesFormatter<XYRegionFormatter> {
 
     public void setLowerCapPaint(Paint lowerCapPaint) {
         this.lowerCapPaint = lowerCapPaint;
+        markChanged();
     }
 
     public float getBodyWidth() {
@@ -151,6 +156,7 @@ public class CandlestickFormatter extends XYSeriesFormatter<XYRegionFormatter> {
 
     public void setBodyWidth(float bodyWidth) {
         this.bodyWidth = bodyWidth;
+        markChanged();
     }
 
     public float getLowerCapWidth() {
@@ -159,6 +165,7 @@ public class CandlestickFormatter extends XYSeriesFormatter<XYRegionFormatter> {
 
     public void setLowerCapWidth(float lowerCapWidth) {
         this.lowerCapWidth = lowerCapWidth;
+        markChanged();
     }
 
     public float getUpperCapWidth() {
@@ -167,6 +174,7 @@ public class CandlestickFormatter extends XYSeriesFormatter<XYRegionFormatter> {
 
     public void setUpperCapWidth(float upperCapWidth) {
         this.upperCapWidth = upperCapWidth;
+        markChanged();
     }
 
     public Paint getFallingBodyFillPaint() {
@@ -175,6 +183,7 @@ public class CandlestickFormatter extends XYSeriesFormatter<XYRegionFormatter> {
 
     public void setFallingBodyFillPaint(Paint fallingBodyFillPaint) {
         this.fallingBodyFillPaint = fallingBodyFillPaint;
+        markChanged();
     }
 
     public Paint getFallingBodyStrokePaint() {
@@ -183,6 +192,7 @@ public class CandlestickFormatter extends XYSeriesFormatter<XYRegionFormatter> {
 
     public void setFallingBodyStrokePaint(Paint fallingBodyStrokePaint) {
         this.fallingBodyStrokePaint = fallingBodyStrokePaint;
+        markChanged();
     }
 
     public BodyStyle getBodyStyle() {
@@ -191,6 +201,7 @@ public class CandlestickFormatter extends XYSeriesFormatter<XYRegionFormatter> {
 
     public void setBodyStyle(BodyStyle bodyStyle) {
         this.bodyStyle = bodyStyle;
+        markChanged();
     }
 
     /**
@@ -201,5 +212,6 @@ public class CandlestickFormatter extends XYSeriesFormatter<XYRegionFormatter> {
         setUpperCapPaint(paint);
         setLowerCapPaint(paint);
         setWickPaint(paint);
+        markChanged();
     }
 }
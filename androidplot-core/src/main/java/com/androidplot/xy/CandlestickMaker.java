@@ -49,6 +49,37 @@ public abstract class CandlestickMaker {
                 series.getHighSeries(), series.getLowSeries());
     }
 
+    /**
+     * Add a candlestick chart to the specified plot using the candles produced by the specified
+     * {@link CandlestickAggregator}.  The chart updates as ticks are added; invoke
+     * {@link XYPlot#redraw()} to display the changes.
+     * @param plot
+     * @param formatter
+     * @param aggregator
+     * @since 1.5.12
+     */
+    public static void make(XYPlot plot, CandlestickFormatter formatter, CandlestickAggregator aggregator) {
+        make(plot, formatter, aggregator.getOpenSeries(), aggregator.getCloseSeries(),
+                aggregator.getHighSeries(), aggregator.getLowSeries());
+    }
+
+    /**
+     * Add a candlestick chart to the specified plot using the specified
+     * {@link SampledCandlestickSeries}; the timeframe drawn is selected automatically as the plot
+     * is zoomed.  Installs a {@link ZoomEstimator} if the plot does not already have an estimator.
+     * @param plot
+     * @param formatter
+     * @param series
+     * @since 1.5.12
+     */
+    public static void make(XYPlot plot, CandlestickFormatter formatter, SampledCandlestickSeries series) {
+        if(plot.getRegistry().getEstimator() == null) {
+            plot.getRegistry().setEstimator(new ZoomEstimator());
+        }
+        make(plot, formatter, series.getOpenSeries(), series.getCloseSeries(),
+                series.getHighSeries(), series.getLowSeries());
+    }
+
     /**
      * Check the validity of series data comprising a {@link CandlestickSeries}.
      * This is a development aid; be sure to remove any usage of this method in production code.
@@ -17,8 +17,10 @@
 package com.androidplot.xy;
 
 import android.graphics.*;
+
 import com.androidplot.ui.RenderStack;
 import com.androidplot.ui.SeriesBundle;
+import com.androidplot.util.SeriesUtils;
 
 import java.util.List;
 
@@ -43,36 +45,66 @@ public class CandlestickRenderer<FormatterType extends CandlestickFormatter> ext
     protected static final int OPEN_INDEX = 2;
     protected static final int CLOSE_INDEX = 3;
 
+    // reused for every candle to avoid allocating during render:
+    private final PointF highPix = new PointF();
+    private final PointF lowPix = new PointF();
+    private final PointF openPix = new PointF();
+    private final PointF closePix = new PointF();
+    private final RectF bodyRect = new RectF();
+    private final Path trianglePath = new Path();
+
     public CandlestickRenderer(XYPlot plot) {
         super(plot);
     }
 
-
     @Override
     public void onRender(Canvas canvas, RectF plotArea, List<SeriesBundle<XYSeries,
                 ? extends FormatterType>> sfList, int seriesSize,  RenderStack stack) {
 
         final FormatterType formatter = sfList.get(0).getFormatter();
-        for(int i = 0; i < seriesSize; i++) {
+        final XYSeries highSeries = sfList.get(HIGH_INDEX).getSeries();
+        final XYSeries lowSeries = sfList.get(LOW_INDEX).getSeries();
+        final XYSeries openSeries = sfList.get(OPEN_INDEX).getSeries();
+        final XYSeries closeSeries = sfList.get(CLOSE_INDEX).getSeries();
+        final RectRegion bounds = getPlot().getBounds();
+
+        // when x-values are ascending, skip candles outside the visible range (keeping one on
+        // either side, whose body may still be partially visible):
+        int iStart = 0;
+        int iEnd = seriesSize;
+        if(seriesSize > 0 && SeriesUtils.getXYOrder(highSeries) == OrderedXYSeries.XOrder.ASCENDING
+                && bounds.getxRegion().isDefined()) {
+            iStart = SeriesUtils.searchX(highSeries, bounds.getMinX().doubleValue(), false) - 1;
+            while(iStart > 0 && Double.isNaN(SeriesUtils.getXDouble(highSeries, iStart))) {
+                iStart--;
+            }
+            iStart = Math.max(0, iStart);
+            iEnd = Math.min(seriesSize,
+                    SeriesUtils.searchX(highSeries, bounds.getMaxX().doubleValue(), true) + 1);
+        }
 
-            final XYSeries highSeries = sfList.get(HIGH_INDEX).getSeries();
-            final XYSeries lowSeries = sfList.get(LOW_INDEX).getSeries();
-            final XYSeries openSeries = sfList.get(OPEN_INDEX).getSeries();
-            final XYSeries closeSeries = sfList.get(CLOSE_INDEX).getSeries();
+        final PointLabelFormatter plf = formatter.hasPointLabelFormatter()
+                                        ? formatter.getPointLabelFormatter() : null;
+        final PointLabeler pointLabeler = formatter.getPointLabeler();
+        for(int i = iStart; i < iEnd; i++) {
 
             // x-val for all series should be identical so just grab x from the first series:
-            Number x = highSeries.getX(i);
-
-            Number high = highSeries.getY(i);
-            Number low = lowSeries.getY(i);
-            Number open = openSeries.getY(i);
-            Number close = closeSeries.getY(i);
+            final double x = SeriesUtils.getXDouble(highSeries, i);
+
+            final double high = SeriesUtils.getYDouble(highSeries, i);
+            final double low = SeriesUtils.getYDouble(lowSeries, i);
+            final double open = SeriesUtils.getYDouble(openSeries, i);
+            final double close = SeriesUtils.getYDouble(closeSeries, i);
+            if(Double.isNaN(x) || Double.isNaN(high) || Double.isNaN(low)
+                    || Double.isNaN(open) || Double.isNaN(close)) {
+                continue;
+            }
 
             // draw the candlestick:
-            final PointF highPix = getPlot().getBounds().transformScreen(x, high, plotArea);
-            final PointF lowPix = getPlot().getBounds().transformScreen(x, low, plotArea);
-            final PointF openPix = getPlot().getBounds().transformScreen(x, open, plotArea);
-            final PointF closePix = getPlot().getBounds().transformScreen(x, close, plotArea);
+            bounds.transformScreen(highPix, x, high, plotArea);
+            bounds.transformScreen(lowPix, x, low, plotArea);
+            bounds.transformScreen(openPix, x, open, plotArea);
+            bounds.transformScreen(closePix, x, close, plotArea);
 
             drawWick(canvas, highPix, lowPix, formatter);
             drawBody(canvas, openPix, closePix, formatter);
@@ -80,9 +112,6 @@ public class CandlestickRenderer<FormatterType extends CandlestickFormatter> ext
             drawLowerCap(canvas, lowPix, formatter);
 
             // draw labels, if any:
-            final PointLabelFormatter plf = formatter.hasPointLabelFormatter()
-                                            ? formatter.getPointLabelFormatter() : null;
-            final PointLabeler pointLabeler = formatter.getPointLabeler();
             if(plf != null && pointLabeler != null) {
                 drawTextLabel(canvas, highPix, pointLabeler.getLabel(highSeries, i), plf);
                 drawTextLabel(canvas, lowPix, pointLabeler.getLabel(lowSeries, i), plf);
@@ -104,7 +133,8 @@ public class CandlestickRenderer<FormatterType extends CandlestickFormatter> ext
 
     protected void drawBody(Canvas canvas, PointF open, PointF close, FormatterType formatter) {
         final float halfWidth = formatter.getBodyWidth() / 2;
-        final RectF rect = new RectF(open.x - halfWidth, open.y, close.x + halfWidth, close.y);
+        final RectF rect = bodyRect;
+        rect.set(open.x - halfWidth, open.y, close.x + halfWidth, close.y);
 
         Paint bodyFillPaint = open.y >= close.y ?
                 formatter.getRisingBodyFillPaint() : formatter.getFallingBodyFillPaint();
@@ -139,7 +169,8 @@ public class CandlestickRenderer<FormatterType extends CandlestickFormatter> ext
 
     protected void drawTriangle(Canvas canvas, RectF rect,
                                 Paint fillPaint, Paint strokePaint) {
-        Path path = new Path();
+        final Path path = trianglePath;
+        path.reset();
         path.moveTo(rect.centerX(), rect.bottom);
         path.lineTo(rect.left,rect.top);
         path.lineTo(rect.right, rect.top);
@@ -0,0 +1,413 @@
+package com.androidplot.xy;
+
+import android.graphics.Canvas;
+
+import com.androidplot.Plot;
+import com.androidplot.PlotListener;
+import com.androidplot.Versioned;
+import com.androidplot.util.SlidingWindowMinMax;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * A fixed capacity {@link XYSeries} backed by a pair of primitive circular buffers; well suited
+ * for streaming data such as sensor input, where new samples are continuously appended and the
+ * oldest samples are discarded.  Appending and evicting are O(1) operations and no objects are
+ * allocated per sample.
+ *
+ * Index 0 always refers to the oldest sample currently held by the series.  Once the series
+ * is full, each call to {@link #addLast(Number, Number)} evicts the oldest sample.
+ *
+ * Null values are stored as {@link Double#NaN} and are returned as null by {@link #getX(int)}
+ * and {@link #getY(int)}.  Values may be read without boxing via the {@link PrimitiveXYSeries}
+ * methods.
+ * @since 1.5.12
+ */
+public class CircularXYSeries implements FastXYSeries, OrderedXYSeries, PrimitiveXYSeries, PlotListener, Versioned {
+
+    private final double[] xVals;
+    private final double[] yVals;
+
+    // index of the oldest sample:
+    private int head;
+    private int size;
+    private volatile String title;
+
+    private XOrder xOrder = XOrder.NONE;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock(true);
+
+    // running bounds of the values currently in the buffer; rebuilt only when the xOrder changes.
+    // guarded by the write lock or by the read lock plus boundsLock:
+    private final Object boundsLock = new Object();
+    private final SlidingWindowMinMax xBounds = new SlidingWindowMinMax();
+    private final SlidingWindowMinMax yBounds = new SlidingWindowMinMax();
+    private boolean boundsValid = true;
+
+    // incremented by every modification, as it releases the write lock:
+    private volatile long version;
+
+    /**
+     *
+     * @param title Title of the series
+     * @param capacity Max number of xy pairs the series can hold.  Must be > 0.
+     */
+    public CircularXYSeries(String title, int capacity) {
+        if(capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be greater than 0.");
+        }
+        this.title = title;
+        this.xVals = new double[capacity];
+        this.yVals = new double[capacity];
+    }
+
+    @Override
+    public void onBeforeDraw(Plot source, Canvas canvas) {
+        lock.readLock().lock();
+    }
+
+    @Override
+    public void onAfterDraw(Plot source, Canvas canvas) {
+        lock.readLock().unlock();
+    }
+
+    /**
+     * Retrieve the current x-ordering specified for this series.  Default is
+     * {@link com.androidplot.xy.OrderedXYSeries.XOrder#NONE}.
+     * @return
+     */
+    @Override
+    public XOrder getXOrder() {
+        return xOrder;
+    }
+
+    /**
+     * If xVals are appended in strict ascending order, use this method to set
+     * {@link com.androidplot.xy.OrderedXYSeries.XOrder#ASCENDING} to provide an optimization
+     * hint to the renderer.
+     * @param xOrder
+     */
+    public void setXOrder(XOrder xOrder) {
+        lock.writeLock().lock();
+        try {
+            this.xOrder = xOrder;
+            boundsValid = false;
+        } finally {
+            version++;
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Append an xy pair to the end of the series, evicting the oldest pair if the series is full.
+     * @param x May be null.
+     * @param y May be null.
+     */
+    public void addLast(Number x, Number y) {
+        addLast(x != null ? x.doubleValue() : Double.NaN, y != null ? y.doubleValue() : Double.NaN);
+    }
+
+    /**
+     * Append an xy pair to the end of the series, evicting the oldest pair if the series is full.
+     * @param x Use {@link Double#NaN} to represent null.
+     * @param y Use {@link Double#NaN} to represent null.
+     */
+    public void addLast(double x, double y) {
+        lock.writeLock().lock();
+        try {
+            append(x, y);
+        } finally {
+            version++;
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Append xy pairs to the end of the series, acquiring the write lock only once.  The oldest
+     * pairs are evicted as needed to make room.
+     * @param xVals Use {@link Double#NaN} to represent null.
+     * @param yVals Must be the same length as xVals.  Use {@link Double#NaN} to represent null.
+     * @since 1.5.12
+     */
+    public void addLast(double[] xVals, double[] yVals) {
+        if(xVals.length != yVals.length) {
+            throw new IllegalArgumentException("xVals and yVals must be of the same length.");
+        }
+        addLast(xVals, yVals, 0, xVals.length);
+    }
+
+    /**
+     * Append a range of xy pairs to the end of the series, acquiring the write lock only once.
+     * The oldest pairs are evicted as needed to make room.
+     * @param xVals Use {@link Double#NaN} to represent null.
+     * @param yVals Use {@link Double#NaN} to represent null.
+     * @param offset Index of the first pair to append.
+     * @param length Number of pairs to append.
+     * @since 1.5.12
+     */
+    public void addLast(double[] xVals, double[] yVals, int offset, int length) {
+        if(offset < 0 || length < 0 || offset + length > xVals.length || offset + length > yVals.length) {
+            throw new IndexOutOfBoundsException(
+                    "offset: " + offset + ", length: " + length + ", array length: " + xVals.length);
+        }
+        lock.writeLock().lock();
+        try {
+            for(int i = offset; i < offset + length; i++) {
+                append(xVals[i], yVals[i]);
+            }
+        } finally {
+            version++;
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Must be invoked while holding the write lock.
+     */
+    private void append(double x, double y) {
+        final int capacity = xVals.length;
+        if(size == capacity) {
+            evictBounds();
+            head = (head + 1) % capacity;
+            size--;
+        }
+        final int i = (head + size) % capacity;
+        xVals[i] = x;
+        yVals[i] = y;
+        size++;
+        if(boundsValid) {
+            trackBounds(x, y);
+        }
+    }
+
+    /**
+     *
+     * @return {@link XYCoords} with first equal to x-val and second equal to y-val.
+     */
+    public XYCoords removeFirst() {
+        lock.writeLock().lock();
+        try {
+            if (size <= 0) {
+                throw new NoSuchElementException();
+            }
+            final XYCoords result = new XYCoords(toNumber(xVals[head]), toNumber(yVals[head]));
+            evictBounds();
+            head = (head + 1) % xVals.length;
+            size--;
+            return result;
+        } finally {
+            version++;
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove the specified number of xy pairs from the start of the series, acquiring the
+     * write lock only once.
+     * @param count Number of pairs to remove.  Must not exceed {@link #size()}.
+     * @since 1.5.12
+     */
+    public void removeFirst(int count) {
+        lock.writeLock().lock();
+        try {
+            if(count < 0 || count > size) {
+                throw new IndexOutOfBoundsException("count: " + count + ", Size: " + size);
+            }
+            for(int i = 0; i < count; i++) {
+                evictBounds();
+            }
+            head = (head + count) % xVals.length;
+            size -= count;
+        } finally {
+            version++;
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove all values from the series
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            head = 0;
+            size = 0;
+            xBounds.clear();
+            yBounds.clear();
+            boundsValid = true;
+        } finally {
+            version++;
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void evictBounds() {
+        if(boundsValid) {
+            xBounds.removeFirst();
+            yBounds.removeFirst();
+        }
+    }
+
+    /**
+     * Ascending x bounds are read straight from the ends of the buffer so they are not tracked;
+     * a NaN keeps the x window aligned with the y window without growing its deques.
+     */
+    private void trackBounds(double x, double y) {
+        xBounds.addLast(xOrder == XOrder.ASCENDING ? Double.NaN : x);
+        yBounds.addLast(y);
+    }
+
+    private void calculateBounds() {
+        xBounds.clear();
+        yBounds.clear();
+        final int capacity = xVals.length;
+        for(int i = 0; i < size; i++) {
+            final int j = (head + i) % capacity;
+            trackBounds(xVals[j], yVals[j]);
+        }
+        boundsValid = true;
+    }
+
+    /**
+     * Bounds are tracked incrementally as values are appended and evicted, so this method runs
+     * in O(1) time.  When xOrder is {@link com.androidplot.xy.OrderedXYSeries.XOrder#ASCENDING}
+     * the x bounds are read straight from the first and last elements.
+     * @return The min/max values currently contained in this series or null if the series is empty.
+     */
+    @Override
+    public RectRegion minMax() {
+        lock.readLock().lock();
+        try {
+            if(size == 0) {
+                return null;
+            }
+            synchronized (boundsLock) {
+                if (!boundsValid) {
+                    calculateBounds();
+                }
+                double x1 = xBounds.getMin();
+                double x2 = xBounds.getMax();
+                if (xOrder == XOrder.ASCENDING) {
+                    x1 = firstNonNull(xVals, 0, 1);
+                    x2 = firstNonNull(xVals, size - 1, -1);
+                }
+                return new RectRegion(toNumber(x1), toNumber(x2), toNumber(yBounds.getMin()), toNumber(yBounds.getMax()));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @param values
+     * @param index Starting index, relative to head.
+     * @param step Direction to search in.
+     * @return The first non-NaN value found or NaN if none exists.
+     */
+    private double firstNonNull(double[] values, int index, int step) {
+        for(int i = index; i >= 0 && i < size; i += step) {
+            final double value = values[(head + i) % values.length];
+            if(!Double.isNaN(value)) {
+                return value;
+            }
+        }
+        return Double.NaN;
+    }
+
+    @Override
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        lock.writeLock().lock();
+        try {
+            this.title = title;
+        } finally {
+            version++;
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * @return Max number of xy pairs this series can hold.
+     */
+    public int getCapacity() {
+        return xVals.length;
+    }
+
+    /**
+     * @return True if the next call to addLast will evict the oldest value.
+     */
+    public boolean isFull() {
+        return size == xVals.length;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Number getX(int index) {
+        return toNumber(xVals[toBufferIndex(index)]);
+    }
+
+    @Override
+    public Number getY(int index) {
+        return toNumber(yVals[toBufferIndex(index)]);
+    }
+
+    @Override
+    public double getXDouble(int index) {
+        return xVals[toBufferIndex(index)];
+    }
+
+    @Override
+    public double getYDouble(int index) {
+        return yVals[toBufferIndex(index)];
+    }
+
+    @Override
+    public void copyX(int fromIndex, int toIndex, double[] dst) {
+        copy(xVals, fromIndex, toIndex, dst);
+    }
+
+    @Override
+    public void copyY(int fromIndex, int toIndex, double[] dst) {
+        copy(yVals, fromIndex, toIndex, dst);
+    }
+
+    /**
+     * Copies the specified range out of the circular buffer using at most two array copies.
+     */
+    private void copy(double[] src, int fromIndex, int toIndex, double[] dst) {
+        if(fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException(
+                    "fromIndex: " + fromIndex + ", toIndex: " + toIndex + ", Size: " + size);
+        }
+        final int len = toIndex - fromIndex;
+        final int start = (head + fromIndex) % src.length;
+        final int firstLen = Math.min(len, src.length - start);
+        System.arraycopy(src, start, dst, 0, firstLen);
+        if(firstLen < len) {
+            System.arraycopy(src, 0, dst, firstLen, len - firstLen);
+        }
+    }
+
+    private int toBufferIndex(int index) {
+        if(index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return (head + index) % xVals.length;
+    }
+
+    private static Number toNumber(double value) {
+        return Double.isNaN(value) ? null : value;
+    }
+}
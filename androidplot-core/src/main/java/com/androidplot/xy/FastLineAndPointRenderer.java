@@ -24,6 +24,7 @@ import androidx.annotation.NonNull;
 
 import com.androidplot.ui.RenderStack;
 import com.androidplot.ui.SeriesRenderer;
+import com.androidplot.util.SeriesUtils;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -43,8 +44,11 @@ public class FastLineAndPointRenderer extends XYSeriesRenderer<XYSeries, FastLin
      */
     private static final int MINIMUM_NUMBER_OF_POINTS_TO_DEFINE_A_LINE = 4;
     private float[] points;
+    private double[] xVals;
+    private double[] yVals;
     List<Integer> segmentOffsets = new ArrayList<>();
     List<Integer> segmentLengths = new ArrayList<>();
+    private final PixelColumnDecimator decimator = new PixelColumnDecimator();
     public FastLineAndPointRenderer(XYPlot plot) {
         super(plot);
     }
@@ -55,33 +59,59 @@ public class FastLineAndPointRenderer extends XYSeriesRenderer<XYSeries, FastLin
         segmentOffsets.clear();
         segmentLengths.clear();
 
-        final int numPoints = series.size() * 2;
+        final int seriesSize = series.size();
+        final int numPoints = seriesSize * 2;
         if(points == null || points.length != numPoints) {
             // only allocate when necessary:
-            points = new  float[series.size()*2];
+            points = new  float[seriesSize*2];
+            xVals = new double[seriesSize];
+            yVals = new double[seriesSize];
         }
 
-        int segmentLen = 0;
-        boolean isLastPointNull = true;
+        // bulk copy values as primitives to avoid boxing on each point:
+        SeriesUtils.copyX(series, 0, seriesSize, xVals);
+        SeriesUtils.copyY(series, 0, seriesSize, yVals);
+
         PointF resultPoint = new PointF();
-        for (int i = 0, j = 0;  i < series.size(); i++, j+=2) {
-            Number y = series.getY(i);
-            Number x = series.getX(i);
+        for (int i = 0, j = 0;  i < seriesSize; i++, j+=2) {
+            final double y = yVals[i];
+            final double x = xVals[i];
+            if (!Double.isNaN(y) && !Double.isNaN(x)) {
+                getPlot().getBounds().transformScreen(resultPoint, x, y, plotArea);
+                points[j] = resultPoint.x;
+                points[j + 1] = resultPoint.y;
+            } else {
+                points[j] = Float.NaN;
+                points[j + 1] = Float.NaN;
+            }
+        }
 
-            if (y != null && x != null) {
+        int numVisiblePoints = seriesSize;
+        if(formatter.isDecimationEnabled()) {
+            // compact the retained points to the front of the buffer; retained indices are
+            // ascending so no point is overwritten before it's been moved:
+            numVisiblePoints = decimator.decimate(points, seriesSize);
+            for(int i = 0; i < numVisiblePoints; i++) {
+                final int index = decimator.get(i);
+                points[i * 2] = points[index * 2];
+                points[i * 2 + 1] = points[index * 2 + 1];
+            }
+        }
+
+        int segmentLen = 0;
+        boolean isLastPointNull = true;
+        for (int i = 0, j = 0;  i < numVisiblePoints; i++, j+=2) {
+            final int index = formatter.isDecimationEnabled() ? decimator.get(i) : i;
+            if (!Double.isNaN(yVals[index]) && !Double.isNaN(xVals[index])) {
                 if(isLastPointNull) {
                     segmentOffsets.add(j);
                     segmentLen = 0;
                     isLastPointNull = false;
                 }
-
-                getPlot().getBounds().transformScreen(resultPoint, x, y, plotArea);
-                points[j] = resultPoint.x;
-                points[j + 1] = resultPoint.y;
                 segmentLen+=2;
 
                 // if this is the last point, account for it in segment lengths:
-                if(i == series.size()-1) {
+                if(i == numVisiblePoints-1) {
                     segmentLengths.add(segmentLen);
                 }
             } else if(!isLastPointNull) {
@@ -3,27 +3,34 @@ package com.androidplot.xy;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
-import com.androidplot.util.FastNumber;
+import com.androidplot.Versioned;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
  * An efficient implementation of {@link EditableXYSeries} intended for use cases where
  * the total number of points visible is known ahead of time and is fairly static.
  *
- * {@link #resize(int)} may be used to resize the series when necessary, however it is a slow
- * operation and should be avoided as much as possible.
+ * Values are stored in primitive arrays along with a bitmap marking which values are null, so
+ * no objects are allocated per value.  Null values are stored as {@link Double#NaN} and may be
+ * read without boxing via the {@link PrimitiveXYSeries} methods.
  *
+ * {@link #resize(int)} may be used to resize the series when necessary; shrinking the series
+ * or growing it back within its previous capacity does not reallocate its arrays.
  */
-public class FixedSizeEditableXYSeries implements EditableXYSeries {
+public class FixedSizeEditableXYSeries implements EditableXYSeries, PrimitiveXYSeries, Versioned {
 
-    @NonNull
-    private List<FastNumber> xVals = new ArrayList<>();
+    private double[] xVals = new double[0];
+    private double[] yVals = new double[0];
 
-    @NonNull
-    private List<FastNumber> yVals = new ArrayList<>();
+    // bit i is set if the value at index i is null:
+    private long[] xNulls = new long[0];
+    private long[] yNulls = new long[0];
+
+    private int size;
     private String title;
+    private volatile long version;
 
     public FixedSizeEditableXYSeries(String title, int size) {
         setTitle(title);
@@ -32,25 +39,97 @@ public class FixedSizeEditableXYSeries implements EditableXYSeries {
 
     @Override
     public void setX(@Nullable Number x, int index) {
-        xVals.set(index, FastNumber.orNull(x));
+        checkIndex(index);
+        set(xVals, xNulls, index, x);
+        version++;
     }
 
     @Override
     public void setY(@Nullable Number y, int index) {
-        yVals.set(index, FastNumber.orNull(y));
+        checkIndex(index);
+        set(yVals, yNulls, index, y);
+        version++;
     }
 
     /**
-     * May be used to dynamically resize the series.  This is a relatively slow operation, especially
-     * as size increases so care should be taken to avoid unnecessary usage.
+     * Boxing-free equivalent of {@link #setX(Number, int)}.
+     * @param x Use {@link Double#NaN} to represent null.
+     * @param index
+     * @since 1.5.12
+     */
+    public void setX(double x, int index) {
+        checkIndex(index);
+        set(xVals, xNulls, index, x);
+        version++;
+    }
+
+    /**
+     * Boxing-free equivalent of {@link #setY(Number, int)}.
+     * @param y Use {@link Double#NaN} to represent null.
+     * @param index
+     * @since 1.5.12
+     */
+    public void setY(double y, int index) {
+        checkIndex(index);
+        set(yVals, yNulls, index, y);
+        version++;
+    }
+
+    private static void set(double[] values, long[] nulls, int index, Number value) {
+        if (value == null) {
+            values[index] = Double.NaN;
+            nulls[index >> 6] |= 1L << index;
+        } else {
+            values[index] = value.doubleValue();
+            nulls[index >> 6] &= ~(1L << index);
+        }
+    }
+
+    private static void set(double[] values, long[] nulls, int index, double value) {
+        values[index] = value;
+        if (Double.isNaN(value)) {
+            nulls[index >> 6] |= 1L << index;
+        } else {
+            nulls[index >> 6] &= ~(1L << index);
+        }
+    }
+
+    /**
+     * May be used to dynamically resize the series.  Elements added by growing the series
+     * are null.  The backing arrays are only reallocated when size exceeds their capacity, in
+     * which case capacity is grown by at least 50% so that appending by way of resize is
+     * amortized O(1).
      * @param size
      */
     @Override
     public void resize(int size) {
-        resize(xVals, size);
-        resize(yVals, size);
+        if (size < 0) {
+            throw new IllegalArgumentException("Size must not be negative.");
+        }
+        if (size > xVals.length) {
+            // grow geometrically so that repeatedly growing by small amounts stays cheap:
+            final int capacity = this.size == 0 ? size : Math.max(size, xVals.length + (xVals.length >> 1));
+            xVals = Arrays.copyOf(xVals, capacity);
+            yVals = Arrays.copyOf(yVals, capacity);
+            final int words = (capacity + 63) >> 6;
+            xNulls = Arrays.copyOf(xNulls, words);
+            yNulls = Arrays.copyOf(yNulls, words);
+        }
+        if (size > this.size) {
+            setNull(this.size, size);
+        }
+        this.size = size;
+        version++;
     }
 
+    /**
+     * Pads list with nulls or truncates it to size.
+     * @param list
+     * @param size
+     * @deprecated Values are no longer stored in Lists, so this is no longer used by
+     * {@link #resize(int)}; retained for compatibility with subclasses.
+     */
+    @Deprecated
     protected void resize(@NonNull List list, int size) {
         if (size > list.size()) {
             while (list.size() < size) {
@@ -63,6 +142,25 @@ public class FixedSizeEditableXYSeries implements EditableXYSeries {
         }
     }
 
+    /**
+     * Marks the x and y values within the specified range as null.
+     * @param fromIndex Inclusive.
+     * @param toIndex Exclusive.
+     */
+    private void setNull(int fromIndex, int toIndex) {
+        Arrays.fill(xVals, fromIndex, toIndex, Double.NaN);
+        Arrays.fill(yVals, fromIndex, toIndex, Double.NaN);
+        for (int i = fromIndex; i < toIndex; i++) {
+            xNulls[i >> 6] |= 1L << i;
+            yNulls[i >> 6] |= 1L << i;
+        }
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public String getTitle() {
         return this.title;
@@ -74,16 +172,59 @@ public class FixedSizeEditableXYSeries implements EditableXYSeries {
 
     @Override
     public int size() {
-        return xVals.size();
+        return size;
     }
 
     @Override
     public Number getX(int index) {
-        return xVals.get(index);
+        checkIndex(index);
+        return isNull(xNulls, index) ? null : xVals[index];
     }
 
     @Override
     public Number getY(int index) {
-        return yVals.get(index);
+        checkIndex(index);
+        return isNull(yNulls, index) ? null : yVals[index];
+    }
+
+    @Override
+    public double getXDouble(int index) {
+        checkIndex(index);
+        return xVals[index];
+    }
+
+    @Override
+    public double getYDouble(int index) {
+        checkIndex(index);
+        return yVals[index];
+    }
+
+    @Override
+    public void copyX(int fromIndex, int toIndex, double[] dst) {
+        checkRange(fromIndex, toIndex);
+        System.arraycopy(xVals, fromIndex, dst, 0, toIndex - fromIndex);
+    }
+
+    @Override
+    public void copyY(int fromIndex, int toIndex, double[] dst) {
+        checkRange(fromIndex, toIndex);
+        System.arraycopy(yVals, fromIndex, dst, 0, toIndex - fromIndex);
+    }
+
+    private static boolean isNull(long[] nulls, int index) {
+        return (nulls[index >> 6] & (1L << index)) != 0;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private void checkRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException(
+                    "fromIndex: " + fromIndex + ", toIndex: " + toIndex + ", Size: " + size);
+        }
     }
 }
@@ -0,0 +1,372 @@
+package com.androidplot.xy;
+
+import android.graphics.Canvas;
+
+import com.androidplot.AppendVersioned;
+import com.androidplot.Plot;
+import com.androidplot.PlotListener;
+import com.androidplot.Region;
+import com.androidplot.Versioned;
+import com.androidplot.util.MinMaxSegmentTree;
+import com.androidplot.util.SeriesUtils;
+
+import java.util.Arrays;
+
+/**
+ * Wraps an {@link XYSeries} whose x-values are in ascending order, maintaining a
+ * {@link MinMaxSegmentTree} over its y-values so that the y-extent of any index range can be
+ * found in O(log n) time.  Useful for autoscaling the range of a plot while panning or zooming
+ * through a very large series along a fixed domain.
+ *
+ * To keep memory usage down, each leaf of the tree summarizes a block of consecutive points;
+ * the partial blocks at either end of a query are read directly from the wrapped series.
+ *
+ * If the wrapped series implements {@link Versioned}, the index is rebuilt automatically by the
+ * first query following a change to the series.  If it implements {@link AppendVersioned}, as
+ * {@link SimpleXYSeries} does, points appended to the series are added to the existing index
+ * instead, in time proportional to the number of points appended; only other changes cause
+ * the index to be rebuilt.  <b>Otherwise the index is a snapshot of the wrapped series at the
+ * time it was built and {@link #reindex()} must be invoked after modifying the series; until
+ * then, queries may return stale y-values.</b>  Points appended after the index was built are
+ * still accounted for, but are scanned rather than indexed.
+ *
+ * The ordering of x-values is validated when the index is built or extended.  Because automatic
+ * updates typically happen while rendering, they do not throw if x-values are found to be out
+ * of order; {@link #getXOrder()} reports {@link XOrder#NONE} instead, until the series is
+ * ascending again.
+ * @since 1.5.12
+ */
+public class IndexedXYSeries implements RangeIndexedXYSeries, FastXYSeries, PrimitiveXYSeries, PlotListener, Versioned {
+
+    private static final int DEFAULT_BLOCK_SIZE = 32;
+
+    private final XYSeries series;
+    private final int blockSize;
+
+    // may have capacity for more leaves than are in use, to allow for appends:
+    private volatile MinMaxSegmentTree tree;
+
+    // number of leading leaves of tree that summarize a block of the series:
+    private volatile int indexedBlocks;
+
+    // the versions of the wrapped series when the index was last updated:
+    private volatile long indexedVersion;
+    private volatile long indexedRewriteVersion;
+
+    // number of points checked to be in ascending order and the last non-null x-value among them:
+    private int checkedSize;
+    private double checkedX;
+    private volatile boolean isAscending;
+
+    // incremented by each explicit reindex, which may follow changes to an unversioned series:
+    private volatile int reindexCount;
+
+    public IndexedXYSeries(XYSeries series) {
+        this(series, DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     *
+     * @param series The series to index.  Its x-values must be in ascending order.
+     * @param blockSize Number of points summarized by each leaf of the index.  Smaller values
+     *                  speed up queries at the expense of memory.  Must be > 0.
+     */
+    public IndexedXYSeries(XYSeries series, int blockSize) {
+        if(blockSize <= 0) {
+            throw new IllegalArgumentException("blockSize must be greater than 0.");
+        }
+        this.series = series;
+        this.blockSize = blockSize;
+        reindex();
+    }
+
+    /**
+     * Rebuild the index from the current contents of the wrapped series.  O(n).
+     * @throws IllegalArgumentException if the wrapped series' x-values are not in ascending order.
+     */
+    public synchronized void reindex() {
+        reindexCount++;
+        rebuild();
+        if(!isAscending) {
+            throw new IllegalArgumentException("XVals must be in ascending order; x("
+                    + checkedSize + ") is less than a previous value.");
+        }
+    }
+
+    private void rebuild() {
+        // read before scanning so that changes made while scanning trigger another update:
+        final long version = getSeriesVersion();
+        final long rewriteVersion = getSeriesRewriteVersion();
+        final int size = series.size();
+        final int blockCount = size / blockSize;
+        final double[] blockMins = new double[blockCount];
+        final double[] blockMaxs = new double[blockCount];
+        checkedSize = 0;
+        checkedX = Double.NaN;
+        isAscending = checkOrder(size);
+        for(int block = 0; block < blockCount; block++) {
+            final int start = block * blockSize;
+            blockMins[block] = scanY(start, start + blockSize, true);
+            blockMaxs[block] = scanY(start, start + blockSize, false);
+        }
+        tree = new MinMaxSegmentTree(blockMins, blockMaxs);
+        indexedBlocks = blockCount;
+        indexedVersion = version;
+        indexedRewriteVersion = rewriteVersion;
+    }
+
+    /**
+     * Adds the blocks completed by points appended since the index was last updated.  Leaves
+     * already in use are never modified, so queries in progress on other threads are unaffected.
+     */
+    private void extend() {
+        final long version = getSeriesVersion();
+        final int size = series.size();
+        final int blockCount = size / blockSize;
+        if(isAscending) {
+            isAscending = checkOrder(size);
+        }
+        MinMaxSegmentTree index = tree;
+        if(blockCount > index.size()) {
+            // grow geometrically so that appending is amortized O(1) per block:
+            index = copyOf(index, Math.max(blockCount, index.size() * 2));
+        }
+        for(int block = indexedBlocks; block < blockCount; block++) {
+            final int start = block * blockSize;
+            index.update(block, scanY(start, start + blockSize, true),
+                    scanY(start, start + blockSize, false));
+        }
+        // written before indexedBlocks; see minMaxY:
+        tree = index;
+        indexedBlocks = blockCount;
+        indexedVersion = version;
+    }
+
+    private MinMaxSegmentTree copyOf(MinMaxSegmentTree index, int capacity) {
+        final double[] blockMins = new double[capacity];
+        final double[] blockMaxs = new double[capacity];
+        Arrays.fill(blockMins, Double.NaN);
+        Arrays.fill(blockMaxs, Double.NaN);
+        for(int block = 0; block < indexedBlocks; block++) {
+            blockMins[block] = index.getMin(block, block + 1);
+            blockMaxs[block] = index.getMax(block, block + 1);
+        }
+        return new MinMaxSegmentTree(blockMins, blockMaxs);
+    }
+
+    /**
+     * Checks that the x-values of the points following those already checked are in
+     * ascending order, up to size.
+     * @param size
+     * @return False if an x-value is out of order, in which case checkedSize is its index.
+     */
+    private boolean checkOrder(int size) {
+        for(int i = checkedSize; i < size; i++) {
+            final double x = SeriesUtils.getXDouble(series, i);
+            if(x < checkedX) {
+                checkedSize = i;
+                return false;
+            }
+            if(!Double.isNaN(x)) {
+                checkedX = x;
+            }
+        }
+        checkedSize = size;
+        return true;
+    }
+
+    private long getSeriesVersion() {
+        return series instanceof Versioned ? ((Versioned) series).getVersion() : 0;
+    }
+
+    private long getSeriesRewriteVersion() {
+        return series instanceof AppendVersioned
+                ? ((AppendVersioned) series).getRewriteVersion() : getSeriesVersion();
+    }
+
+    /**
+     * Brings the index up to date if the wrapped series has changed; extending it if points
+     * were only appended and otherwise rebuilding it.
+     */
+    private void update() {
+        if (getSeriesVersion() != indexedVersion) {
+            synchronized (this) {
+                if (getSeriesVersion() != indexedVersion) {
+                    if(getSeriesRewriteVersion() == indexedRewriteVersion
+                            && series.size() >= indexedBlocks * blockSize) {
+                        extend();
+                    } else {
+                        rebuild();
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public Region minMaxY(int fromIndex, int toIndex) {
+        if(fromIndex < 0 || toIndex > size() || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException(
+                    "fromIndex: " + fromIndex + ", toIndex: " + toIndex + ", Size: " + size());
+        }
+        update();
+        // read in the reverse of the order in which they're written, so that tree is at least
+        // as current as indexedBlocks:
+        final int blocks = indexedBlocks;
+        final MinMaxSegmentTree tree = this.tree;
+
+        // whole blocks contained within the range:
+        final int firstBlock = (fromIndex + blockSize - 1) / blockSize;
+        final int lastBlock = Math.min(toIndex / blockSize, blocks);
+
+        double min;
+        double max;
+        if(firstBlock >= lastBlock) {
+            min = scanY(fromIndex, toIndex, true);
+            max = scanY(fromIndex, toIndex, false);
+        } else {
+            final int headEnd = firstBlock * blockSize;
+            final int tailStart = lastBlock * blockSize;
+            min = tree.getMin(firstBlock, lastBlock);
+            max = tree.getMax(firstBlock, lastBlock);
+            min = nanMin(min, nanMin(scanY(fromIndex, headEnd, true), scanY(tailStart, toIndex, true)));
+            max = nanMax(max, nanMax(scanY(fromIndex, headEnd, false), scanY(tailStart, toIndex, false)));
+        }
+        return Double.isNaN(min) ? null : new Region(min, max);
+    }
+
+    /**
+     * Scans a range of the wrapped series, ignoring points with a null x or y value.
+     * @param fromIndex
+     * @param toIndex
+     * @param isMin True to find the min, false to find the max.
+     * @return The min (or max) y-value or NaN if there is none.
+     */
+    private double scanY(int fromIndex, int toIndex, boolean isMin) {
+        double result = Double.NaN;
+        for(int i = fromIndex; i < toIndex; i++) {
+            if(Double.isNaN(SeriesUtils.getXDouble(series, i))) {
+                continue;
+            }
+            final double y = SeriesUtils.getYDouble(series, i);
+            result = isMin ? nanMin(result, y) : nanMax(result, y);
+        }
+        return result;
+    }
+
+    private static double nanMin(double a, double b) {
+        return Double.isNaN(a) || b < a ? b : a;
+    }
+
+    private static double nanMax(double a, double b) {
+        return Double.isNaN(a) || b > a ? b : a;
+    }
+
+    /**
+     * X bounds are read from the first and last non-null x-values while y bounds are read
+     * from the index.
+     * @return
+     */
+    @Override
+    public RectRegion minMax() {
+        final int size = size();
+        if(size == 0) {
+            return null;
+        }
+        Number minX = null;
+        Number maxX = null;
+        for(int i = 0; i < size && minX == null; i++) {
+            minX = series.getX(i);
+        }
+        for(int i = size - 1; i >= 0 && maxX == null; i--) {
+            maxX = series.getX(i);
+        }
+        final Region y = minMaxY(0, size);
+        return new RectRegion(minX, maxX,
+                y != null ? y.getMin() : null, y != null ? y.getMax() : null);
+    }
+
+    /**
+     * @return {@link XOrder#ASCENDING} unless x-values were found to be out of order when the
+     * index was last updated, in which case {@link XOrder#NONE}.
+     */
+    @Override
+    public XOrder getXOrder() {
+        update();
+        return isAscending ? XOrder.ASCENDING : XOrder.NONE;
+    }
+
+    @Override
+    public void onBeforeDraw(Plot source, Canvas canvas) {
+        if(series instanceof PlotListener) {
+            ((PlotListener) series).onBeforeDraw(source, canvas);
+        }
+    }
+
+    @Override
+    public void onAfterDraw(Plot source, Canvas canvas) {
+        if(series instanceof PlotListener) {
+            ((PlotListener) series).onAfterDraw(source, canvas);
+        }
+    }
+
+    /**
+     * @return The version of the wrapped series if it implements {@link Versioned}, combined
+     * with the number of times {@link #reindex()} has been invoked.
+     */
+    @Override
+    public long getVersion() {
+        return 31 * getSeriesVersion() + reindexCount;
+    }
+
+    /**
+     * @return The series being indexed.
+     */
+    public XYSeries getSeries() {
+        return series;
+    }
+
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    @Override
+    public String getTitle() {
+        return series.getTitle();
+    }
+
+    @Override
+    public int size() {
+        return series.size();
+    }
+
+    @Override
+    public Number getX(int index) {
+        return series.getX(index);
+    }
+
+    @Override
+    public Number getY(int index) {
+        return series.getY(index);
+    }
+
+    @Override
+    public double getXDouble(int index) {
+        return SeriesUtils.getXDouble(series, index);
+    }
+
+    @Override
+    public double getYDouble(int index) {
+        return SeriesUtils.getYDouble(series, index);
+    }
+
+    @Override
+    public void copyX(int fromIndex, int toIndex, double[] dst) {
+        SeriesUtils.copyX(series, fromIndex, toIndex, dst);
+    }
+
+    @Override
+    public void copyY(int fromIndex, int toIndex, double[] dst) {
+        SeriesUtils.copyY(series, fromIndex, toIndex, dst);
+    }
+}
@@ -2,6 +2,8 @@ package com.androidplot.xy;
 
 import android.util.*;
 
+import com.androidplot.util.SeriesUtils;
+
 /**
  * Adapted from:
  * https://github.com/drcrane/downsample
@@ -37,6 +39,10 @@ public class LTTBSampler implements Sampler {
             throw new RuntimeException("Shouldnt be here!");
         }
 
+        // values are read as primitives to avoid boxing; see PrimitiveXYSeries:
+        final PrimitiveXYSeries primitiveData =
+                rawData instanceof PrimitiveXYSeries ? (PrimitiveXYSeries) rawData : null;
+
         int sampledIndex = 0;
         // Bucket size. Leave room for start and end data points
         final double bucketSize = (double) (dataLength - 2) / (threshold - 2);
@@ -53,39 +59,43 @@ public class LTTBSampler implements Sampler {
             pointCEnd = pointCEnd < dataLength ? pointCEnd : dataLength;
             final int pointCSize = pointCEnd - pointCStart;
             for (; pointCStart < pointCEnd; pointCStart++) {
-                if(rawData.getX(pointCStart + startIndex) != null) {
-                    pointCX += rawData.getX(pointCStart + startIndex).doubleValue();
+                final double cx = getX(rawData, primitiveData, pointCStart + startIndex);
+                if(!Double.isNaN(cx)) {
+                    pointCX += cx;
                 }
 
-                if(rawData.getY(pointCStart + startIndex) != null) {
-                    pointCY += rawData.getY(pointCStart + startIndex).doubleValue();
+                final double cy = getY(rawData, primitiveData, pointCStart + startIndex);
+                if(!Double.isNaN(cy)) {
+                    pointCY += cy;
                 }
             }
             pointCX /= pointCSize;
             pointCY /= pointCSize;
-            double pointAX = rawData.getX(a + startIndex).doubleValue();
-            double pointAY = rawData.getY(a + startIndex).doubleValue();
+            final double pointAX = getX(rawData, primitiveData, a + startIndex);
+            final double pointAY = getY(rawData, primitiveData, a + startIndex);
             // Get the range for bucket b
             int pointBStart = (int) Math.floor((i + 0) * bucketSize) + 1;
             final int pointBEnd = (int) Math.floor((i + 1) * bucketSize) + 1;
             double maxArea = -1;
-            XYCoords maxAreaPoint = null;
+            int maxAreaIndex = -1;
             for (; pointBStart < pointBEnd; pointBStart++) {
-                final double area = Math.abs((pointAX - pointCX) * (rawData.getY(pointBStart + startIndex)
-                        .doubleValue() - pointAY) - (pointAX - rawData.getX(pointBStart + startIndex)
-                        .doubleValue())
+                final double area = Math.abs((pointAX - pointCX) * (getY(rawData, primitiveData, pointBStart + startIndex)
+                        - pointAY) - (pointAX - getX(rawData, primitiveData, pointBStart + startIndex))
                         * (pointCY - pointAY)) * 0.5;
+
+                // NaN areas (null values) never satisfy this check:
                 if (area > maxArea) {
-                    if(rawData.getY(pointBStart + startIndex) == null) {
-                        Log.i("LTTB", "Null value encountered in raw data at index: " + pointBStart);
-                    }
                     maxArea = area;
-                    maxAreaPoint = new XYCoords(rawData.getX(pointBStart + startIndex),
-                            rawData.getY(pointBStart + startIndex));
+                    maxAreaIndex = pointBStart;
                     nextA = pointBStart; // Next a is this b
                 }
             }
-            setSample(sampled, maxAreaPoint.x, maxAreaPoint.y, sampledIndex, bounds);
+            if(maxAreaIndex < 0) {
+                Log.i("LTTB", "No non-null value encountered in raw data bucket starting at index: "
+                        + ((int) Math.floor(i * bucketSize) + 1));
+                maxAreaIndex = pointBEnd - 1;
+            }
+            setSample(rawData, sampled, maxAreaIndex + startIndex, sampledIndex, bounds);
             sampledIndex++;
             a = nextA; // This a is the next a (chosen b)
         }
@@ -94,6 +104,16 @@ public class LTTBSampler implements Sampler {
         return bounds;
     }
 
+    private static double getX(XYSeries series, PrimitiveXYSeries primitiveSeries, int index) {
+        return primitiveSeries != null ?
+                primitiveSeries.getXDouble(index) : SeriesUtils.getXDouble(series, index);
+    }
+
+    private static double getY(XYSeries series, PrimitiveXYSeries primitiveSeries, int index) {
+        return primitiveSeries != null ?
+                primitiveSeries.getYDouble(index) : SeriesUtils.getYDouble(series, index);
+    }
+
     protected void setSample(XYSeries raw, EditableXYSeries sampled, int rawIndex, int sampleIndex, RectRegion bounds) {
         setSample(sampled, raw.getX(rawIndex), raw.getY(rawIndex), sampleIndex, bounds);
     }
@@ -42,6 +42,7 @@ public class LineAndPointFormatter extends XYSeriesFormatter<XYRegionFormatter>
      */
     public void setFillDirection(FillDirection fillDirection) {
         this.fillDirection = fillDirection;
+        markChanged();
     }
 
     protected FillDirection fillDirection = FillDirection.BOTTOM;
@@ -49,6 +50,7 @@ public class LineAndPointFormatter extends XYSeriesFormatter<XYRegionFormatter>
     protected Paint vertexPaint;
     protected Paint fillPaint;
     protected InterpolationParams interpolationParams;
+    protected boolean decimationEnabled;
 
     public LineAndPointFormatter(Context context, int xmlCfgId) {
         super(context, xmlCfgId);
@@ -142,6 +144,7 @@ public class LineAndPointFormatter extends XYSeriesFormatter<XYRegionFormatter>
 
     public void setLinePaint(Paint linePaint) {
         this.linePaint = linePaint;
+        markChanged();
     }
 
     /**
@@ -167,6 +170,7 @@ public class LineAndPointFormatter extends XYSeriesFormatter<XYRegionFormatter>
 
     public void setVertexPaint(Paint vertexPaint) {
         this.vertexPaint = vertexPaint;
+        markChanged();
     }
 
     /**
@@ -191,6 +195,7 @@ public class LineAndPointFormatter extends XYSeriesFormatter<XYRegionFormatter>
 
     public void setFillPaint(Paint fillPaint) {
         this.fillPaint = fillPaint;
+        markChanged();
     }
 
     public InterpolationParams getInterpolationParams() {
@@ -199,5 +204,24 @@ public class LineAndPointFormatter extends XYSeriesFormatter<XYRegionFormatter>
 
     public void setInterpolationParams(InterpolationParams params) {
         this.interpolationParams = params;
+        markChanged();
+    }
+
+    public boolean isDecimationEnabled() {
+        return decimationEnabled;
+    }
+
+    /**
+     * When enabled, visible points are reduced to at most four vertices per pixel column (see
+     * {@link PixelColumnDecimator}) as they are transformed into screen coordinates, greatly
+     * reducing draw time for series with many more points than the plot is wide.  The rendered
+     * line is visually unchanged but vertices and point labels are only drawn for retained points.
+     * Disabled by default.
+     * @param decimationEnabled
+     * @since 1.5.12
+     */
+    public void setDecimationEnabled(boolean decimationEnabled) {
+        this.decimationEnabled = decimationEnabled;
+        markChanged();
     }
 }
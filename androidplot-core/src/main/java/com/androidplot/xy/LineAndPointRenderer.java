@@ -43,6 +43,14 @@ public class LineAndPointRenderer<FormatterType extends LineAndPointFormatter> e
 
     private final Path path = new Path();
 
+    // scratch buffers used to bulk copy visible xy values as primitives:
+    private double[] xVals = new double[0];
+    private double[] yVals = new double[0];
+
+    // used when the formatter enables decimation:
+    private final PixelColumnDecimator decimator = new PixelColumnDecimator();
+    private float[] screenVals = new float[0];
+
     protected final ConcurrentHashMap<XYSeries, ArrayList<PointF>> pointsCaches
             = new ConcurrentHashMap<>(2, 0.75f, 2);
 
@@ -148,12 +156,17 @@ public class LineAndPointRenderer<FormatterType extends LineAndPointFormatter> e
                 iEnd++;
             }
         }
-        for (int i = iStart; i < iEnd; i++) {
-            final Number y = series.getY(i);
-            final Number x = series.getX(i);
+        copyVisibleValues(series, iStart, iEnd);
+        final int count = formatter.isDecimationEnabled() ?
+                decimate(plotArea, points, iStart, iEnd) : iEnd - iStart;
+        for (int k = 0; k < count; k++) {
+            final int j = formatter.isDecimationEnabled() ? decimator.get(k) : k;
+            final int i = iStart + j;
+            final double y = yVals[j];
+            final double x = xVals[j];
             PointF iPoint = points.get(i);
 
-            if (y != null && x != null) {
+            if (!Double.isNaN(y) && !Double.isNaN(x)) {
                 if(iPoint == null) {
                     iPoint = new PointF();
                     points.set(i, iPoint);
@@ -216,6 +229,59 @@ public class LineAndPointRenderer<FormatterType extends LineAndPointFormatter> e
         renderPoints(canvas, plotArea, series, iStart, iEnd, points, formatter);
     }
 
+    /**
+     * Bulk copies the xy values in the range iStart (inclusive) to iEnd (exclusive) into
+     * primitive scratch buffers, avoiding per-point boxing for {@link PrimitiveXYSeries}.
+     * @param series
+     * @param iStart
+     * @param iEnd
+     */
+    private void copyVisibleValues(XYSeries series, int iStart, int iEnd) {
+        final int len = iEnd - iStart;
+        if(xVals.length < len) {
+            xVals = new double[len];
+            yVals = new double[len];
+        }
+        SeriesUtils.copyX(series, iStart, iEnd, xVals);
+        SeriesUtils.copyY(series, iStart, iEnd, yVals);
+    }
+
+    /**
+     * Transforms the visible values copied by {@link #copyVisibleValues(XYSeries, int, int)}
+     * into screen coordinates and reduces them to at most four points per pixel column.
+     * Cached points that are not retained are cleared so that no vertices are drawn for them.
+     * @return The number of points retained; retained indices are available via the decimator.
+     */
+    private int decimate(RectF plotArea, List<PointF> points, int iStart, int iEnd) {
+        final int len = iEnd - iStart;
+        if(screenVals.length < len * 2) {
+            screenVals = new float[len * 2];
+        }
+        final RectRegion bounds = getPlot().getBounds();
+        final PointF screenPoint = new PointF();
+        for(int j = 0; j < len; j++) {
+            final double x = xVals[j];
+            final double y = yVals[j];
+            if(Double.isNaN(x) || Double.isNaN(y)) {
+                screenVals[j * 2] = Float.NaN;
+                screenVals[j * 2 + 1] = Float.NaN;
+            } else {
+                bounds.transformScreen(screenPoint, x, y, plotArea);
+                screenVals[j * 2] = screenPoint.x;
+                screenVals[j * 2 + 1] = screenPoint.y;
+            }
+        }
+        final int count = decimator.decimate(screenVals, len);
+        for(int j = 0, k = 0; j < len; j++) {
+            if(k < count && decimator.get(k) == j) {
+                k++;
+            } else {
+                points.set(iStart + j, null);
+            }
+        }
+        return count;
+    }
+
     /**
      * TODO: retrieve from a persistent registry
      * @param params
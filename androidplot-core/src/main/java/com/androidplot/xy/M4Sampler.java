@@ -0,0 +1,129 @@
+package com.androidplot.xy;
+
+import com.androidplot.util.SeriesUtils;
+
+/**
+ * An implementation of the M4 aggregation algorithm: input is divided into buckets and the first,
+ * last, min-y and max-y points of each bucket are kept, in their original order.  Sampling is a
+ * single linear pass over the input and, unlike {@link LTTBSampler}, preserves every local extreme,
+ * making it a good fit for dense waveform data where spikes must not be dropped.
+ *
+ * Input is divided into output.size() / 4 buckets.  If the input is an {@link OrderedXYSeries}
+ * whose x-values are {@link com.androidplot.xy.OrderedXYSeries.XOrder#ASCENDING}, buckets span
+ * equal x-ranges; when the bucket count matches the plot's width in pixels, a line chart of
+ * the output is then pixel-identical to one of the input.  Otherwise buckets span equal index
+ * ranges.
+ *
+ * Points with a null x or y-value are skipped.  Since buckets that are empty or whose
+ * extremes coincide produce fewer than four points, output is resized to the number of
+ * points actually produced; it must therefore support {@link EditableXYSeries#resize(int)}.
+ *
+ * Basic usage example:
+ * <pre>
+ * {@code
+ * // one bucket per pixel of a plot 1000px wide:
+ * EditableXYSeries sampledSeries = new FixedSizeEditableXYSeries(
+ * originalSeries.getTitle(), 4 * 1000);
+ * new M4Sampler().run(originalSeries, sampledSeries);
+ * }
+ * </pre>
+ * @since 1.5.12
+ */
+public class M4Sampler implements Sampler {
+
+    @Override
+    public RectRegion run(XYSeries input, EditableXYSeries output) {
+        final RectRegion bounds = new RectRegion();
+        final int inputSize = input.size();
+        if (output.size() < 4) {
+            // room for at least one complete bucket:
+            output.resize(4);
+        }
+        final int bucketCount = Math.max(1, output.size() / 4);
+        final boolean isAscending =
+                SeriesUtils.getXYOrder(input) == OrderedXYSeries.XOrder.ASCENDING;
+
+        // x-range used to assign points to buckets when input is ascending:
+        double minX = Double.NaN;
+        double maxX = Double.NaN;
+        if (isAscending) {
+            for (int i = 0; i < inputSize && Double.isNaN(minX); i++) {
+                minX = SeriesUtils.getXDouble(input, i);
+            }
+            for (int i = inputSize - 1; i >= 0 && Double.isNaN(maxX); i--) {
+                maxX = SeriesUtils.getXDouble(input, i);
+            }
+        }
+        final double bucketWidth = (maxX - minX) / bucketCount;
+
+        final int[] indices = new int[4];
+        int outputSize = 0;
+        int bucket = -1;
+        int first = -1;
+        int last = -1;
+        int min = -1;
+        int max = -1;
+        double minY = Double.NaN;
+        double maxY = Double.NaN;
+        for (int i = 0; i < inputSize; i++) {
+            final double x = SeriesUtils.getXDouble(input, i);
+            final double y = SeriesUtils.getYDouble(input, i);
+            if (Double.isNaN(x) || Double.isNaN(y)) {
+                continue;
+            }
+
+            final int thisBucket;
+            if (!isAscending) {
+                thisBucket = (int) ((long) i * bucketCount / inputSize);
+            } else if (bucketWidth > 0) {
+                thisBucket = Math.min(bucketCount - 1, (int) ((x - minX) / bucketWidth));
+            } else {
+                thisBucket = 0;
+            }
+
+            if (thisBucket != bucket) {
+                if (first >= 0) {
+                    outputSize = emit(input, output, outputSize, indices, first, min, max, last, bounds);
+                }
+                bucket = thisBucket;
+                first = min = max = i;
+                minY = maxY = y;
+            } else if (y < minY) {
+                min = i;
+                minY = y;
+            } else if (y > maxY) {
+                max = i;
+                maxY = y;
+            }
+            last = i;
+        }
+        if (first >= 0) {
+            outputSize = emit(input, output, outputSize, indices, first, min, max, last, bounds);
+        }
+        output.resize(outputSize);
+        return bounds;
+    }
+
+    /**
+     * Copies the distinct points of a bucket into output in ascending index order.
+     * @return The new size of output.
+     */
+    private static int emit(XYSeries input, EditableXYSeries output, int outputSize, int[] indices,
+                            int first, int min, int max, int last, RectRegion bounds) {
+        indices[0] = first;
+        indices[1] = Math.min(min, max);
+        indices[2] = Math.max(min, max);
+        indices[3] = last;
+        int previous = -1;
+        for (int index : indices) {
+            if (index != previous) {
+                final double x = SeriesUtils.getXDouble(input, index);
+                final double y = SeriesUtils.getYDouble(input, index);
+                bounds.union(x, y);
+                SeriesUtils.setXY(output, x, y, outputSize++);
+                previous = index;
+            }
+        }
+        return outputSize;
+    }
+}
@@ -0,0 +1,319 @@
+package com.androidplot.xy;
+
+import com.androidplot.Versioned;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * A read-only {@link XYSeries} backed by a memory mapped columnar binary file, for datasets too
+ * large to fit on the Java heap.  Values are paged in by the OS on demand, so when combined with
+ * the index culling performed by the renderers for ascending series, reads are largely confined to
+ * the visible slice of the file.  Bounds are precomputed and stored in the file's header.
+ *
+ * Files are written by {@link #write(File, XYSeries)} and have the following layout, with all
+ * values stored little-endian:
+ * <pre>
+ * header (64 bytes):
+ *   int    magic ('APXY')
+ *   int    version
+ *   int    flags (bit 0: x-values are ascending, bit 1: a null bitmap is present)
+ *   int    reserved
+ *   long   count
+ *   double minX, maxX, minY, maxY (NaN if there are no non-null values)
+ *   long   reserved
+ * x column: count doubles
+ * y column: count doubles
+ * null bitmap (optional): ceil(count / 64) longs; bit i set means y(i) is null.
+ * </pre>
+ * A null x-value is stored as {@link Double#NaN}.  When the null bitmap is present, null
+ * y-values are stored as 0 in the y column so that the column can be consumed as is by other
+ * tools, otherwise they are stored as {@link Double#NaN}.
+ * @since 1.5.12
+ */
+public class MappedXYSeries implements FastXYSeries, OrderedXYSeries, PrimitiveXYSeries, Versioned {
+
+    static final int MAGIC = 0x41505859;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 64;
+    static final int FLAG_ASCENDING = 1;
+    static final int FLAG_NULL_BITMAP = 1 << 1;
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private final String title;
+    private final int size;
+    private final XOrder xOrder;
+    private final RectRegion bounds;
+
+    private final DoubleBuffer xVals;
+    private final DoubleBuffer yVals;
+
+    // null if the file does not contain a null bitmap:
+    private final LongBuffer nullBits;
+
+    /**
+     * Maps the specified file into memory.  The file is not read beyond its header until values
+     * are accessed.
+     * @param file A file previously written by {@link #write(File, XYSeries)}.
+     * @param title Title of the series
+     * @throws IOException if the file could not be read or is not a valid series file.
+     */
+    public MappedXYSeries(File file, String title) throws IOException {
+        this.title = title;
+        final FileInputStream in = new FileInputStream(file);
+        try {
+            final FileChannel channel = in.getChannel();
+            final ByteBuffer header = map(channel, 0, HEADER_SIZE);
+            if(header.getInt() != MAGIC) {
+                throw new IOException(file + " is not a series file.");
+            }
+            final int version = header.getInt();
+            if(version != VERSION) {
+                throw new IOException("Unsupported series file version: " + version);
+            }
+            final int flags = header.getInt();
+            header.getInt();
+            final long count = header.getLong();
+            if(count < 0 || count * 8 > Integer.MAX_VALUE) {
+                throw new IOException("Unsupported series size: " + count);
+            }
+            size = (int) count;
+            xOrder = (flags & FLAG_ASCENDING) != 0 ? XOrder.ASCENDING : XOrder.NONE;
+            bounds = new RectRegion(toNumber(header.getDouble()), toNumber(header.getDouble()),
+                    toNumber(header.getDouble()), toNumber(header.getDouble()));
+
+            final long columnSize = count * 8;
+            xVals = map(channel, HEADER_SIZE, columnSize).asDoubleBuffer();
+            yVals = map(channel, HEADER_SIZE + columnSize, columnSize).asDoubleBuffer();
+            nullBits = (flags & FLAG_NULL_BITMAP) != 0 ?
+                    map(channel, HEADER_SIZE + 2 * columnSize, bitmapSize(size)).asLongBuffer() : null;
+        } finally {
+            in.close();
+        }
+    }
+
+    static ByteBuffer map(FileChannel channel, long position, long size) throws IOException {
+        if(position + size > channel.size()) {
+            throw new IOException("Series file is truncated.");
+        }
+        final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        return buffer;
+    }
+
+    private static long bitmapSize(long count) {
+        return ((count + 63) / 64) * 8;
+    }
+
+    /**
+     * Writes the contents of series to a file that can be mapped by {@link MappedXYSeries}.
+     * Values are streamed out of series in two passes, so series itself need not hold its
+     * values on the heap.  A null bitmap is written only if series contains null y-values.
+     * @param file The file to write; will be overwritten if it exists.
+     * @param series Must contain less than 2^28 elements.
+     * @throws IOException
+     */
+    public static void write(File file, XYSeries series) throws IOException {
+        final int count = series.size();
+        if((long) count * 8 > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Series size exceeds max supported size: " + count);
+        }
+
+        boolean isAscending = true;
+        double minX = Double.NaN;
+        double maxX = Double.NaN;
+        double minY = Double.NaN;
+        double maxY = Double.NaN;
+        final long[] nulls = new long[(int) (bitmapSize(count) / 8)];
+        boolean hasNulls = false;
+
+        final FileOutputStream out = new FileOutputStream(file);
+        try {
+            final FileChannel channel = out.getChannel();
+            final ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+
+            // x column:
+            channel.position(HEADER_SIZE);
+            for(int i = 0; i < count; i++) {
+                final Number xi = series.getX(i);
+                final double x = xi != null ? xi.doubleValue() : Double.NaN;
+                if(!Double.isNaN(x)) {
+                    if(x < maxX) {
+                        isAscending = false;
+                    }
+                    minX = Double.isNaN(minX) || x < minX ? x : minX;
+                    maxX = Double.isNaN(maxX) || x > maxX ? x : maxX;
+                }
+                putDouble(channel, buffer, x);
+            }
+
+            // y column:
+            for(int i = 0; i < count; i++) {
+                final Number yi = series.getY(i);
+                if(yi == null) {
+                    nulls[i / 64] |= 1L << (i % 64);
+                    hasNulls = true;
+                    putDouble(channel, buffer, 0);
+                } else {
+                    final double y = yi.doubleValue();
+                    minY = Double.isNaN(minY) || y < minY ? y : minY;
+                    maxY = Double.isNaN(maxY) || y > maxY ? y : maxY;
+                    putDouble(channel, buffer, y);
+                }
+            }
+
+            if(hasNulls) {
+                for(long bits : nulls) {
+                    if(buffer.remaining() < 8) {
+                        flush(channel, buffer);
+                    }
+                    buffer.putLong(bits);
+                }
+            }
+            flush(channel, buffer);
+
+            int flags = 0;
+            if(isAscending) {
+                flags |= FLAG_ASCENDING;
+            }
+            if(hasNulls) {
+                flags |= FLAG_NULL_BITMAP;
+            }
+            buffer.putInt(MAGIC)
+                    .putInt(VERSION)
+                    .putInt(flags)
+                    .putInt(0)
+                    .putLong(count)
+                    .putDouble(minX)
+                    .putDouble(maxX)
+                    .putDouble(minY)
+                    .putDouble(maxY)
+                    .putLong(0);
+            channel.position(0);
+            flush(channel, buffer);
+        } finally {
+            out.close();
+        }
+    }
+
+    static void putDouble(FileChannel channel, ByteBuffer buffer, double value) throws IOException {
+        if(buffer.remaining() < 8) {
+            flush(channel, buffer);
+        }
+        buffer.putDouble(value);
+    }
+
+    static void flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while(buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Bounds are read from the file header, so no values need to be paged in.
+     * @return The min/max values of this series or null if the series is empty.
+     */
+    @Override
+    public RectRegion minMax() {
+        return size > 0 ? bounds : null;
+    }
+
+    /**
+     * @return {@link com.androidplot.xy.OrderedXYSeries.XOrder#ASCENDING} if the x-values were
+     * found to be ascending when the file was written, otherwise
+     * {@link com.androidplot.xy.OrderedXYSeries.XOrder#NONE}.
+     */
+    @Override
+    public XOrder getXOrder() {
+        return xOrder;
+    }
+
+    @Override
+    public String getTitle() {
+        return title;
+    }
+
+    /**
+     * @return Always 0; the series is read-only.
+     */
+    @Override
+    public long getVersion() {
+        return 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Number getX(int index) {
+        return toNumber(getXDouble(index));
+    }
+
+    @Override
+    public Number getY(int index) {
+        return toNumber(getYDouble(index));
+    }
+
+    @Override
+    public double getXDouble(int index) {
+        return xVals.get(index);
+    }
+
+    @Override
+    public double getYDouble(int index) {
+        return isNull(index) ? Double.NaN : yVals.get(index);
+    }
+
+    @Override
+    public void copyX(int fromIndex, int toIndex, double[] dst) {
+        copy(xVals, fromIndex, toIndex, dst);
+    }
+
+    @Override
+    public void copyY(int fromIndex, int toIndex, double[] dst) {
+        copy(yVals, fromIndex, toIndex, dst);
+        if(nullBits != null) {
+            for(int i = fromIndex; i < toIndex; i++) {
+                if(isNull(i)) {
+                    dst[i - fromIndex] = Double.NaN;
+                }
+            }
+        }
+    }
+
+    private boolean isNull(int index) {
+        return nullBits != null && (nullBits.get(index / 64) & (1L << (index % 64))) != 0;
+    }
+
+    /**
+     * Copies using a duplicate of the buffer, leaving the shared buffer's position untouched
+     * so that concurrent reads remain safe.
+     */
+    private void copy(DoubleBuffer src, int fromIndex, int toIndex, double[] dst) {
+        if(fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException(
+                    "fromIndex: " + fromIndex + ", toIndex: " + toIndex + ", Size: " + size);
+        }
+        final DoubleBuffer view = src.duplicate();
+        view.position(fromIndex);
+        view.get(dst, 0, toIndex - fromIndex);
+    }
+
+    private static Number toNumber(double value) {
+        return Double.isNaN(value) ? null : value;
+    }
+}
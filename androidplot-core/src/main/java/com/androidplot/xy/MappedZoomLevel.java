@@ -0,0 +1,82 @@
+package com.androidplot.xy;
+
+import java.nio.DoubleBuffer;
+
+/**
+ * A read-only zoom level of a {@link SampledXYSeries} whose values are read from a memory mapped
+ * file written by {@link SampledXYSeries#write(java.io.File)}.  Null values are stored as
+ * {@link Double#NaN}.  Mapped levels are replaced by heap allocated levels when the series is
+ * resampled, and are copied onto the heap by {@link SampledXYSeries#getZoomLevels()} for
+ * subclasses that need to edit them.
+ * @since 1.5.12
+ */
+class MappedZoomLevel implements PrimitiveXYSeries {
+
+    private final String title;
+    private final DoubleBuffer xVals;
+    private final DoubleBuffer yVals;
+
+    MappedZoomLevel(String title, DoubleBuffer xVals, DoubleBuffer yVals) {
+        this.title = title;
+        this.xVals = xVals;
+        this.yVals = yVals;
+    }
+
+    @Override
+    public String getTitle() {
+        return title;
+    }
+
+    @Override
+    public int size() {
+        return xVals.capacity();
+    }
+
+    @Override
+    public Number getX(int index) {
+        return toNumber(getXDouble(index));
+    }
+
+    @Override
+    public Number getY(int index) {
+        return toNumber(getYDouble(index));
+    }
+
+    @Override
+    public double getXDouble(int index) {
+        return xVals.get(index);
+    }
+
+    @Override
+    public double getYDouble(int index) {
+        return yVals.get(index);
+    }
+
+    @Override
+    public void copyX(int fromIndex, int toIndex, double[] dst) {
+        copy(xVals, fromIndex, toIndex, dst);
+    }
+
+    @Override
+    public void copyY(int fromIndex, int toIndex, double[] dst) {
+        copy(yVals, fromIndex, toIndex, dst);
+    }
+
+    /**
+     * Copies using a duplicate of the buffer, leaving the shared buffer's position untouched
+     * so that concurrent reads remain safe.
+     */
+    private void copy(DoubleBuffer src, int fromIndex, int toIndex, double[] dst) {
+        if (fromIndex < 0 || toIndex > size() || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException(
+                    "fromIndex: " + fromIndex + ", toIndex: " + toIndex + ", Size: " + size());
+        }
+        final DoubleBuffer view = src.duplicate();
+        view.position(fromIndex);
+        view.get(dst, 0, toIndex - fromIndex);
+    }
+
+    private static Number toNumber(double value) {
+        return Double.isNaN(value) ? null : value;
+    }
+}
@@ -0,0 +1,266 @@
+package com.androidplot.xy;
+
+import com.androidplot.util.SeriesUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * A null-safe, multi-threaded variant of {@link LTTBSampler} for very large series.
+ *
+ * Input is first split into segments at each run of null values (points with a null x or
+ * y-value), and segments are further split into chunks of at most chunkSize points.  The
+ * output's capacity is distributed among chunks in proportion to their size and each chunk is
+ * sampled independently with LTTB on a {@link ForkJoinPool}.  Results are stitched together in
+ * order with a single null point between segments, so gaps in the input are preserved.
+ *
+ * Because chunk boundaries always retain their first and last points, results differ
+ * slightly from those of {@link LTTBSampler} when input spans more than one chunk.  Output is
+ * resized to the number of points actually produced, which never exceeds its original size.
+ *
+ * Requires API level 21 or later on Android.
+ * @since 1.5.12
+ */
+public class ParallelLTTBSampler implements Sampler {
+
+    private static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+
+    private static ForkJoinPool defaultPool;
+
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+
+    /**
+     * A contiguous range of non-null input, sampled into a contiguous range of the result.
+     */
+    private static class Chunk {
+        final int from;
+        final int to;
+        final boolean startsSegment;
+        int offset;
+        int capacity;
+
+        Chunk(int from, int to, boolean startsSegment) {
+            this.from = from;
+            this.to = to;
+            this.startsSegment = startsSegment;
+        }
+
+        int size() {
+            return to - from;
+        }
+    }
+
+    /**
+     * Uses a shared pool with parallelism equal to the number of available processors.
+     */
+    public ParallelLTTBSampler() {
+        this(getDefaultPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     *
+     * @param pool The pool on which chunks are sampled.
+     * @param chunkSize Max number of input points sampled by a single task.  Must be > 2.
+     */
+    public ParallelLTTBSampler(ForkJoinPool pool, int chunkSize) {
+        if (chunkSize <= 2) {
+            throw new IllegalArgumentException("chunkSize must be greater than 2.");
+        }
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+    }
+
+    private static synchronized ForkJoinPool getDefaultPool() {
+        if (defaultPool == null) {
+            defaultPool = new ForkJoinPool();
+        }
+        return defaultPool;
+    }
+
+    @Override
+    public RectRegion run(final XYSeries input, EditableXYSeries output) {
+        final List<Chunk> chunks = split(input);
+        final int threshold = output.size();
+
+        // one slot is reserved for the null point separating each pair of segments:
+        int segments = 0;
+        int points = 0;
+        for (Chunk chunk : chunks) {
+            if (chunk.startsSegment) {
+                segments++;
+            }
+            points += chunk.size();
+        }
+        final int capacity = Math.max(0, threshold - Math.max(0, segments - 1));
+        allocate(chunks, points, capacity);
+
+        final double[] xVals = new double[capacity];
+        final double[] yVals = new double[capacity];
+        final List<RecursiveAction> tasks = new ArrayList<>(chunks.size());
+        for (final Chunk chunk : chunks) {
+            if (chunk.capacity > 0) {
+                tasks.add(new RecursiveAction() {
+                    @Override
+                    protected void compute() {
+                        sample(input, chunk, xVals, yVals);
+                    }
+                });
+            }
+        }
+        pool.invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                invokeAll(tasks);
+            }
+        });
+
+        // stitch results into output:
+        final RectRegion bounds = new RectRegion();
+        int size = 0;
+        boolean hasOutput = false;
+        boolean isGap = false;
+        for (Chunk chunk : chunks) {
+            isGap |= chunk.startsSegment && hasOutput;
+            if (chunk.capacity == 0) {
+                continue;
+            }
+            if (isGap) {
+                SeriesUtils.setXY(output, Double.NaN, Double.NaN, size++);
+                isGap = false;
+            }
+            for (int i = chunk.offset; i < chunk.offset + chunk.capacity; i++) {
+                bounds.union(xVals[i], yVals[i]);
+                SeriesUtils.setXY(output, xVals[i], yVals[i], size++);
+            }
+            hasOutput = true;
+        }
+        output.resize(size);
+        return bounds;
+    }
+
+    /**
+     * Splits input into chunks of consecutive non-null points, at most chunkSize in length.
+     */
+    private List<Chunk> split(XYSeries input) {
+        final List<Chunk> chunks = new ArrayList<>();
+        final int size = input.size();
+        int start = -1;
+        for (int i = 0; i <= size; i++) {
+            final boolean isNull = i == size || Double.isNaN(SeriesUtils.getXDouble(input, i))
+                    || Double.isNaN(SeriesUtils.getYDouble(input, i));
+            if (isNull) {
+                if (start >= 0) {
+                    for (int from = start; from < i; from += chunkSize) {
+                        chunks.add(new Chunk(from, Math.min(i, from + chunkSize), from == start));
+                    }
+                }
+                start = -1;
+            } else if (start < 0) {
+                start = i;
+            }
+        }
+        return chunks;
+    }
+
+    /**
+     * Distributes capacity among chunks.  Capacity permitting, each chunk is guaranteed its
+     * end points (or failing that, its first point) so that short segments are not lost; the
+     * remaining capacity is distributed in proportion to chunk size, rounding cumulatively so
+     * that none is lost to rounding.
+     */
+    private static void allocate(List<Chunk> chunks, int points, int capacity) {
+        int minPerChunk = 2;
+        int reserved = 0;
+        for (; minPerChunk > 0; minPerChunk--) {
+            reserved = 0;
+            for (Chunk chunk : chunks) {
+                reserved += Math.min(chunk.size(), minPerChunk);
+            }
+            if (reserved <= capacity) {
+                break;
+            }
+        }
+        if (minPerChunk == 0) {
+            reserved = 0;
+        }
+
+        final int shared = capacity - reserved;
+        long cumulative = 0;
+        int offset = 0;
+        int previousEnd = 0;
+        for (Chunk chunk : chunks) {
+            cumulative += chunk.size();
+            final int end = points > 0 ? (int) Math.round((double) shared * cumulative / points) : 0;
+            chunk.offset = offset;
+            chunk.capacity = Math.min(chunk.size(), Math.min(chunk.size(), minPerChunk) + end - previousEnd);
+            offset += chunk.capacity;
+            previousEnd = end;
+        }
+    }
+
+    /**
+     * Samples a chunk with LTTB into its allocated range of xVals and yVals.  Chunks contain no
+     * null values.
+     */
+    private static void sample(XYSeries input, Chunk chunk, double[] xVals, double[] yVals) {
+        final int from = chunk.from;
+        final int length = chunk.size();
+        final int threshold = chunk.capacity;
+        int out = chunk.offset;
+
+        if (threshold >= length || threshold < 3) {
+            // keep everything, or as many of the end points as will fit:
+            for (int i = 0; i < threshold; i++) {
+                final int index = threshold >= length ? from + i : i == 0 ? from : from + length - 1;
+                xVals[out] = SeriesUtils.getXDouble(input, index);
+                yVals[out++] = SeriesUtils.getYDouble(input, index);
+            }
+            return;
+        }
+
+        final double bucketSize = (double) (length - 2) / (threshold - 2);
+        int a = from;
+        xVals[out] = SeriesUtils.getXDouble(input, a);
+        yVals[out++] = SeriesUtils.getYDouble(input, a);
+        for (int i = 0; i < threshold - 2; i++) {
+
+            // average of the next bucket, containing point c:
+            final int cStart = (int) Math.floor((i + 1) * bucketSize) + 1;
+            final int cEnd = Math.min((int) Math.floor((i + 2) * bucketSize) + 1, length);
+            final int cSize = cEnd - cStart;
+            double cX = 0;
+            double cY = 0;
+            for (int j = cStart; j < cEnd; j++) {
+                cX += SeriesUtils.getXDouble(input, from + j);
+                cY += SeriesUtils.getYDouble(input, from + j);
+            }
+            cX /= cSize;
+            cY /= cSize;
+
+            // point b of the current bucket forming the largest triangle with a and c:
+            final double aX = SeriesUtils.getXDouble(input, a);
+            final double aY = SeriesUtils.getYDouble(input, a);
+            final int bStart = (int) Math.floor(i * bucketSize) + 1;
+            final int bEnd = (int) Math.floor((i + 1) * bucketSize) + 1;
+            double maxArea = -1;
+            int b = from + bStart;
+            for (int j = bStart; j < bEnd; j++) {
+                final double bX = SeriesUtils.getXDouble(input, from + j);
+                final double bY = SeriesUtils.getYDouble(input, from + j);
+                final double area = Math.abs((aX - cX) * (bY - aY) - (aX - bX) * (cY - aY)) * 0.5;
+                if (area > maxArea) {
+                    maxArea = area;
+                    b = from + j;
+                }
+            }
+            xVals[out] = SeriesUtils.getXDouble(input, b);
+            yVals[out++] = SeriesUtils.getYDouble(input, b);
+            a = b;
+        }
+        xVals[out] = SeriesUtils.getXDouble(input, from + length - 1);
+        yVals[out] = SeriesUtils.getYDouble(input, from + length - 1);
+    }
+}
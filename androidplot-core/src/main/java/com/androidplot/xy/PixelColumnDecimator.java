@@ -0,0 +1,116 @@
+package com.androidplot.xy;
+
+/**
+ * Reduces a polyline in screen coordinates to at most four vertices per pixel column.  Each run of
+ * consecutive points falling within the same pixel column is replaced by the run's first, last,
+ * min-y and max-y points, in their original order.  Since a run is confined to a single column,
+ * the reduced line covers the same pixels as the original.
+ *
+ * Runs are formed by consecutive points rather than by sorting points into columns, so no
+ * ordering of the x-values is required; for ascending series each column holds a single run.
+ * Null points (those with a NaN coordinate) are retained to preserve gaps in the line, with
+ * consecutive nulls collapsed into one.
+ * @since 1.5.12
+ */
+public class PixelColumnDecimator {
+
+    private int[] indices = new int[0];
+    private int size;
+
+    // the run currently being accumulated:
+    private int column;
+    private int first = -1;
+    private int last;
+    private int min;
+    private int max;
+    private float minY;
+    private float maxY;
+
+    /**
+     * Decimates the specified points.  Retained indices are available via {@link #get(int)}
+     * until the next invocation.
+     * @param points Screen coordinates stored as x0, y0, x1, y1, ...; use {@link Float#NaN}
+     *               to represent a null point.
+     * @param count Number of points to decimate.
+     * @return The number of points retained.
+     */
+    public int decimate(float[] points, int count) {
+        if (indices.length < count) {
+            indices = new int[count];
+        }
+        size = 0;
+        first = -1;
+        boolean isLastPointNull = false;
+        for (int i = 0; i < count; i++) {
+            final float x = points[i * 2];
+            final float y = points[i * 2 + 1];
+            if (Float.isNaN(x) || Float.isNaN(y)) {
+                flush();
+                if (!isLastPointNull) {
+                    indices[size++] = i;
+                    isLastPointNull = true;
+                }
+                continue;
+            }
+            isLastPointNull = false;
+
+            final int thisColumn = (int) Math.floor(x);
+            if (first >= 0 && thisColumn == column) {
+                if (y < minY) {
+                    min = i;
+                    minY = y;
+                } else if (y > maxY) {
+                    max = i;
+                    maxY = y;
+                }
+            } else {
+                flush();
+                column = thisColumn;
+                first = min = max = i;
+                minY = maxY = y;
+            }
+            last = i;
+        }
+        flush();
+        return size;
+    }
+
+    /**
+     * Appends the distinct points of the current run, if any, in ascending index order.
+     */
+    private void flush() {
+        if (first < 0) {
+            return;
+        }
+        append(first);
+        append(Math.min(min, max));
+        append(Math.max(min, max));
+        append(last);
+        first = -1;
+    }
+
+    private void append(int index) {
+        if (size == 0 || indices[size - 1] != index) {
+            indices[size++] = index;
+        }
+    }
+
+    /**
+     * @return The number of points retained by the most recent invocation of
+     * {@link #decimate(float[], int)}.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param i
+     * @return The index, relative to the decimated points, of the i-th retained point.
+     */
+    public int get(int i) {
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException("Index: " + i + ", Size: " + size);
+        }
+        return indices[i];
+    }
+}
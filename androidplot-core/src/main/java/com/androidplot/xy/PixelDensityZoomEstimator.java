@@ -0,0 +1,125 @@
+package com.androidplot.xy;
+
+import android.graphics.RectF;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * A {@link ZoomEstimator} that selects the coarsest zoom level of a {@link SampledXYSeries} that
+ * still provides at least pointsPerPixel visible points per pixel column of the plot's graph
+ * area, keeping visible detail constant across screen sizes while minimizing the number of
+ * points drawn.
+ *
+ * To keep the active level from flipping back and forth as the user pans and zooms, changing
+ * levels is subject to a hysteresis band: a coarser level is only selected once it would provide
+ * at least (1 + hysteresis) times the required density, and a finer level is only selected once
+ * the active level falls below (1 - hysteresis) times the required density.
+ *
+ * The number of visible points is estimated from the visible fraction of the series' x-range,
+ * assuming points are evenly distributed along the x-axis.
+ * @since 1.5.12
+ */
+public class PixelDensityZoomEstimator extends ZoomEstimator {
+
+    private static final float DEFAULT_POINTS_PER_PIXEL = 2;
+    private static final float DEFAULT_HYSTERESIS = 0.25f;
+
+    private final float pointsPerPixel;
+    private final float hysteresis;
+
+    // the active level of each series; -1 denotes the original, unsampled series:
+    private final Map<SampledXYSeries, Integer> levels = new WeakHashMap<>();
+
+    public PixelDensityZoomEstimator() {
+        this(DEFAULT_POINTS_PER_PIXEL, DEFAULT_HYSTERESIS);
+    }
+
+    /**
+     *
+     * @param pointsPerPixel Min number of points per pixel column to be drawn.  Must be > 0.
+     * @param hysteresis Fraction by which density must exceed the required density before a
+     *                   level is changed.  Must be >= 0 and < 1.
+     */
+    public PixelDensityZoomEstimator(float pointsPerPixel, float hysteresis) {
+        if (pointsPerPixel <= 0) {
+            throw new IllegalArgumentException("pointsPerPixel must be greater than 0.");
+        }
+        if (hysteresis < 0 || hysteresis >= 1) {
+            throw new IllegalArgumentException("hysteresis must be >= 0 and < 1.");
+        }
+        this.pointsPerPixel = pointsPerPixel;
+        this.hysteresis = hysteresis;
+    }
+
+    @Override
+    protected double calculateZoom(XYPlot plot, SampledXYSeries series) {
+        final RectF gridRect = plot.getGraph().getGridRect();
+        final RectRegion seriesBounds = series.getBounds();
+        if (gridRect == null || gridRect.width() <= 0 || seriesBounds == null
+                || !seriesBounds.getxRegion().isDefined()) {
+            return super.calculateZoom(plot, series);
+        }
+
+        final double seriesSpan = seriesBounds.getxRegion().length().doubleValue();
+        final double visibleSpan = plot.getBounds().getxRegion().length().doubleValue();
+        final int rawSize = series.getRawData().size();
+        final double visiblePoints = seriesSpan > 0 ?
+                Math.min(rawSize, rawSize * Math.abs(visibleSpan / seriesSpan)) : rawSize;
+        final double desiredFactor = visiblePoints / (pointsPerPixel * gridRect.width());
+
+        final int levelCount = (int) Math.round(
+                Math.log(series.getMaxZoomFactor()) / Math.log(series.getRatio()));
+        final Integer current = levels.get(series);
+        final int level = selectLevel(current != null ? current : -1,
+                desiredFactor, series.getRatio(), levelCount);
+        levels.put(series, level);
+        return getFactor(level, series.getRatio());
+    }
+
+    /**
+     * @param currentLevel The active level, or -1 for the original series.
+     * @param desiredFactor The max factor by which visible points may be reduced while still
+     *                      satisfying the required density.
+     * @param ratio The series' sampling ratio.
+     * @param levelCount Number of sampled levels available.
+     * @return The level to activate, or -1 for the original series.
+     */
+    int selectLevel(int currentLevel, double desiredFactor, double ratio, int levelCount) {
+        currentLevel = Math.min(currentLevel, levelCount - 1);
+
+        // the coarsest level satisfying the required density:
+        int target = -1;
+        while (target + 1 < levelCount && getFactor(target + 1, ratio) <= desiredFactor) {
+            target++;
+        }
+
+        if (target > currentLevel) {
+            int level = currentLevel;
+            while (level + 1 < levelCount
+                    && getFactor(level + 1, ratio) * (1 + hysteresis) <= desiredFactor) {
+                level++;
+            }
+            return level;
+        } else if (target < currentLevel
+                && desiredFactor < getFactor(currentLevel, ratio) * (1 - hysteresis)) {
+            return target;
+        }
+        return currentLevel;
+    }
+
+    /**
+     * @return The factor by which the specified level reduces the original series.
+     */
+    private static double getFactor(int level, double ratio) {
+        return Math.pow(ratio, level + 1);
+    }
+
+    public float getPointsPerPixel() {
+        return pointsPerPixel;
+    }
+
+    public float getHysteresis() {
+        return hysteresis;
+    }
+}
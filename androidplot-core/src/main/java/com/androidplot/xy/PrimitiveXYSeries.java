@@ -0,0 +1,41 @@
+package com.androidplot.xy;
+
+/**
+ * An implementation of {@link XYSeries} that is able to provide its values as primitive doubles,
+ * allowing renderers, samplers and min/max calculations to avoid boxing each value into a
+ * {@link Number}.
+ *
+ * Null values are represented as {@link Double#NaN}; {@link #getX(int)} and {@link #getY(int)}
+ * are expected to return null wherever the primitive accessors return NaN.
+ * @since 1.5.12
+ */
+public interface PrimitiveXYSeries extends XYSeries {
+
+    /**
+     * @param index the index (in the range <code>0</code> to <code>size()-1</code>).
+     * @return The x-value or {@link Double#NaN} if the value is null.
+     */
+    double getXDouble(int index);
+
+    /**
+     * @param index the index (in the range <code>0</code> to <code>size()-1</code>).
+     * @return The y-value or {@link Double#NaN} if the value is null.
+     */
+    double getYDouble(int index);
+
+    /**
+     * Copy a range of x-values into dst, starting at dst[0].
+     * @param fromIndex First index to copy, inclusive.
+     * @param toIndex Last index to copy, exclusive.
+     * @param dst Destination array; must have a length of at least <code>toIndex - fromIndex</code>.
+     */
+    void copyX(int fromIndex, int toIndex, double[] dst);
+
+    /**
+     * Copy a range of y-values into dst, starting at dst[0].
+     * @param fromIndex First index to copy, inclusive.
+     * @param toIndex Last index to copy, exclusive.
+     * @param dst Destination array; must have a length of at least <code>toIndex - fromIndex</code>.
+     */
+    void copyY(int fromIndex, int toIndex, double[] dst);
+}
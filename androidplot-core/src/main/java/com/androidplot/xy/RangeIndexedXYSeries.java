@@ -0,0 +1,25 @@
+package com.androidplot.xy;
+
+import com.androidplot.Region;
+
+/**
+ * An {@link OrderedXYSeries} able to answer min/max y-value queries over any contiguous range
+ * of indexes without iterating over each element; typically by maintaining an index such as a
+ * segment tree over its y-values.
+ *
+ * When the plot's domain is constrained and its range is not, {@link com.androidplot.util.SeriesUtils}
+ * uses this interface to calculate the y-extent of the visible portion of an ascending series,
+ * after first locating the visible index range with a binary search over its x-values.
+ * @since 1.5.12
+ */
+public interface RangeIndexedXYSeries extends OrderedXYSeries {
+
+    /**
+     * Points with a null x-value must not contribute to the result.
+     * @param fromIndex First index, inclusive.
+     * @param toIndex Last index, exclusive.
+     * @return The min/max y-values within the specified range or null if the range contains no
+     * non-null values.
+     */
+    Region minMaxY(int fromIndex, int toIndex);
+}
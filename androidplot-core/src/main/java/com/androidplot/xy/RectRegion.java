@@ -124,8 +124,28 @@ public class RectRegion {
     }
 
     public void transform(PointF result, Number x, Number y, RectF region2, boolean flipX, boolean flipY) {
-        result.x = (float) xRegion.transform(x.doubleValue(), region2.left, region2.right, flipX);
-        result.y = (float) yRegion.transform(y.doubleValue(), region2.top, region2.bottom, flipY);
+        transform(result, x.doubleValue(), y.doubleValue(), region2, flipX, flipY);
+    }
+
+    /**
+     * Boxing-free equivalent of {@link #transformScreen(PointF, Number, Number, RectF)}.
+     * @param result
+     * @param x
+     * @param y
+     * @param region2
+     * @since 1.5.12
+     */
+    public void transformScreen(PointF result, double x, double y, RectF region2) {
+        transform(result, x, y, region2, false, true);
+    }
+
+    /**
+     * Boxing-free equivalent of {@link #transform(PointF, Number, Number, RectF, boolean, boolean)}.
+     * @since 1.5.12
+     */
+    public void transform(PointF result, double x, double y, RectF region2, boolean flipX, boolean flipY) {
+        result.x = (float) xRegion.transform(x, region2.left, region2.right, flipX);
+        result.y = (float) yRegion.transform(y, region2.top, region2.bottom, flipY);
     }
 
     public PointF transform(Number x, Number y, RectF region2, boolean flipX, boolean flipY) {
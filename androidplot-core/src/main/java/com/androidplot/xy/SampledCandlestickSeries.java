@@ -0,0 +1,367 @@
+package com.androidplot.xy;
+
+import com.androidplot.Versioned;
+import com.androidplot.util.SeriesUtils;
+
+/**
+ * The candlestick equivalent of {@link SampledXYSeries}: precomputes a pyramid of successively
+ * coarser timeframes (for example 1m, 5m, 1h, 1d) from a base series of candles, so that
+ * zoomed-out views draw a handful of wide candles rather than thousands of sub-pixel ones.
+ *
+ * Each level's interval is the previous level's interval multiplied by the corresponding factor.
+ * Candles are grouped into buckets aligned to multiples of the level's interval; each rolled up
+ * candle takes the open of its first candle, the close of its last, the highest high and the
+ * lowest low, and its x-value is the start of its bucket.  Since each interval is a whole multiple
+ * of the previous one, levels are rolled up from the level before them without loss of accuracy.
+ *
+ * Like {@link CandlestickSeries}, this class is not itself an {@link XYSeries}; its four series
+ * are added to a plot with {@link CandlestickMaker#make(XYPlot, CandlestickFormatter, SampledCandlestickSeries)}.
+ * Before each render {@link ZoomEstimator} activates the finest level whose candles are at least
+ * {@link #getMinCandleWidth()} pixels wide.  The base series must not change once rolled up.
+ * @since 1.5.12
+ */
+public class SampledCandlestickSeries {
+
+    private static final float DEFAULT_MIN_CANDLE_WIDTH = 4;
+
+    private final Level[] levels;
+    private volatile Level active;
+
+    // incremented whenever the active level changes:
+    private volatile long version;
+    private float minCandleWidth = DEFAULT_MIN_CANDLE_WIDTH;
+
+    private final CandleSeries highSeries = new CandleSeries(CandlestickRenderer.HIGH_INDEX);
+    private final CandleSeries lowSeries = new CandleSeries(CandlestickRenderer.LOW_INDEX);
+    private final CandleSeries openSeries = new CandleSeries(CandlestickRenderer.OPEN_INDEX);
+    private final CandleSeries closeSeries = new CandleSeries(CandlestickRenderer.CLOSE_INDEX);
+
+    /**
+     * The candles of a single timeframe, stored as primitive columns indexed by the
+     * CandlestickRenderer series indices.
+     */
+    private static class Level {
+        final double interval;
+        final double[] xVals;
+        final double[][] yVals;
+        final RectRegion bounds;
+
+        Level(double interval, int size) {
+            this.interval = interval;
+            this.xVals = new double[size];
+            this.yVals = new double[4][size];
+            this.bounds = new RectRegion();
+        }
+
+        int size() {
+            return xVals.length;
+        }
+    }
+
+    /**
+     *
+     * @param base The finest timeframe.
+     * @param interval The interval of each candle in base, in x-value units.  Must be > 0.
+     * @param factors The ratio of each successive level's interval to the previous level's.
+     *                Each must be > 1.
+     */
+    public SampledCandlestickSeries(CandlestickSeries base, double interval, int... factors) {
+        this(base.getHighSeries(), base.getLowSeries(), base.getOpenSeries(), base.getCloseSeries(),
+                interval, factors);
+    }
+
+    /**
+     *
+     * @param highVals
+     * @param lowVals
+     * @param openVals
+     * @param closeVals
+     * @param interval The interval of each base candle, in x-value units.  Must be > 0.
+     * @param factors The ratio of each successive level's interval to the previous level's.
+     *                Each must be > 1.
+     */
+    public SampledCandlestickSeries(XYSeries highVals, XYSeries lowVals, XYSeries openVals,
+                                    XYSeries closeVals, double interval, int... factors) {
+        if (!(interval > 0)) {
+            throw new IllegalArgumentException("Interval must be greater than 0.");
+        }
+        final int size = highVals.size();
+        if (lowVals.size() != size || openVals.size() != size || closeVals.size() != size) {
+            throw new IllegalArgumentException("All four series must be of the same size.");
+        }
+        levels = new Level[factors.length + 1];
+        levels[0] = copy(highVals, lowVals, openVals, closeVals, interval);
+        for (int i = 0; i < factors.length; i++) {
+            if (factors[i] <= 1) {
+                throw new IllegalArgumentException("Factors must be greater than 1.");
+            }
+            levels[i + 1] = rollup(levels[i], levels[i].interval * factors[i]);
+        }
+        active = levels[0];
+    }
+
+    private static Level copy(XYSeries highVals, XYSeries lowVals, XYSeries openVals,
+                              XYSeries closeVals, double interval) {
+        final Level level = new Level(interval, highVals.size());
+        final XYSeries[] series = new XYSeries[4];
+        series[CandlestickRenderer.HIGH_INDEX] = highVals;
+        series[CandlestickRenderer.LOW_INDEX] = lowVals;
+        series[CandlestickRenderer.OPEN_INDEX] = openVals;
+        series[CandlestickRenderer.CLOSE_INDEX] = closeVals;
+        SeriesUtils.copyX(highVals, 0, level.size(), level.xVals);
+        for (int i = 0; i < level.size(); i++) {
+            if (Double.isNaN(level.xVals[i]) || (i > 0 && level.xVals[i] <= level.xVals[i - 1])) {
+                throw new IllegalArgumentException("x-values must be non-null and in ascending order.");
+            }
+        }
+        for (int j = 0; j < 4; j++) {
+            SeriesUtils.copyY(series[j], 0, level.size(), level.yVals[j]);
+        }
+        updateBounds(level);
+        return level;
+    }
+
+    /**
+     * Groups the candles of level into buckets of the specified interval.
+     */
+    private static Level rollup(Level level, double interval) {
+        int count = 0;
+        double lastBucket = Double.NaN;
+        for (int i = 0; i < level.size(); i++) {
+            final double bucket = Math.floor(level.xVals[i] / interval);
+            if (bucket != lastBucket) {
+                count++;
+                lastBucket = bucket;
+            }
+        }
+
+        final double[] high = level.yVals[CandlestickRenderer.HIGH_INDEX];
+        final double[] low = level.yVals[CandlestickRenderer.LOW_INDEX];
+        final double[] open = level.yVals[CandlestickRenderer.OPEN_INDEX];
+        final double[] close = level.yVals[CandlestickRenderer.CLOSE_INDEX];
+        final Level result = new Level(interval, count);
+        final double[] rHigh = result.yVals[CandlestickRenderer.HIGH_INDEX];
+        final double[] rLow = result.yVals[CandlestickRenderer.LOW_INDEX];
+        final double[] rOpen = result.yVals[CandlestickRenderer.OPEN_INDEX];
+        final double[] rClose = result.yVals[CandlestickRenderer.CLOSE_INDEX];
+        int j = -1;
+        lastBucket = Double.NaN;
+        for (int i = 0; i < level.size(); i++) {
+            final double bucket = Math.floor(level.xVals[i] / interval);
+            if (bucket != lastBucket) {
+                j++;
+                lastBucket = bucket;
+                result.xVals[j] = bucket * interval;
+                rOpen[j] = open[i];
+                rHigh[j] = high[i];
+                rLow[j] = low[i];
+                rClose[j] = close[i];
+            } else {
+                // null values are skipped:
+                if (Double.isNaN(rOpen[j])) {
+                    rOpen[j] = open[i];
+                }
+                rHigh[j] = max(rHigh[j], high[i]);
+                rLow[j] = min(rLow[j], low[i]);
+                if (!Double.isNaN(close[i])) {
+                    rClose[j] = close[i];
+                }
+            }
+        }
+        updateBounds(result);
+        return result;
+    }
+
+    /**
+     * @return The greater of a and b, or whichever is not NaN.
+     */
+    private static double max(double a, double b) {
+        return Double.isNaN(a) ? b : Double.isNaN(b) ? a : Math.max(a, b);
+    }
+
+    /**
+     * @return The lesser of a and b, or whichever is not NaN.
+     */
+    private static double min(double a, double b) {
+        return Double.isNaN(a) ? b : Double.isNaN(b) ? a : Math.min(a, b);
+    }
+
+    private static void updateBounds(Level level) {
+        final double[] high = level.yVals[CandlestickRenderer.HIGH_INDEX];
+        final double[] low = level.yVals[CandlestickRenderer.LOW_INDEX];
+        for (int i = 0; i < level.size(); i++) {
+            level.bounds.union(level.xVals[i], high[i]);
+            level.bounds.union(level.xVals[i], low[i]);
+        }
+    }
+
+    /**
+     * Activates the finest level whose candles are at least {@link #getMinCandleWidth()} pixels
+     * wide, or the coarsest level if none are.  Invoked by {@link ZoomEstimator} before each
+     * render.
+     * @param visibleSpan The length of the visible x-range, in x-value units.
+     * @param width The width in pixels over which the visible x-range is drawn.
+     */
+    public void selectLevel(double visibleSpan, float width) {
+        if (!(visibleSpan > 0) || !(width > 0)) {
+            return;
+        }
+        int i = 0;
+        while (i < levels.length - 1 && levels[i].interval * width / visibleSpan < minCandleWidth) {
+            i++;
+        }
+        setActive(levels[i]);
+    }
+
+    private void setActive(Level level) {
+        if (level != active) {
+            active = level;
+            version++;
+        }
+    }
+
+    /**
+     * @return The index of the active level; 0 is the base timeframe.
+     */
+    public int getLevel() {
+        for (int i = 0; i < levels.length; i++) {
+            if (levels[i] == active) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Activates the specified level.  Normally levels are selected automatically by
+     * {@link ZoomEstimator}; must not be invoked while the plot is rendering.
+     * @param level 0 for the base timeframe.
+     */
+    public void setLevel(int level) {
+        if (level < 0 || level >= levels.length) {
+            throw new IndexOutOfBoundsException("Level: " + level + ", Levels: " + levels.length);
+        }
+        setActive(levels[level]);
+    }
+
+    /**
+     * @return Number of levels, including the base timeframe.
+     */
+    public int getLevelCount() {
+        return levels.length;
+    }
+
+    /**
+     * @param level
+     * @return The interval of each candle of the specified level.
+     */
+    public double getInterval(int level) {
+        return levels[level].interval;
+    }
+
+    /**
+     * @param level
+     * @return The number of candles in the specified level.
+     */
+    public int size(int level) {
+        return levels[level].size();
+    }
+
+    public float getMinCandleWidth() {
+        return minCandleWidth;
+    }
+
+    /**
+     * @param minCandleWidth The min width in pixels of the interval of each rendered candle.
+     */
+    public void setMinCandleWidth(float minCandleWidth) {
+        this.minCandleWidth = minCandleWidth;
+    }
+
+    public XYSeries getHighSeries() {
+        return highSeries;
+    }
+
+    public XYSeries getLowSeries() {
+        return lowSeries;
+    }
+
+    public XYSeries getOpenSeries() {
+        return openSeries;
+    }
+
+    public XYSeries getCloseSeries() {
+        return closeSeries;
+    }
+
+    /**
+     * A read-only view of one of the four values of each candle of the active level.
+     */
+    class CandleSeries implements FastXYSeries, OrderedXYSeries, PrimitiveXYSeries, Versioned {
+
+        private final int column;
+
+        CandleSeries(int column) {
+            this.column = column;
+        }
+
+        SampledCandlestickSeries getOwner() {
+            return SampledCandlestickSeries.this;
+        }
+
+        @Override
+        public long getVersion() {
+            return version;
+        }
+
+        @Override
+        public RectRegion minMax() {
+            return active.bounds;
+        }
+
+        @Override
+        public XOrder getXOrder() {
+            return XOrder.ASCENDING;
+        }
+
+        @Override
+        public String getTitle() {
+            return null;
+        }
+
+        @Override
+        public int size() {
+            return active.size();
+        }
+
+        @Override
+        public Number getX(int index) {
+            return getXDouble(index);
+        }
+
+        @Override
+        public Number getY(int index) {
+            return getYDouble(index);
+        }
+
+        @Override
+        public double getXDouble(int index) {
+            return active.xVals[index];
+        }
+
+        @Override
+        public double getYDouble(int index) {
+            return active.yVals[column][index];
+        }
+
+        @Override
+        public void copyX(int fromIndex, int toIndex, double[] dst) {
+            System.arraycopy(active.xVals, fromIndex, dst, 0, toIndex - fromIndex);
+        }
+
+        @Override
+        public void copyY(int fromIndex, int toIndex, double[] dst) {
+            System.arraycopy(active.yVals[column], fromIndex, dst, 0, toIndex - fromIndex);
+        }
+    }
+}
@@ -1,9 +1,29 @@
 package com.androidplot.xy;
 
+import android.graphics.Canvas;
+import android.util.Log;
+
 import com.androidplot.*;
 import com.androidplot.util.SeriesUtils;
 
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * An implementation of {@link FastXYSeries} that samples its self into multiple levels to
@@ -22,23 +42,56 @@ import java.util.*;
  * 250 - 4x sampling
  * 125 - 8x sampling
  *
+ * By default each level is sampled from the original series in parallel on a shared, bounded
+ * pool of daemon threads; see {@link #setExecutor(Executor)}.  Alternatively, levels can be
+ * cascaded, with each level sampled from the level before it; see {@link #setCascading(boolean)}.
+ * In async mode, resampling happens in the background and the plot is redrawn as each level
+ * becomes available; see {@link #setAsync(boolean)}.
+ *
+ * To avoid resampling static data on every launch, zoom levels can be saved with
+ * {@link #write(File)} and restored with {@link #read(File, XYSeries, boolean)}.
+ *
  */
-public class SampledXYSeries implements FastXYSeries, OrderedXYSeries {
+public class SampledXYSeries implements FastXYSeries, OrderedXYSeries, PrimitiveXYSeries, PlotListener, Versioned {
+    private static final String TAG = SampledXYSeries.class.getName();
+
+    static final int PYRAMID_MAGIC = 0x41505350;
+    static final int PYRAMID_VERSION = 1;
+    static final int PYRAMID_HEADER_SIZE = 80;
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
     private int threshold;
     private Sampler algorithm = new LTTBSampler();
 
     private XYSeries rawData;
 
-    private List<EditableXYSeries> zoomLevels;
+    // levels restored by read() may be read-only MappedZoomLevels:
+    private volatile List<XYSeries> zoomLevels;
+
+    private volatile XYSeries activeSeries;
+    private volatile double zoomFactor = 1;
 
-    private XYSeries activeSeries;
+    private volatile RectRegion bounds;
 
-    private RectRegion bounds;
-    private Exception lastResamplingException;
+    // incremented whenever the active series or zoom levels change:
+    private volatile long version;
 
     private final XOrder xOrder;
     private float ratio;
 
+    private static Executor defaultExecutor;
+    private Executor executor;
+    private boolean cascading;
+    private boolean async;
+
+    // incremented by each async resample so that results of superseded resamples are discarded:
+    private int generation;
+    private RectRegion generationBounds;
+
+    // plots that have drawn this series, redrawn when async resampling produces a new level:
+    private final Set<Plot> plots = Collections.newSetFromMap(new WeakHashMap<Plot, Boolean>());
+
     /**
      *
      * @param rawData
@@ -49,11 +102,7 @@ public class SampledXYSeries implements FastXYSeries, OrderedXYSeries {
      * @param threshold The desired size of the smallest sample series.  Must be < rawData.size.
      */
     public SampledXYSeries(XYSeries rawData, XOrder xOrder, float ratio, int threshold) {
-        this.rawData = rawData;
-        this.xOrder = xOrder;
-        this.setRatio(ratio);
-        this.setThreshold(threshold);
-        resample();
+        this(rawData, xOrder, ratio, threshold, false);
     }
 
     /**
@@ -67,50 +116,506 @@ public class SampledXYSeries implements FastXYSeries, OrderedXYSeries {
         this(rawData, SeriesUtils.getXYOrder(rawData), ratio, threshold);
     }
 
+    /**
+     * Initializes the series without generating any zoom levels; intended for subclasses that
+     * populate zoom levels themselves via {@link #getZoomLevels()}.  Until then, rawData is
+     * used at every zoom factor.
+     * @param rawData
+     * @param xOrder
+     * @param ratio Must be > 1.
+     * @since 1.5.12
+     */
+    protected SampledXYSeries(XYSeries rawData, XOrder xOrder, float ratio) {
+        this.rawData = rawData;
+        this.xOrder = xOrder;
+        this.setRatio(ratio);
+        this.zoomLevels = new ArrayList<>();
+        this.activeSeries = rawData;
+    }
+
+    /**
+     *
+     * @param rawData
+     * @param xOrder
+     * @param ratio Must be > 1.
+     * @param threshold Must be < rawData.size.
+     * @param cascading If true, each zoom level is sampled from the previous level rather than
+     *                  from rawData.  See {@link #setCascading(boolean)}.
+     * @since 1.5.12
+     */
+    public SampledXYSeries(XYSeries rawData, XOrder xOrder, float ratio, int threshold, boolean cascading) {
+        this(rawData, xOrder, ratio, threshold, cascading, false);
+    }
+
+    /**
+     *
+     * @param rawData
+     * @param xOrder
+     * @param ratio Must be > 1.
+     * @param threshold Must be < rawData.size.
+     * @param cascading See {@link #setCascading(boolean)}.
+     * @param async If true, the series is constructed without any zoom levels and returns
+     *              immediately, with levels sampled in the background; rawData is served until
+     *              they become available.  See {@link #setAsync(boolean)}.
+     * @since 1.5.12
+     */
+    public SampledXYSeries(XYSeries rawData, XOrder xOrder, float ratio, int threshold,
+                           boolean cascading, boolean async) {
+        this.rawData = rawData;
+        this.xOrder = xOrder;
+        this.cascading = cascading;
+        this.async = async;
+        this.activeSeries = rawData;
+        this.setRatio(ratio);
+        this.setThreshold(threshold);
+        resample();
+    }
+
+    /**
+     * Regenerates all zoom levels from rawData.  Unless cascading is enabled, levels are
+     * sampled concurrently on this series' executor.  Blocks until sampling completes unless
+     * async mode is enabled, in which case it returns immediately.
+     */
     public void resample() {
-        bounds = null;
-        zoomLevels = new ArrayList<>();
+        final List<EditableXYSeries> levels = new ArrayList<>();
         int t = (int) Math.ceil(rawData.size() / getRatio());
-        List<Thread> threads = new ArrayList<>(zoomLevels.size());
         while (t > threshold) {
-            final int thisThreshold = t;
-            final EditableXYSeries thisSeries = new FixedSizeEditableXYSeries(getTitle(), thisThreshold);
-            Thread thread = new Thread(new Runnable() {
+            levels.add(new FixedSizeEditableXYSeries(getTitle(), t));
+            t = (int) Math.ceil(t / getRatio());
+        }
+
+        if(async) {
+            resampleAsync(levels);
+            return;
+        }
+
+        RectRegion newBounds = null;
+        if(cascading) {
+            // each level is sampled from the level before it, so levels must be generated in order:
+            XYSeries input = rawData;
+            for(EditableXYSeries level : levels) {
+                newBounds = union(newBounds, sample(input, level));
+                input = level;
+            }
+        } else {
+            final List<FutureTask<RectRegion>> tasks = new ArrayList<>(levels.size());
+            for(final EditableXYSeries level : levels) {
+                final FutureTask<RectRegion> task = new FutureTask<>(new Callable<RectRegion>() {
+                    @Override
+                    public RectRegion call() {
+                        return getAlgorithm().run(rawData, level);
+                    }
+                });
+                tasks.add(task);
+                getExecutor().execute(task);
+            }
+            try {
+                for (FutureTask<RectRegion> task : tasks) {
+                    newBounds = union(newBounds, task.get());
+                }
+            } catch (InterruptedException e) {
+                cancel(tasks);
+                throw new RuntimeException(e);
+            } catch (ExecutionException e) {
+                cancel(tasks);
+                throw new RuntimeException("Exception encountered during resampling", e.getCause());
+            }
+        }
+        synchronized (this) {
+            // supersede any async resample still in progress:
+            generation++;
+            zoomLevels = new ArrayList<XYSeries>(levels);
+            bounds = newBounds;
+            markChanged();
+        }
+        setZoomFactor(zoomFactor);
+    }
+
+    /**
+     * Samples levels on this series' executor, coarsest first, publishing each as it completes.
+     * Levels of a previous resample continue to be served until replaced, provided the number of
+     * levels is unchanged.
+     */
+    private void resampleAsync(final List<EditableXYSeries> levels) {
+        final int thisGeneration;
+        synchronized (this) {
+            thisGeneration = ++generation;
+            generationBounds = null;
+            if(zoomLevels == null || zoomLevels.size() != levels.size()) {
+                zoomLevels = new ArrayList<>(Collections.<XYSeries>nCopies(levels.size(), null));
+            }
+        }
+        if(cascading) {
+            // each level is sampled from the level before it, so levels must be generated in order:
+            getExecutor().execute(new Runnable() {
                 @Override
                 public void run() {
-                    try {
-                        // TODO: make bounds a param to prevent calculating on each setZoomFactor level:
-                        RectRegion b = getAlgorithm()
-                                .run(rawData, thisSeries);
-                        if (bounds == null) {
-                            bounds = b;
+                    XYSeries input = rawData;
+                    for(int i = 0; i < levels.size() && isCurrent(thisGeneration); i++) {
+                        if(!sampleAsync(thisGeneration, input, levels, i)) {
+                            return;
                         }
-                    } catch(Exception ex) {
-                        lastResamplingException = ex;
+                        input = levels.get(i);
                     }
                 }
-            }, "Androidplot XY Series Sampler");
-            getZoomLevels().add(thisSeries);
-            threads.add(thread);
-            thread.start();
+            });
+        } else {
+            for(int i = levels.size() - 1; i >= 0; i--) {
+                final int index = i;
+                getExecutor().execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        if(isCurrent(thisGeneration)) {
+                            sampleAsync(thisGeneration, rawData, levels, index);
+                        }
+                    }
+                });
+            }
+        }
+    }
 
-            t = (int) Math.ceil(t / getRatio());
+    private synchronized boolean isCurrent(int generation) {
+        return this.generation == generation;
+    }
+
+    /**
+     * Samples a single level and, if its resample has not been superseded, publishes it.
+     * @return True if the level was sampled successfully.
+     */
+    private boolean sampleAsync(int generation, XYSeries input, List<EditableXYSeries> levels, int index) {
+        final RectRegion levelBounds;
+        try {
+            levelBounds = getAlgorithm().run(input, levels.get(index));
+        } catch(RuntimeException e) {
+            Log.e(TAG, "Exception encountered during resampling", e);
+            return false;
         }
-        for(Thread thread : threads) {
-            try {
-                thread.join();
-            } catch (InterruptedException e) {
-                throw new RuntimeException(e);
+        synchronized (this) {
+            if(this.generation != generation) {
+                return false;
+            }
+            final List<XYSeries> published = new ArrayList<>(zoomLevels);
+            published.set(index, levels.get(index));
+            zoomLevels = published;
+            generationBounds = union(generationBounds, levelBounds);
+            bounds = generationBounds;
+            markChanged();
+        }
+        setZoomFactor(zoomFactor);
+        redrawPlots();
+        return true;
+    }
+
+    /**
+     * Writes this series' zoom levels and bounds to a file from which they can be restored by
+     * {@link #read(File, XYSeries, boolean)}, along with a hash of rawData's contents used to
+     * validate the file when it is read.  rawData itself is not written.  Files have the
+     * following layout, with all values stored little-endian:
+     * <pre>
+     * header (80 bytes):
+     *   int    magic ('APSP')
+     *   int    version
+     *   int    xOrder (ordinal of {@link XOrder})
+     *   int    levelCount
+     *   long   rawData size
+     *   long   rawData content hash (see {@link SeriesUtils#contentHash(XYSeries)})
+     *   double ratio
+     *   int    threshold
+     *   int    reserved
+     *   double minX, maxX, minY, maxY (NaN if undefined)
+     * level sizes: levelCount longs
+     * levels: for each level, its x column followed by its y column, size doubles each.
+     * </pre>
+     * Null values are stored as {@link Double#NaN}.
+     * @param file The file to write; will be overwritten if it exists.
+     * @throws IOException
+     * @throws IllegalStateException if an async resample is in progress.
+     * @since 1.5.12
+     */
+    public void write(File file) throws IOException {
+        final List<XYSeries> levels = zoomLevels;
+        if(levels.contains(null)) {
+            throw new IllegalStateException("Cannot write zoom levels while resampling is in progress.");
+        }
+        write(file, levels);
+    }
+
+    /**
+     * Writes the specified zoom levels along with this series' configuration, in the format
+     * described by {@link #write(File)}.
+     * @param file
+     * @param levels
+     * @throws IOException
+     */
+    void write(File file, List<? extends XYSeries> levels) throws IOException {
+        final RectRegion bounds = this.bounds;
+        final long hash = SeriesUtils.contentHash(rawData);
+
+        final FileOutputStream out = new FileOutputStream(file);
+        try {
+            final FileChannel channel = out.getChannel();
+            final ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            buffer.putInt(PYRAMID_MAGIC)
+                    .putInt(PYRAMID_VERSION)
+                    .putInt(xOrder.ordinal())
+                    .putInt(levels.size())
+                    .putLong(rawData.size())
+                    .putLong(hash)
+                    .putDouble(ratio)
+                    .putInt(threshold)
+                    .putInt(0)
+                    .putDouble(toDouble(bounds != null ? bounds.getMinX() : null))
+                    .putDouble(toDouble(bounds != null ? bounds.getMaxX() : null))
+                    .putDouble(toDouble(bounds != null ? bounds.getMinY() : null))
+                    .putDouble(toDouble(bounds != null ? bounds.getMaxY() : null));
+            for(XYSeries level : levels) {
+                if(buffer.remaining() < 8) {
+                    MappedXYSeries.flush(channel, buffer);
+                }
+                buffer.putLong(level.size());
+            }
+            for(XYSeries level : levels) {
+                for(int i = 0; i < level.size(); i++) {
+                    MappedXYSeries.putDouble(channel, buffer, SeriesUtils.getXDouble(level, i));
+                }
+                for(int i = 0; i < level.size(); i++) {
+                    MappedXYSeries.putDouble(channel, buffer, SeriesUtils.getYDouble(level, i));
+                }
+            }
+            MappedXYSeries.flush(channel, buffer);
+        } finally {
+            out.close();
+        }
+    }
+
+    /**
+     * Restores a series from zoom levels previously saved by {@link #write(File)}, without
+     * resampling.  The file is only used if rawData's size and content hash match those of the
+     * series that was written; computing the hash reads every value of rawData once, which is
+     * still far cheaper than resampling.  The sampling algorithm is not saved; the restored series
+     * uses the default algorithm when resampled.
+     * @param file
+     * @param rawData The series from which the saved zoom levels were sampled.
+     * @param map If true, zoom levels are memory mapped and paged in from the file on demand
+     *            rather than read onto the heap.  The file must not be modified while mapped.
+     * @return The restored series, or null if the file was written for different data.
+     * @throws IOException if the file could not be read or is not a valid zoom level file.
+     * @since 1.5.12
+     */
+    public static SampledXYSeries read(File file, XYSeries rawData, boolean map) throws IOException {
+        final FileInputStream in = new FileInputStream(file);
+        try {
+            final FileChannel channel = in.getChannel();
+            final ByteBuffer header = MappedXYSeries.map(channel, 0, PYRAMID_HEADER_SIZE);
+            if(header.getInt() != PYRAMID_MAGIC) {
+                throw new IOException(file + " is not a zoom level file.");
             }
+            final int version = header.getInt();
+            if(version != PYRAMID_VERSION) {
+                throw new IOException("Unsupported zoom level file version: " + version);
+            }
+            final int order = header.getInt();
+            final int levelCount = header.getInt();
+            if(order < 0 || order >= XOrder.values().length || levelCount < 0) {
+                throw new IOException(file + " is corrupt.");
+            }
+            if(header.getLong() != rawData.size() || header.getLong() != SeriesUtils.contentHash(rawData)) {
+                return null;
+            }
+            final SampledXYSeries series = new SampledXYSeries(
+                    rawData, XOrder.values()[order], (float) header.getDouble());
+            series.setThreshold(header.getInt());
+            header.getInt();
+            series.setBounds(new RectRegion(toNumber(header.getDouble()), toNumber(header.getDouble()),
+                    toNumber(header.getDouble()), toNumber(header.getDouble())));
+
+            final LongBuffer sizes = MappedXYSeries.map(
+                    channel, PYRAMID_HEADER_SIZE, levelCount * 8L).asLongBuffer();
+            long position = PYRAMID_HEADER_SIZE + levelCount * 8L;
+            for(int i = 0; i < levelCount; i++) {
+                final long size = sizes.get(i);
+                if(size < 0 || size * 8 > Integer.MAX_VALUE) {
+                    throw new IOException("Unsupported zoom level size: " + size);
+                }
+                final DoubleBuffer xVals = MappedXYSeries.map(channel, position, size * 8).asDoubleBuffer();
+                final DoubleBuffer yVals = MappedXYSeries.map(channel, position + size * 8, size * 8).asDoubleBuffer();
+                position += size * 16;
+                final MappedZoomLevel level = new MappedZoomLevel(series.getTitle(), xVals, yVals);
+                series.zoomLevels.add(map ? level : toHeap(level));
+            }
+            return series;
+        } finally {
+            in.close();
+        }
+    }
+
+    private static double toDouble(Number value) {
+        return value != null ? value.doubleValue() : Double.NaN;
+    }
+
+    private static Number toNumber(double value) {
+        return Double.isNaN(value) ? null : value;
+    }
+
+    /**
+     * Redraws each plot that has drawn this series.
+     * @since 1.5.12
+     */
+    protected void redrawPlots() {
+        final List<Plot> toRedraw;
+        synchronized (plots) {
+            toRedraw = new ArrayList<>(plots);
+        }
+        for(Plot plot : toRedraw) {
+            plot.redraw();
+        }
+    }
+
+    /**
+     * Records the plot being drawn so that it can be redrawn once async resampling completes.
+     * Subclasses overriding this method must invoke it.
+     * @param source
+     * @param canvas
+     */
+    @Override
+    public void onBeforeDraw(Plot source, Canvas canvas) {
+        synchronized (plots) {
+            plots.add(source);
+        }
+    }
+
+    @Override
+    public void onAfterDraw(Plot source, Canvas canvas) {
+        // nothing to do
+    }
+
+    private RectRegion sample(XYSeries input, EditableXYSeries output) {
+        try {
+            return getAlgorithm().run(input, output);
+        } catch(RuntimeException e) {
+            throw new RuntimeException("Exception encountered during resampling", e);
         }
-        if(lastResamplingException != null) {
-            throw new RuntimeException("Exception encountered during resampling", lastResamplingException);
+    }
+
+    private static void cancel(List<FutureTask<RectRegion>> tasks) {
+        for(FutureTask<RectRegion> task : tasks) {
+            task.cancel(false);
         }
+    }
+
+    /**
+     * @return A new region containing a and b, neither of which is modified; published bounds
+     * may be in use by the render thread.
+     */
+    private static RectRegion union(RectRegion a, RectRegion b) {
+        if(a == null) {
+            return b;
+        } else if(b == null) {
+            return a;
+        }
+        final RectRegion result = new RectRegion(a.getMinX(), a.getMaxX(), a.getMinY(), a.getMaxY());
+        result.union(b);
+        return result;
+    }
+
+    /**
+     * @return A shared pool of daemon threads, one per available processor, used to resample
+     * any SampledXYSeries that has not been given its own executor.
+     * @since 1.5.12
+     */
+    public static synchronized Executor getDefaultExecutor() {
+        if(defaultExecutor == null) {
+            final int threads = Runtime.getRuntime().availableProcessors();
+            defaultExecutor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                    new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable r) {
+                    final Thread thread = new Thread(r, "Androidplot XY Series Sampler");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        }
+        return defaultExecutor;
+    }
+
+    public Executor getExecutor() {
+        return executor != null ? executor : getDefaultExecutor();
+    }
+
+    /**
+     * Sets the executor used to sample zoom levels concurrently, for example to limit the
+     * number of threads used for resampling or to share a pool with the rest of an app.
+     * Takes effect on the next resample.  Note that {@link #resample()} blocks until each
+     * level's task completes, so resample must not be invoked from one of executor's threads
+     * unless it has spare capacity.
+     * @param executor Null to use {@link #getDefaultExecutor()}.
+     * @since 1.5.12
+     */
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    public boolean isAsync() {
+        return async;
+    }
 
+    /**
+     * When enabled, {@link #resample()} (and therefore {@link #setAlgorithm(Sampler)}) returns
+     * immediately, with levels sampled in the background, coarsest first.  Until the level
+     * appropriate for the current zoom factor is available, the nearest available coarser
+     * level is served instead, or the original series if none is available yet.  Each plot that
+     * has drawn this series is redrawn as each level becomes available, so the rendered series
+     * sharpens progressively rather than blocking the UI.  Takes effect on the next resample.
+     * @param async
+     * @since 1.5.12
+     */
+    public void setAsync(boolean async) {
+        this.async = async;
     }
 
-    protected List<EditableXYSeries> getZoomLevels() {
-        return this.zoomLevels;
+    public boolean isCascading() {
+        return cascading;
+    }
+
+    /**
+     * When enabled, each zoom level is sampled from the previous (next finer) level instead of
+     * from rawData, reducing the total work of resampling from O(n * levels) to roughly O(2n),
+     * at the expense of levels being generated sequentially.  Each level is then a sample of a
+     * sample; this is lossless with respect to extremes for {@link M4Sampler} but may be less
+     * accurate for {@link LTTBSampler}.  Takes effect on the next resample.
+     * @param cascading
+     * @since 1.5.12
+     */
+    public void setCascading(boolean cascading) {
+        this.cascading = cascading;
+    }
+
+    /**
+     * Memory mapped levels restored by {@link #read(File, XYSeries, boolean)} are read-only, so
+     * they are first copied onto the heap.
+     * @return The zoom levels of this series, finest first.
+     */
+    @SuppressWarnings("unchecked")
+    protected synchronized List<EditableXYSeries> getZoomLevels() {
+        final List<XYSeries> levels = this.zoomLevels;
+        for(int i = 0; i < levels.size(); i++) {
+            if(levels.get(i) instanceof MappedZoomLevel) {
+                levels.set(i, toHeap(levels.get(i)));
+            }
+        }
+        // every level is now editable:
+        return (List<EditableXYSeries>) (List<?>) levels;
+    }
+
+    private static FixedSizeEditableXYSeries toHeap(XYSeries level) {
+        final FixedSizeEditableXYSeries result =
+                new FixedSizeEditableXYSeries(level.getTitle(), level.size());
+        for(int i = 0; i < level.size(); i++) {
+            SeriesUtils.setXY(result, SeriesUtils.getXDouble(level, i), SeriesUtils.getYDouble(level, i), i);
+        }
+        return result;
     }
 
     /**
@@ -120,17 +625,43 @@ public class SampledXYSeries implements FastXYSeries, OrderedXYSeries {
      * @param factor
      */
     public void setZoomFactor(double factor) {
-        if(factor <= 1) {
-            activeSeries = rawData;
+        this.zoomFactor = factor;
+        final List<XYSeries> zoomLevels = this.zoomLevels;
+        final XYSeries newActiveSeries;
+        if(factor <= 1 || zoomLevels.isEmpty()) {
+            newActiveSeries = rawData;
         } else {
             //int i = (int) Math.round(Math.sqrt(factor) - 1);
             int i = getZoomIndex(factor, getRatio());
-            if (i < zoomLevels.size()) {
-                activeSeries = zoomLevels.get(i);
-            } else {
-                activeSeries = zoomLevels.get(zoomLevels.size() - 1);
+            if (i >= zoomLevels.size()) {
+                i = zoomLevels.size() - 1;
+            }
+            final XYSeries level = getNearestAvailable(zoomLevels, i);
+            newActiveSeries = level != null ? level : rawData;
+        }
+        if(newActiveSeries != activeSeries) {
+            activeSeries = newActiveSeries;
+            markChanged();
+        }
+    }
+
+    /**
+     * While resampling asynchronously, levels not yet sampled are null.
+     * @return The level at index if available, otherwise the nearest available coarser level,
+     * otherwise the nearest available finer level, or null if no levels are available.
+     */
+    private static XYSeries getNearestAvailable(List<XYSeries> zoomLevels, int index) {
+        for(int i = index; i < zoomLevels.size(); i++) {
+            if(zoomLevels.get(i) != null) {
+                return zoomLevels.get(i);
+            }
+        }
+        for(int i = index - 1; i >= 0; i--) {
+            if(zoomLevels.get(i) != null) {
+                return zoomLevels.get(i);
             }
         }
+        return null;
     }
 
     protected static int getZoomIndex(double zoomFactor, double ratio) {
@@ -154,6 +685,14 @@ public class SampledXYSeries implements FastXYSeries, OrderedXYSeries {
         resample();
     }
 
+    /**
+     * @return The original, unsampled series.
+     * @since 1.5.12
+     */
+    protected XYSeries getRawData() {
+        return rawData;
+    }
+
     @Override
     public String getTitle() {
         return rawData.getTitle();
@@ -174,6 +713,26 @@ public class SampledXYSeries implements FastXYSeries, OrderedXYSeries {
         return activeSeries.getY(index);
     }
 
+    @Override
+    public double getXDouble(int index) {
+        return SeriesUtils.getXDouble(activeSeries, index);
+    }
+
+    @Override
+    public double getYDouble(int index) {
+        return SeriesUtils.getYDouble(activeSeries, index);
+    }
+
+    @Override
+    public void copyX(int fromIndex, int toIndex, double[] dst) {
+        SeriesUtils.copyX(activeSeries, fromIndex, toIndex, dst);
+    }
+
+    @Override
+    public void copyY(int fromIndex, int toIndex, double[] dst) {
+        SeriesUtils.copyY(activeSeries, fromIndex, toIndex, dst);
+    }
+
     public int getThreshold() {
         return threshold;
     }
@@ -191,6 +750,25 @@ public class SampledXYSeries implements FastXYSeries, OrderedXYSeries {
 
     public void setBounds(RectRegion bounds) {
         this.bounds = bounds;
+        markChanged();
+    }
+
+    /**
+     * Changes to rawData are included if it implements {@link Versioned}.
+     * @return
+     */
+    @Override
+    public long getVersion() {
+        return rawData instanceof Versioned ? version + ((Versioned) rawData).getVersion() : version;
+    }
+
+    /**
+     * Increments this series' version.  Should be invoked by subclasses whenever the contents
+     * of the active series change.
+     * @since 1.5.12
+     */
+    protected void markChanged() {
+        version++;
     }
 
     @Override
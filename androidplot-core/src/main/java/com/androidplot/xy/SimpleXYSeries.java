@@ -18,8 +18,11 @@ package com.androidplot.xy;
 
 import android.graphics.Canvas;
 
+import com.androidplot.AppendVersioned;
 import com.androidplot.Plot;
 import com.androidplot.PlotListener;
+import com.androidplot.util.ArrayDequeList;
+import com.androidplot.util.SlidingWindowMinMax;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -31,15 +34,34 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
  * A convenience class used to create instances of XYPlot generated from Lists of Numbers.
+ * Values are stored in array backed deques, providing O(1) indexed access along with cheap
+ * insertion and removal at either end of the series.
+ *
+ * Min/max values are tracked incrementally as values are appended via {@link #addLast(Number, Number)}
+ * and evicted via {@link #removeFirst()}, so {@link #minMax()} does not need to scan the series
+ * when it is used as a sliding window.  Any other modification causes the bounds to be
+ * recalculated once, on the next call to {@link #minMax()}.
  */
-public class SimpleXYSeries implements EditableXYSeries, OrderedXYSeries, PlotListener {
-    private volatile LinkedList<Number> xVals = new LinkedList<>();
-    private volatile LinkedList<Number> yVals = new LinkedList<>();
+public class SimpleXYSeries implements EditableXYSeries, OrderedXYSeries, FastXYSeries, PlotListener, AppendVersioned {
+    private volatile ArrayDequeList<Number> xVals = new ArrayDequeList<>();
+    private volatile ArrayDequeList<Number> yVals = new ArrayDequeList<>();
     private volatile String title = null;
 
     private ReentrantReadWriteLock lock = new ReentrantReadWriteLock(true);
     private XOrder xOrder = XOrder.NONE;
 
+    // running bounds of the current values; guarded by the write lock or by the read lock plus boundsLock:
+    private final Object boundsLock = new Object();
+    private final SlidingWindowMinMax xBounds = new SlidingWindowMinMax();
+    private final SlidingWindowMinMax yBounds = new SlidingWindowMinMax();
+    private boolean boundsValid;
+
+    // incremented by every modification, as it releases the write lock:
+    private volatile long version;
+
+    // incremented by every modification other than appending values, before version:
+    private volatile long rewriteVersion;
+
     public enum ArrayFormat {
         Y_VALS_ONLY,
         XY_VALS_INTERLEAVED
@@ -70,7 +92,14 @@ public class SimpleXYSeries implements EditableXYSeries, OrderedXYSeries, PlotLi
      * @param xOrder
      */
     public void setXOrder(XOrder xOrder) {
-        this.xOrder = xOrder;
+        lock.writeLock().lock();
+        try {
+            this.xOrder = xOrder;
+            boundsValid = false;
+        } finally {
+            version++;
+            lock.writeLock().unlock();
+        }
     }
 
     @Override
@@ -114,6 +143,8 @@ public class SimpleXYSeries implements EditableXYSeries, OrderedXYSeries, PlotLi
             throw new IllegalArgumentException("xVals and yVals List parameters must be of the same size.");
         }
 
+        this.xVals.ensureCapacity(xVals.size());
+        this.yVals.ensureCapacity(yVals.size());
         this.xVals.addAll(xVals);
         this.yVals.addAll(yVals);
     }
@@ -125,7 +156,10 @@ public class SimpleXYSeries implements EditableXYSeries, OrderedXYSeries, PlotLi
         lock.writeLock().lock();
         try {
             xVals = null;
+            boundsValid = false;
         } finally {
+            rewriteVersion++;
+            version++;
             lock.writeLock().unlock();
         }
     }
@@ -140,6 +174,8 @@ public class SimpleXYSeries implements EditableXYSeries, OrderedXYSeries, PlotLi
 
         lock.writeLock().lock();
         try {
+            boundsValid = false;
+
             // empty the current values:
             xVals.clear();
             yVals.clear();
@@ -153,6 +189,8 @@ public class SimpleXYSeries implements EditableXYSeries, OrderedXYSeries, PlotLi
 
                 // array containing only y-vals. assume x = index:
                 case Y_VALS_ONLY:
+                    xVals.ensureCapacity(model.size());
+                    yVals.ensureCapacity(model.size());
                     yVals.addAll(model);
                     for(int i = 0; i < yVals.size(); i++) {
                         xVals.add(i);
@@ -162,13 +200,15 @@ public class SimpleXYSeries implements EditableXYSeries, OrderedXYSeries, PlotLi
                 // xy interleaved array:
                 case XY_VALS_INTERLEAVED:
                     if (xVals == null) {
-                        xVals = new LinkedList<>();
+                        xVals = new ArrayDequeList<>();
                     }
                     if (model.size() % 2 != 0) {
                         throw new IndexOutOfBoundsException("Cannot auto-generate series from odd-sized xy List.");
                     }
                     // always need an x and y array so init them now:
                     int sz = model.size() / 2;
+                    xVals.ensureCapacity(sz);
+                    yVals.ensureCapacity(sz);
                     for (int i = 0, j = 0; i < sz; i++, j += 2) {
                         xVals.add(model.get(j));
                         yVals.add(model.get(j + 1));
@@ -178,6 +218,38 @@ public class SimpleXYSeries implements EditableXYSeries, OrderedXYSeries, PlotLi
                     throw new IllegalArgumentException("Unexpected enum value: " + format);
             }
         } finally {
+            rewriteVersion++;
+            version++;
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replace the contents of this series with the specified values, acquiring the write lock
+     * only once.
+     * @param xVals The new xVals, or null to use each value's index as its xVal.  {@link Double#NaN}
+     *              represents null.
+     * @param yVals The new yVals; must be the same length as xVals.  {@link Double#NaN} represents null.
+     * @since 1.5.12
+     */
+    public void setModel(double[] xVals, double[] yVals) {
+        if (xVals != null && xVals.length != yVals.length) {
+            throw new IllegalArgumentException("xVals and yVals must be of the same length.");
+        }
+        lock.writeLock().lock();
+        try {
+            if (this.xVals == null) {
+                this.xVals = new ArrayDequeList<>(yVals.length);
+            }
+            this.xVals.clear();
+            this.yVals.clear();
+            xBounds.clear();
+            yBounds.clear();
+            boundsValid = true;
+            appendAll(xVals, yVals, 0, yVals.length);
+        } finally {
+            rewriteVersion++;
+            version++;
             lock.writeLock().unlock();
         }
     }
@@ -191,7 +263,10 @@ public class SimpleXYSeries implements EditableXYSeries, OrderedXYSeries, PlotLi
         lock.writeLock().lock();
         try {
             xVals.set(index, value);
+            boundsValid = false;
         } finally {
+            rewriteVersion++;
+            version++;
             lock.writeLock().unlock();
         }
     }
@@ -205,7 +280,10 @@ public class SimpleXYSeries implements EditableXYSeries, OrderedXYSeries, PlotLi
         lock.writeLock().lock();
         try {
             yVals.set(index, value);
+            boundsValid = false;
         } finally {
+            rewriteVersion++;
+            version++;
             lock.writeLock().unlock();
         }
     }
@@ -214,7 +292,10 @@ public class SimpleXYSeries implements EditableXYSeries, OrderedXYSeries, PlotLi
     public void resize(int size) {
         try {
             lock.writeLock().lock();
+            boundsValid = false;
             if (xVals.size() < size) {
+                xVals.ensureCapacity(size);
+                yVals.ensureCapacity(size);
                 for (int i = xVals.size(); i < size; i++) {
                     xVals.add(null);
                     yVals.add(null);
@@ -226,6 +307,8 @@ public class SimpleXYSeries implements EditableXYSeries, OrderedXYSeries, PlotLi
                 }
             }
         } finally {
+            rewriteVersion++;
+            version++;
             lock.writeLock().unlock();
         }
     }
@@ -241,7 +324,12 @@ public class SimpleXYSeries implements EditableXYSeries, OrderedXYSeries, PlotLi
         try {
             yVals.set(index, yVal);
             xVals.set(index, xVal);
-        } finally {lock.writeLock().unlock();}
+            boundsValid = false;
+        } finally {
+            rewriteVersion++;
+            version++;
+            lock.writeLock().unlock();
+        }
     }
 
     public void addFirst(Number x, Number y) {
@@ -251,7 +339,10 @@ public class SimpleXYSeries implements EditableXYSeries, OrderedXYSeries, PlotLi
                 xVals.addFirst(x);
             }
             yVals.addFirst(y);
+            boundsValid = false;
         } finally {
+            rewriteVersion++;
+            version++;
             lock.writeLock().unlock();
         }
     }
@@ -266,8 +357,136 @@ public class SimpleXYSeries implements EditableXYSeries, OrderedXYSeries, PlotLi
             if (size() <= 0) {
                 throw new NoSuchElementException();
             }
+            if (boundsValid) {
+                xBounds.removeFirst();
+                yBounds.removeFirst();
+            }
             return new XYCoords(xVals != null ? xVals.removeFirst() : 0, yVals.removeFirst());
         } finally {
+            rewriteVersion++;
+            version++;
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Append xy pairs to the end of the series, acquiring the write lock only once.
+     * @param xVals May be null to append only yVals when using implicit xVals, or to use each
+     *              value's index as its xVal otherwise.  {@link Double#NaN} represents null.
+     * @param yVals Must be the same length as xVals.  {@link Double#NaN} represents null.
+     * @since 1.5.12
+     */
+    public void addLast(double[] xVals, double[] yVals) {
+        if (xVals != null && xVals.length != yVals.length) {
+            throw new IllegalArgumentException("xVals and yVals must be of the same length.");
+        }
+        addLast(xVals, yVals, 0, yVals.length);
+    }
+
+    /**
+     * Append a range of xy pairs to the end of the series, acquiring the write lock only once.
+     * @param xVals May be null to append only yVals when using implicit xVals, or to use each
+     *              value's index as its xVal otherwise.  {@link Double#NaN} represents null.
+     * @param yVals {@link Double#NaN} represents null.
+     * @param offset Index of the first pair to append.
+     * @param length Number of pairs to append.
+     * @since 1.5.12
+     */
+    public void addLast(double[] xVals, double[] yVals, int offset, int length) {
+        if (offset < 0 || length < 0 || offset + length > yVals.length
+                || (xVals != null && offset + length > xVals.length)) {
+            throw new IndexOutOfBoundsException(
+                    "offset: " + offset + ", length: " + length + ", array length: " + yVals.length);
+        }
+        lock.writeLock().lock();
+        try {
+            appendAll(xVals, yVals, offset, length);
+        } finally {
+            version++;
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Must be invoked while holding the write lock.
+     */
+    private void appendAll(double[] xVals, double[] yVals, int offset, int length) {
+        if (this.xVals != null) {
+            this.xVals.ensureCapacity(this.xVals.size() + length);
+        }
+        this.yVals.ensureCapacity(this.yVals.size() + length);
+        for (int i = offset; i < offset + length; i++) {
+            final Number x;
+            if (this.xVals == null) {
+                x = null;
+            } else {
+                x = xVals != null ? toNumber(xVals[i]) : this.xVals.size();
+                this.xVals.addLast(x);
+            }
+            final Number y = toNumber(yVals[i]);
+            this.yVals.addLast(y);
+            if (boundsValid) {
+                trackBounds(x, y);
+            }
+        }
+    }
+
+    /**
+     * Replace a contiguous range of xy pairs, acquiring the write lock only once.
+     * @param xVals May be null to replace only yVals.  {@link Double#NaN} represents null.
+     * @param yVals Must be the same length as xVals.  {@link Double#NaN} represents null.
+     * @param index Index of the first pair to replace.
+     * @since 1.5.12
+     */
+    public void setXY(double[] xVals, double[] yVals, int index) {
+        if (xVals != null && xVals.length != yVals.length) {
+            throw new IllegalArgumentException("xVals and yVals must be of the same length.");
+        }
+        lock.writeLock().lock();
+        try {
+            if (index < 0 || index + yVals.length > size()) {
+                throw new IndexOutOfBoundsException(
+                        "index: " + index + ", length: " + yVals.length + ", Size: " + size());
+            }
+            for (int i = 0; i < yVals.length; i++) {
+                if (xVals != null && this.xVals != null) {
+                    this.xVals.set(index + i, toNumber(xVals[i]));
+                }
+                this.yVals.set(index + i, toNumber(yVals[i]));
+            }
+            boundsValid = false;
+        } finally {
+            rewriteVersion++;
+            version++;
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove the specified number of xy pairs from the start of the series, acquiring the
+     * write lock only once.
+     * @param count Number of pairs to remove.  Must not exceed {@link #size()}.
+     * @since 1.5.12
+     */
+    public void removeFirst(int count) {
+        lock.writeLock().lock();
+        try {
+            if (count < 0 || count > size()) {
+                throw new IndexOutOfBoundsException("count: " + count + ", Size: " + size());
+            }
+            for (int i = 0; i < count; i++) {
+                if (boundsValid) {
+                    xBounds.removeFirst();
+                    yBounds.removeFirst();
+                }
+                if (xVals != null) {
+                    xVals.removeFirst();
+                }
+                yVals.removeFirst();
+            }
+        } finally {
+            rewriteVersion++;
+            version++;
             lock.writeLock().unlock();
         }
     }
@@ -279,7 +498,11 @@ public class SimpleXYSeries implements EditableXYSeries, OrderedXYSeries, PlotLi
                 xVals.addLast(x);
             }
             yVals.addLast(y);
+            if (boundsValid) {
+                trackBounds(x, y);
+            }
         } finally {
+            version++;
             lock.writeLock().unlock();
         }
     }
@@ -294,8 +517,11 @@ public class SimpleXYSeries implements EditableXYSeries, OrderedXYSeries, PlotLi
             if (size() <= 0) {
                 throw new NoSuchElementException();
             }
+            boundsValid = false;
             return new XYCoords(xVals != null ? xVals.removeLast() : yVals.size() - 1, yVals.removeLast());
         } finally {
+            rewriteVersion++;
+            version++;
             lock.writeLock().unlock();
         }
     }
@@ -309,7 +535,10 @@ public class SimpleXYSeries implements EditableXYSeries, OrderedXYSeries, PlotLi
         lock.writeLock().lock();
         try {
             this.title = title;
-        } finally {lock.writeLock().unlock();}
+        } finally {
+            version++;
+            lock.writeLock().unlock();
+        }
     }
 
     @Override
@@ -327,12 +556,58 @@ public class SimpleXYSeries implements EditableXYSeries, OrderedXYSeries, PlotLi
         return yVals.get(index);
     }
 
+    /**
+     * As of 1.5.12 this returns a copy rather than the list backing the series; changes to the
+     * returned list are no longer reflected in the series.  Use the editing methods of this
+     * class to modify values.
+     * @return A copy of the x-values of this series; null if {@link #useImplicitXVals()} has been
+     * invoked.
+     * @deprecated Use {@link #getXValues()}.
+     */
+    @Deprecated
     public LinkedList<Number> getxVals() {
-        return xVals;
+        lock.readLock().lock();
+        try {
+            return xVals != null ? new LinkedList<>(xVals) : null;
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
+    /**
+     * As of 1.5.12 this returns a copy rather than the list backing the series; changes to the
+     * returned list are no longer reflected in the series.  Use the editing methods of this
+     * class to modify values.
+     * @return A copy of the y-values of this series.
+     * @deprecated Use {@link #getYValues()}.
+     */
+    @Deprecated
     public LinkedList<Number> getyVals() {
-        return yVals;
+        lock.readLock().lock();
+        try {
+            return new LinkedList<>(yVals);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return A read-only view of the x-values backing this series; may be null if
+     * {@link #useImplicitXVals()} has been invoked.  Access should be synchronized with rendering.
+     * @since 1.5.12
+     */
+    public List<Number> getXValues() {
+        final List<Number> x = xVals;
+        return x != null ? Collections.unmodifiableList(x) : null;
+    }
+
+    /**
+     * @return A read-only view of the y-values backing this series.  Access should be
+     * synchronized with rendering.
+     * @since 1.5.12
+     */
+    public List<Number> getYValues() {
+        return Collections.unmodifiableList(yVals);
     }
 
     /**
@@ -345,8 +620,99 @@ public class SimpleXYSeries implements EditableXYSeries, OrderedXYSeries, PlotLi
               xVals.clear();
             }
             yVals.clear();
+            xBounds.clear();
+            yBounds.clear();
+            boundsValid = true;
         } finally {
+            rewriteVersion++;
+            version++;
             lock.writeLock().unlock();
         }
     }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public long getRewriteVersion() {
+        return rewriteVersion;
+    }
+
+    /**
+     * Returns the bounds tracked as values were added and removed, recalculating them first if
+     * the series has been modified in a way that could not be tracked incrementally.  X bounds
+     * are read straight from the first and last elements when using implicit x-values or when
+     * xOrder is {@link com.androidplot.xy.OrderedXYSeries.XOrder#ASCENDING}.
+     * @return The min/max values currently contained in this series or null if the series is empty.
+     * @since 1.5.12
+     */
+    @Override
+    public RectRegion minMax() {
+        lock.readLock().lock();
+        try {
+            final int size = size();
+            if (size == 0) {
+                return null;
+            }
+            synchronized (boundsLock) {
+                if (!boundsValid) {
+                    calculateBounds();
+                }
+                final Number minX;
+                final Number maxX;
+                if (xVals == null) {
+                    minX = 0;
+                    maxX = size - 1;
+                } else if (xOrder == XOrder.ASCENDING) {
+                    minX = firstNonNull(xVals, 0, 1);
+                    maxX = firstNonNull(xVals, size - 1, -1);
+                } else {
+                    minX = toNumber(xBounds.getMin());
+                    maxX = toNumber(xBounds.getMax());
+                }
+                return new RectRegion(minX, maxX,
+                        toNumber(yBounds.getMin()), toNumber(yBounds.getMax()));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * X bounds that can be read from the ends of the series are not tracked; a NaN keeps the
+     * x window aligned with the y window.
+     */
+    private void trackBounds(Number x, Number y) {
+        xBounds.addLast(xVals == null || xOrder == XOrder.ASCENDING ? Double.NaN : toDouble(x));
+        yBounds.addLast(toDouble(y));
+    }
+
+    private void calculateBounds() {
+        xBounds.clear();
+        yBounds.clear();
+        for (int i = 0; i < yVals.size(); i++) {
+            trackBounds(xVals != null ? xVals.get(i) : null, yVals.get(i));
+        }
+        boundsValid = true;
+    }
+
+    private static Number firstNonNull(List<Number> values, int index, int step) {
+        for (int i = index; i >= 0 && i < values.size(); i += step) {
+            final Number value = values.get(i);
+            if (value != null) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    private static double toDouble(Number value) {
+        return value != null ? value.doubleValue() : Double.NaN;
+    }
+
+    private static Number toNumber(double value) {
+        return Double.isNaN(value) ? null : value;
+    }
 }
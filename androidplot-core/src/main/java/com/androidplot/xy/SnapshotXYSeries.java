@@ -0,0 +1,280 @@
+package com.androidplot.xy;
+
+import android.graphics.Canvas;
+
+import com.androidplot.Plot;
+import com.androidplot.PlotListener;
+import com.androidplot.Versioned;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A fixed capacity streaming series whose render thread never takes a lock.  Producers append
+ * values to a private staging buffer and then invoke {@link #publish()} to make them visible;
+ * each publish copies the staging buffer into an immutable snapshot which is handed over to the
+ * render thread via a lock-free triple buffer.  Immediately before each draw, the most recently
+ * published snapshot is pinned and used for the remainder of the frame, so producers are never
+ * blocked by rendering and rendering always sees a consistent view of the data.
+ *
+ * Like {@link CircularXYSeries}, once the series is full each call to addLast evicts the oldest
+ * value.  Bounds are tracked incrementally as values are appended and published along with
+ * each snapshot.
+ * @since 1.5.12
+ */
+public class SnapshotXYSeries implements FastXYSeries, OrderedXYSeries, PrimitiveXYSeries, PlotListener, Versioned {
+
+    /**
+     * An immutable (once published) copy of the staging buffer.
+     */
+    private static class Snapshot {
+        final double[] xVals;
+        final double[] yVals;
+        int size;
+        RectRegion bounds;
+        long version;
+
+        Snapshot(int capacity) {
+            xVals = new double[capacity];
+            yVals = new double[capacity];
+        }
+    }
+
+    private volatile String title;
+
+    // written only by producers, while synchronized on staging:
+    private final CircularXYSeries staging;
+    private Snapshot back;
+    private volatile long version;
+
+    // the most recently published snapshot, waiting to be picked up by the render thread:
+    private final AtomicReference<Snapshot> ready;
+
+    // the snapshot currently pinned by the render thread:
+    private volatile Snapshot front;
+
+    /**
+     *
+     * @param title Title of the series
+     * @param capacity Max number of xy pairs the series can hold.  Must be > 0.
+     */
+    public SnapshotXYSeries(String title, int capacity) {
+        this.title = title;
+        this.staging = new CircularXYSeries(title, capacity);
+        this.back = new Snapshot(capacity);
+        this.ready = new AtomicReference<>(new Snapshot(capacity));
+        this.front = new Snapshot(capacity);
+    }
+
+    /**
+     * Append an xy pair to the staging buffer; not visible to readers until {@link #publish()}
+     * is invoked.
+     * @param x May be null.
+     * @param y May be null.
+     */
+    public void addLast(Number x, Number y) {
+        synchronized (staging) {
+            staging.addLast(x, y);
+        }
+    }
+
+    /**
+     * Append an xy pair to the staging buffer; not visible to readers until {@link #publish()}
+     * is invoked.
+     * @param x Use {@link Double#NaN} to represent null.
+     * @param y Use {@link Double#NaN} to represent null.
+     */
+    public void addLast(double x, double y) {
+        synchronized (staging) {
+            staging.addLast(x, y);
+        }
+    }
+
+    /**
+     * Append xy pairs to the staging buffer; not visible to readers until {@link #publish()}
+     * is invoked.
+     * @param xVals Use {@link Double#NaN} to represent null.
+     * @param yVals Must be the same length as xVals.  Use {@link Double#NaN} to represent null.
+     */
+    public void addLast(double[] xVals, double[] yVals) {
+        synchronized (staging) {
+            staging.addLast(xVals, yVals);
+        }
+    }
+
+    /**
+     * Remove the specified number of xy pairs from the start of the staging buffer; not visible
+     * to readers until {@link #publish()} is invoked.
+     * @param count Number of pairs to remove.
+     */
+    public void removeFirst(int count) {
+        synchronized (staging) {
+            staging.removeFirst(count);
+        }
+    }
+
+    /**
+     * Remove all values from the staging buffer; not visible to readers until {@link #publish()}
+     * is invoked.
+     */
+    public void clear() {
+        synchronized (staging) {
+            staging.clear();
+        }
+    }
+
+    /**
+     * Copies the current contents of the staging buffer into a new snapshot and makes it
+     * available to the render thread.  O(n) in the number of values held by the series;
+     * producers appending in bulk should publish once per batch rather than once per value.
+     */
+    public void publish() {
+        synchronized (staging) {
+            final int size = staging.size();
+            staging.copyX(0, size, back.xVals);
+            staging.copyY(0, size, back.yVals);
+            back.size = size;
+            back.bounds = staging.minMax();
+            back.version = ++version;
+
+            // hand the new snapshot over and take back whichever snapshot the render thread
+            // is not using:
+            back = ready.getAndSet(back);
+        }
+    }
+
+    /**
+     * Pins the most recently published snapshot, making it visible to readers of this series.
+     * Invoked automatically by the plot before each draw; must only be invoked from the
+     * render thread.
+     */
+    public void latch() {
+        if (ready.get().version > front.version) {
+            front = ready.getAndSet(front);
+        }
+    }
+
+    @Override
+    public void onBeforeDraw(Plot source, Canvas canvas) {
+        latch();
+    }
+
+    @Override
+    public void onAfterDraw(Plot source, Canvas canvas) {
+        // nothing to release
+    }
+
+    /**
+     * @return The bounds of the currently pinned snapshot, calculated when it was published.
+     */
+    @Override
+    public RectRegion minMax() {
+        return front.bounds;
+    }
+
+    /**
+     * Retrieve the current x-ordering specified for this series.  Default is
+     * {@link com.androidplot.xy.OrderedXYSeries.XOrder#NONE}.
+     * @return
+     */
+    @Override
+    public XOrder getXOrder() {
+        return staging.getXOrder();
+    }
+
+    /**
+     * If xVals are appended in strict ascending order, use this method to set
+     * {@link com.androidplot.xy.OrderedXYSeries.XOrder#ASCENDING} to provide an optimization
+     * hint to the renderer.
+     * @param xOrder
+     */
+    public void setXOrder(XOrder xOrder) {
+        synchronized (staging) {
+            staging.setXOrder(xOrder);
+        }
+    }
+
+    @Override
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        synchronized (staging) {
+            this.title = title;
+            version++;
+        }
+    }
+
+    /**
+     * @return A value that changes each time a snapshot is published or the title changes.
+     * Changes to the staging buffer are not reflected until published.
+     */
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * @return Max number of xy pairs this series can hold.
+     */
+    public int getCapacity() {
+        return staging.getCapacity();
+    }
+
+    @Override
+    public int size() {
+        return front.size;
+    }
+
+    @Override
+    public Number getX(int index) {
+        return toNumber(getXDouble(index));
+    }
+
+    @Override
+    public Number getY(int index) {
+        return toNumber(getYDouble(index));
+    }
+
+    @Override
+    public double getXDouble(int index) {
+        final Snapshot snapshot = front;
+        checkIndex(snapshot, index);
+        return snapshot.xVals[index];
+    }
+
+    @Override
+    public double getYDouble(int index) {
+        final Snapshot snapshot = front;
+        checkIndex(snapshot, index);
+        return snapshot.yVals[index];
+    }
+
+    @Override
+    public void copyX(int fromIndex, int toIndex, double[] dst) {
+        copy(front, true, fromIndex, toIndex, dst);
+    }
+
+    @Override
+    public void copyY(int fromIndex, int toIndex, double[] dst) {
+        copy(front, false, fromIndex, toIndex, dst);
+    }
+
+    private static void copy(Snapshot snapshot, boolean isX, int fromIndex, int toIndex, double[] dst) {
+        if (fromIndex < 0 || toIndex > snapshot.size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException(
+                    "fromIndex: " + fromIndex + ", toIndex: " + toIndex + ", Size: " + snapshot.size);
+        }
+        System.arraycopy(isX ? snapshot.xVals : snapshot.yVals, fromIndex, dst, 0, toIndex - fromIndex);
+    }
+
+    private static void checkIndex(Snapshot snapshot, int index) {
+        if (index < 0 || index >= snapshot.size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + snapshot.size);
+        }
+    }
+
+    private static Number toNumber(double value) {
+        return Double.isNaN(value) ? null : value;
+    }
+}
@@ -0,0 +1,69 @@
+package com.androidplot.xy;
+
+import android.graphics.Paint;
+import android.graphics.RectF;
+
+/**
+ * Combines the values that determine how parts of an {@link XYPlot} are drawn into a single
+ * key, using the same mixing as {@link com.androidplot.Plot#computeState()}.
+ * @since 1.5.12
+ */
+final class StateUtils {
+
+    private static final long PRIME = 0x100000001b3L;
+
+    private StateUtils() {}
+
+    static long mix(long state, long value) {
+        return (state ^ value) * PRIME;
+    }
+
+    static long mix(long state, double value) {
+        return mix(state, Double.doubleToLongBits(value));
+    }
+
+    /**
+     *
+     * @param state
+     * @param value Null is permitted.
+     * @return
+     */
+    static long mix(long state, Number value) {
+        return mix(state, value != null ? value.doubleValue() : Double.NaN);
+    }
+
+    static long mix(long state, RectRegion region) {
+        state = mix(state, region.getMinX());
+        state = mix(state, region.getMaxX());
+        state = mix(state, region.getMinY());
+        return mix(state, region.getMaxY());
+    }
+
+    static long mix(long state, StepModel model) {
+        if (model == null) {
+            return mix(state, 0L);
+        }
+        state = mix(state, model.getMode().ordinal());
+        return mix(state, model.getValue());
+    }
+
+    static long mix(long state, RectF rect) {
+        state = mix(state, rect.left);
+        state = mix(state, rect.top);
+        state = mix(state, rect.right);
+        return mix(state, rect.bottom);
+    }
+
+    /**
+     * Mixes in the identity of paint along with the properties most commonly changed in place.
+     */
+    static long mix(long state, Paint paint) {
+        state = mix(state, System.identityHashCode(paint));
+        if (paint != null) {
+            state = mix(state, paint.getColor());
+            state = mix(state, paint.getStrokeWidth());
+            state = mix(state, paint.getTextSize());
+        }
+        return state;
+    }
+}
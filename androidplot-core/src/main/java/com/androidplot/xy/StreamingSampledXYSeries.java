@@ -0,0 +1,354 @@
+package com.androidplot.xy;
+
+import android.graphics.Canvas;
+
+import com.androidplot.Plot;
+import com.androidplot.PlotListener;
+import com.androidplot.util.SeriesUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * A {@link SampledXYSeries} for live data that keeps growing.  Rather than resampling all of
+ * rawData whenever it changes, each zoom level is built by an incremental variant of the
+ * Largest-Triangle-Three-Buckets algorithm that consumes only the points appended since the
+ * last update, giving amortized O(1) work per appended point.
+ *
+ * Each zoom level groups its input into buckets of ratio points; a bucket is finalized (its
+ * representative point chosen and never revisited) once the bucket following it is full.
+ * Levels cascade: the first level samples rawData and each subsequent level samples the
+ * finalized points of the level below it.  To keep the end of each level current, the points
+ * of the bucket awaiting finalization and the most recent raw point are represented
+ * provisionally until they can be finalized.
+ *
+ * rawData is expected to only ever be appended to; {@link #update()} is invoked automatically
+ * before each draw.  If rawData shrinks, all zoom levels are rebuilt from scratch.
+ * @since 1.5.12
+ */
+public class StreamingSampledXYSeries extends SampledXYSeries implements PlotListener {
+
+    private final int bucketSize;
+    private int threshold;
+
+    // guards levels, bounds and the zoom level series; the render thread holds the read lock
+    // for the duration of each draw:
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock(true);
+    private final List<Level> levels = new ArrayList<>();
+    private final RectRegion bounds = new RectRegion();
+
+    // number of raw points consumed so far:
+    private int consumed;
+    private double lastX = Double.NaN;
+    private double lastY = Double.NaN;
+
+    /**
+     * Incrementally samples its input into a fixed size output series, one bucket at a time.
+     */
+    private static class Level {
+        final int bucketSize;
+        final FixedSizeEditableXYSeries output;
+
+        // number of finalized points at the start of output; any points after these are provisional:
+        int finalized;
+
+        // the most recently chosen point, serving as point 'a' when choosing the next point:
+        double aX = Double.NaN;
+        double aY = Double.NaN;
+        boolean hasFirst;
+
+        // a full bucket awaiting finalization:
+        final double[] pendingX;
+        final double[] pendingY;
+        boolean hasPending;
+
+        // the bucket currently being filled:
+        final double[] fillX;
+        final double[] fillY;
+        int fillSize;
+
+        Level(String title, int bucketSize) {
+            this.bucketSize = bucketSize;
+            this.output = new FixedSizeEditableXYSeries(title, 0);
+            pendingX = new double[bucketSize];
+            pendingY = new double[bucketSize];
+            fillX = new double[bucketSize];
+            fillY = new double[bucketSize];
+        }
+
+        /**
+         * Adds a point to the level's input.
+         * @return True if a point was finalized as a result, in which case it is available
+         * as (aX, aY).
+         */
+        boolean push(double x, double y) {
+            if (!hasFirst) {
+                // as with LTTB, the first point is always kept:
+                hasFirst = true;
+                commit(x, y);
+                return true;
+            }
+            fillX[fillSize] = x;
+            fillY[fillSize] = y;
+            fillSize++;
+            if (fillSize < bucketSize) {
+                return false;
+            }
+
+            boolean finalizedPoint = false;
+            if (hasPending) {
+                final int i = select(average(fillX, fillSize), average(fillY, fillSize));
+                commit(pendingX[i], pendingY[i]);
+                finalizedPoint = true;
+            }
+            System.arraycopy(fillX, 0, pendingX, 0, bucketSize);
+            System.arraycopy(fillY, 0, pendingY, 0, bucketSize);
+            hasPending = true;
+            fillSize = 0;
+            return finalizedPoint;
+        }
+
+        /**
+         * @return Index of the point within the pending bucket forming the largest triangle
+         * with point 'a' and the specified point 'c'.
+         */
+        int select(double cX, double cY) {
+            double maxArea = -1;
+            int maxAreaIndex = bucketSize - 1;
+            for (int i = 0; i < bucketSize; i++) {
+                final double area = Math.abs((aX - cX) * (pendingY[i] - aY)
+                        - (aX - pendingX[i]) * (cY - aY)) * 0.5;
+
+                // NaN areas (null values) never satisfy this check:
+                if (area > maxArea) {
+                    maxArea = area;
+                    maxAreaIndex = i;
+                }
+            }
+            return maxAreaIndex;
+        }
+
+        private void commit(double x, double y) {
+            output.resize(finalized + 1);
+            output.setX(x, finalized);
+            output.setY(y, finalized);
+            finalized++;
+            aX = x;
+            aY = y;
+        }
+
+        /**
+         * Replaces the provisional points at the end of output with the best point of the
+         * pending bucket, followed by the specified (most recent) raw point.
+         */
+        void updateProvisional(double rawX, double rawY) {
+            int size = finalized;
+            if (hasPending) {
+                final int i = fillSize > 0 ?
+                        select(average(fillX, fillSize), average(fillY, fillSize)) : select(rawX, rawY);
+                output.resize(++size);
+                output.setX(pendingX[i], size - 1);
+                output.setY(pendingY[i], size - 1);
+            }
+            if (size == 0 || output.getXDouble(size - 1) != rawX || output.getYDouble(size - 1) != rawY) {
+                output.resize(++size);
+                output.setX(rawX, size - 1);
+                output.setY(rawY, size - 1);
+            } else {
+                output.resize(size);
+            }
+        }
+
+        private static double average(double[] values, int size) {
+            double sum = 0;
+            int count = 0;
+            for (int i = 0; i < size; i++) {
+                if (!Double.isNaN(values[i])) {
+                    sum += values[i];
+                    count++;
+                }
+            }
+            return count > 0 ? sum / count : Double.NaN;
+        }
+    }
+
+    /**
+     *
+     * @param rawData The series to sample; must only ever be appended to.
+     * @param xOrder
+     * @param ratio The number of input points per bucket for each zoom level.  Must be > 1.
+     * @param threshold The desired size of the smallest sample series.  Zoom levels are added
+     *                  as rawData grows.  Must be > 0.
+     */
+    public StreamingSampledXYSeries(XYSeries rawData, XOrder xOrder, int ratio, int threshold) {
+        super(rawData, xOrder, ratio);
+        this.bucketSize = ratio;
+        setThreshold(threshold);
+        setBounds(bounds);
+        update();
+    }
+
+    public StreamingSampledXYSeries(XYSeries rawData, int ratio, int threshold) {
+        this(rawData, SeriesUtils.getXYOrder(rawData), ratio, threshold);
+    }
+
+    /**
+     * Consumes any points appended to rawData since the last update, updating each zoom level
+     * and adding new zoom levels as needed.
+     */
+    public void update() {
+        lock.writeLock().lock();
+        try {
+            final XYSeries rawData = getRawData();
+            final int size = rawData.size();
+            if (size < consumed) {
+                reset();
+            }
+            for (int i = consumed; i < size; i++) {
+                final double x = SeriesUtils.getXDouble(rawData, i);
+                final double y = SeriesUtils.getYDouble(rawData, i);
+                bounds.union(toNumber(x), toNumber(y));
+                cascade(0, x, y);
+                lastX = x;
+                lastY = y;
+            }
+            consumed = size;
+            addLevels();
+            for (Level level : levels) {
+                level.updateProvisional(lastX, lastY);
+            }
+            markChanged();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Pushes a point into the specified level, passing any point finalized as a result on to
+     * the next level.
+     */
+    private void cascade(int levelIndex, double x, double y) {
+        for (int i = levelIndex; i < levels.size(); i++) {
+            final Level level = levels.get(i);
+            if (!level.push(x, y)) {
+                return;
+            }
+            x = level.aX;
+            y = level.aY;
+        }
+    }
+
+    /**
+     * Adds a new top level for as long as the current top level holds enough points for the
+     * new level to exceed threshold, catching the new level up on its input.
+     */
+    private void addLevels() {
+        while (true) {
+            final Level top = levels.isEmpty() ? null : levels.get(levels.size() - 1);
+            final int inputSize = top == null ? consumed : top.finalized;
+            if (inputSize <= (long) threshold * bucketSize) {
+                return;
+            }
+            final Level level = new Level(getTitle(), bucketSize);
+            for (int i = 0; i < inputSize; i++) {
+                if (top == null) {
+                    level.push(SeriesUtils.getXDouble(getRawData(), i),
+                            SeriesUtils.getYDouble(getRawData(), i));
+                } else {
+                    level.push(top.output.getXDouble(i), top.output.getYDouble(i));
+                }
+            }
+            levels.add(level);
+            getZoomLevels().add(level.output);
+        }
+    }
+
+    private void reset() {
+        levels.clear();
+        getZoomLevels().clear();
+        setZoomFactor(1);
+        bounds.setMinX(null);
+        bounds.setMaxX(null);
+        bounds.setMinY(null);
+        bounds.setMaxY(null);
+        consumed = 0;
+        lastX = Double.NaN;
+        lastY = Double.NaN;
+    }
+
+    /**
+     * Discards all zoom levels and rebuilds them from the current contents of rawData.
+     */
+    @Override
+    public void resample() {
+        lock.writeLock().lock();
+        try {
+            reset();
+            update();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Does nothing; zoom levels are always generated by incremental LTTB, so the algorithm is
+     * ignored.
+     * @param algorithm
+     */
+    @Override
+    public void setAlgorithm(Sampler algorithm) {
+        // alternate sampling algorithms are not supported
+    }
+
+    /**
+     * Does nothing; levels are already maintained incrementally as rawData grows, so the flag
+     * is ignored and {@link #resample()} always rebuilds levels synchronously.
+     * @param async
+     */
+    @Override
+    public void setAsync(boolean async) {
+        // async resampling is not supported
+    }
+
+    @Override
+    public int getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * Unlike {@link SampledXYSeries}, threshold may exceed the current size of rawData.
+     * Takes effect as new points are consumed.
+     * @param threshold Must be > 0.
+     */
+    @Override
+    public void setThreshold(int threshold) {
+        if (threshold <= 0) {
+            throw new IllegalArgumentException("Threshold must be greater than 0.");
+        }
+        this.threshold = threshold;
+    }
+
+    @Override
+    public void onBeforeDraw(Plot source, Canvas canvas) {
+        super.onBeforeDraw(source, canvas);
+        if (getRawData() instanceof PlotListener) {
+            ((PlotListener) getRawData()).onBeforeDraw(source, canvas);
+        }
+        update();
+        lock.readLock().lock();
+    }
+
+    @Override
+    public void onAfterDraw(Plot source, Canvas canvas) {
+        lock.readLock().unlock();
+        if (getRawData() instanceof PlotListener) {
+            ((PlotListener) getRawData()).onAfterDraw(source, canvas);
+        }
+        super.onAfterDraw(source, canvas);
+    }
+
+    private static Number toNumber(double value) {
+        return Double.isNaN(value) ? null : value;
+    }
+}
@@ -0,0 +1,575 @@
+package com.androidplot.xy;
+
+import android.util.Log;
+
+import com.androidplot.Region;
+import com.androidplot.util.SeriesUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A {@link SampledXYSeries} whose zoom levels are split into tiles that are sampled on demand.
+ * Rather than sampling every zoom level over the full x-range up front, only the tiles
+ * intersecting the visible region are sampled, and sampled tiles are retained in an LRU cache
+ * bounded by a configurable memory budget.  Well suited to very large series of which only a
+ * small portion is viewed at a time.
+ *
+ * Each tile holds up to tileSize sampled points; a tile at zoom level L covers
+ * tileSize * ratio^(L+1) consecutive points of rawData.  rawData's x-values must be in ascending
+ * order and its contents must not change; use {@link #resample()} to discard all tiles if they
+ * do.
+ *
+ * Used in conjunction with {@link ZoomEstimator}, which supplies the visible region and zoom
+ * factor before each render.  The series then contains the sampled points of the visible tiles
+ * plus one tile on either side, or rawData itself when the zoom factor is 1.
+ *
+ * In async mode (see {@link #setAsync(boolean)}), tiles that are not cached are sampled on this
+ * series' executor rather than during render.  Until all tiles of the requested level are
+ * available, the nearest level whose tiles are all cached is served instead (or the previous
+ * tiles, if there is none) and plots are redrawn as each tile becomes available.
+ * @since 1.5.12
+ */
+public class TiledSampledXYSeries extends SampledXYSeries {
+    private static final String TAG = TiledSampledXYSeries.class.getName();
+
+    private static final long DEFAULT_MAX_CACHE_BYTES = 4 * 1024 * 1024;
+
+    // approximate size of each sampled point; one double each for x and y:
+    private static final int BYTES_PER_POINT = 16;
+
+    private final int tileSize;
+    private final int levelCount;
+    private long maxCacheBytes = DEFAULT_MAX_CACHE_BYTES;
+    private long cacheBytes;
+
+    // keyed by level and tile index; iteration order is least to most recently used:
+    private final LinkedHashMap<Long, Tile> cache = new LinkedHashMap<>(16, 0.75f, true);
+
+    // keys of tiles being sampled in the background, and a counter used to discard those
+    // tiles once the cache is cleared:
+    private final Set<Long> pending = new HashSet<>();
+    private int generation;
+
+    private Region visibleRegion;
+
+    // the visible tiles of the active level, concatenated; level is -1 when rawData is active:
+    private int level = -1;
+    private int firstTile;
+    private int lastTile;
+    private double[] xVals = new double[0];
+    private double[] yVals = new double[0];
+    private int size;
+
+    private static class Tile {
+        final FixedSizeEditableXYSeries series;
+
+        Tile(FixedSizeEditableXYSeries series) {
+            this.series = series;
+        }
+
+        long bytes() {
+            return (long) series.size() * BYTES_PER_POINT;
+        }
+    }
+
+    /**
+     * A read-only view of a range of rawData, used as input when sampling a tile.
+     */
+    private static class RangeXYSeries implements PrimitiveXYSeries, OrderedXYSeries {
+        private final XYSeries series;
+        private final int from;
+        private final int size;
+
+        RangeXYSeries(XYSeries series, int from, int to) {
+            this.series = series;
+            this.from = from;
+            this.size = to - from;
+        }
+
+        @Override
+        public String getTitle() {
+            return series.getTitle();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Number getX(int index) {
+            return series.getX(from + index);
+        }
+
+        @Override
+        public Number getY(int index) {
+            return series.getY(from + index);
+        }
+
+        @Override
+        public double getXDouble(int index) {
+            return SeriesUtils.getXDouble(series, from + index);
+        }
+
+        @Override
+        public double getYDouble(int index) {
+            return SeriesUtils.getYDouble(series, from + index);
+        }
+
+        @Override
+        public void copyX(int fromIndex, int toIndex, double[] dst) {
+            SeriesUtils.copyX(series, from + fromIndex, from + toIndex, dst);
+        }
+
+        @Override
+        public void copyY(int fromIndex, int toIndex, double[] dst) {
+            SeriesUtils.copyY(series, from + fromIndex, from + toIndex, dst);
+        }
+
+        @Override
+        public XOrder getXOrder() {
+            return XOrder.ASCENDING;
+        }
+    }
+
+    /**
+     *
+     * @param rawData The series to sample.  x-values must be in ascending order.
+     * @param ratio The ratio used to determine the resolution of each successive zoom level.
+     *              Must be > 1.
+     * @param threshold Zoom levels are added until the size of a level sampled in its entirety
+     *                  would fall below threshold.  Must be < rawData.size.
+     * @param tileSize Number of sampled points per tile.  Must be > 2.
+     */
+    public TiledSampledXYSeries(XYSeries rawData, float ratio, int threshold, int tileSize) {
+        super(rawData, XOrder.ASCENDING, ratio);
+        if (tileSize <= 2) {
+            throw new IllegalArgumentException("tileSize must be greater than 2.");
+        }
+        setThreshold(threshold);
+        this.tileSize = tileSize;
+
+        int count = 0;
+        int t = (int) Math.ceil(rawData.size() / ratio);
+        while (t > threshold) {
+            count++;
+            t = (int) Math.ceil(t / ratio);
+        }
+        this.levelCount = count;
+        setBounds(SeriesUtils.minMax(rawData));
+    }
+
+    /**
+     * Sets the region of x-values currently visible.  Invoked by {@link ZoomEstimator} before
+     * each render; takes effect on the next invocation of {@link #setZoomFactor(double)}.
+     * @param visibleRegion
+     */
+    public synchronized void setVisibleRegion(Region visibleRegion) {
+        this.visibleRegion = visibleRegion;
+    }
+
+    /**
+     * Selects the zoom level closest to factor and assembles the tiles of that level that
+     * intersect the visible region, sampling any that are not already cached.  In async mode,
+     * missing tiles are instead sampled in the background and the nearest fully cached level is
+     * assembled in the meantime.
+     * @param factor
+     */
+    @Override
+    public synchronized void setZoomFactor(double factor) {
+        if (factor <= 1 || levelCount == 0 || visibleRegion == null || !visibleRegion.isDefined()) {
+            if (level != -1) {
+                level = -1;
+                markChanged();
+            }
+            return;
+        }
+        final int newLevel = Math.min(getZoomIndex(factor, getRatio()), levelCount - 1);
+        if (!isAsync()) {
+            final int first = getFirstTile(newLevel);
+            final int last = getLastTile(newLevel);
+            if (newLevel == level && first == firstTile && last == lastTile) {
+                return;
+            }
+
+            // fetch every tile before assembling so that none are evicted in the meantime:
+            final Tile[] tiles = new Tile[last - first + 1];
+            for (int i = 0; i < tiles.length; i++) {
+                tiles[i] = getTile(newLevel, first + i);
+            }
+            assemble(newLevel, first, last, tiles);
+            return;
+        }
+
+        if (assembleCached(newLevel, true)) {
+            return;
+        }
+        for (int l = newLevel + 1; l < levelCount; l++) {
+            if (assembleCached(l, false)) {
+                return;
+            }
+        }
+        for (int l = newLevel - 1; l >= 0; l--) {
+            if (assembleCached(l, false)) {
+                return;
+            }
+        }
+        // nothing suitable is cached yet; keep the active tiles.
+    }
+
+    /**
+     * Assembles the visible tiles of the specified level if they are all cached.
+     * @param request If true, tiles that are not cached are sampled in the background.
+     * @return True if the tiles were assembled.
+     */
+    private boolean assembleCached(int level, boolean request) {
+        final int first = getFirstTile(level);
+        final int last = getLastTile(level);
+        if (level == this.level && first == firstTile && last == lastTile) {
+            return true;
+        }
+        final Tile[] tiles = new Tile[last - first + 1];
+        boolean isComplete = true;
+        for (int i = 0; i < tiles.length; i++) {
+            final Long key = getKey(level, first + i);
+            tiles[i] = cache.get(key);
+            if (tiles[i] == null) {
+                isComplete = false;
+                if (!request) {
+                    return false;
+                }
+                if (pending.add(key)) {
+                    sampleTileAsync(level, first + i, key);
+                }
+            }
+        }
+        if (isComplete) {
+            assemble(level, first, last, tiles);
+        }
+        return isComplete;
+    }
+
+    private void sampleTileAsync(final int level, final int index, final Long key) {
+        final int thisGeneration = generation;
+        getExecutor().execute(new Runnable() {
+            @Override
+            public void run() {
+                Tile tile = null;
+                try {
+                    tile = sampleTile(level, index);
+                } catch (RuntimeException e) {
+                    Log.e(TAG, "Exception encountered during resampling", e);
+                }
+                synchronized (TiledSampledXYSeries.this) {
+                    if (thisGeneration != generation) {
+                        return;
+                    }
+                    pending.remove(key);
+                    if (tile == null) {
+                        return;
+                    }
+                    cache.put(key, tile);
+                    cacheBytes += tile.bytes();
+                }
+                redrawPlots();
+            }
+        });
+    }
+
+    /**
+     * Concatenates tiles into the active series and trims the cache.
+     */
+    private void assemble(int newLevel, int newFirstTile, int newLastTile, Tile[] tiles) {
+        int newSize = 0;
+        for (Tile tile : tiles) {
+            newSize += tile.series.size();
+        }
+        if (xVals.length < newSize) {
+            xVals = new double[newSize];
+            yVals = new double[newSize];
+        }
+        int offset = 0;
+        for (Tile tile : tiles) {
+            for (int i = 0; i < tile.series.size(); i++, offset++) {
+                xVals[offset] = tile.series.getXDouble(i);
+                yVals[offset] = tile.series.getYDouble(i);
+            }
+        }
+        size = newSize;
+        level = newLevel;
+        firstTile = newFirstTile;
+        lastTile = newLastTile;
+        trimCache();
+        markChanged();
+    }
+
+    /**
+     * @return Index of the first tile of the specified level to assemble; the tile preceding the
+     * first visible tile.
+     */
+    private int getFirstTile(int level) {
+        return Math.max(0, indexOf(visibleRegion.getMin().doubleValue()) / getTileLength(level) - 1);
+    }
+
+    /**
+     * @return Index of the last tile of the specified level to assemble; the tile following the
+     * last visible tile.
+     */
+    private int getLastTile(int level) {
+        final int tileLength = getTileLength(level);
+        return Math.min((getRawData().size() - 1) / tileLength,
+                indexOf(visibleRegion.getMax().doubleValue()) / tileLength + 1);
+    }
+
+    private static Long getKey(int level, int index) {
+        return ((long) level << 32) | index;
+    }
+
+    /**
+     * @return Number of rawData points covered by a tile at the specified level.
+     */
+    private int getTileLength(int level) {
+        return (int) Math.min(Integer.MAX_VALUE,
+                Math.ceil(tileSize * Math.pow(getRatio(), level + 1)));
+    }
+
+    /**
+     * @return Index of the last point in rawData whose x-value is <= x, or 0 if none is.
+     * Null x-values are skipped.
+     */
+    private int indexOf(double x) {
+        final XYSeries rawData = getRawData();
+        int low = 0;
+        int high = rawData.size() - 1;
+        int result = 0;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+
+            // find the nearest non-null value at or after mid:
+            int i = mid;
+            double value = SeriesUtils.getXDouble(rawData, i);
+            while (Double.isNaN(value) && i < high) {
+                value = SeriesUtils.getXDouble(rawData, ++i);
+            }
+            if (Double.isNaN(value)) {
+                high = mid - 1;
+            } else if (value <= x) {
+                result = i;
+                low = i + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return result;
+    }
+
+    private Tile getTile(int level, int index) {
+        final Long key = getKey(level, index);
+        Tile tile = cache.get(key);
+        if (tile == null) {
+            tile = sampleTile(level, index);
+            cache.put(key, tile);
+            cacheBytes += tile.bytes();
+        }
+        return tile;
+    }
+
+    private Tile sampleTile(int level, int index) {
+        final XYSeries rawData = getRawData();
+        final int tileLength = getTileLength(level);
+        final int from = index * tileLength;
+        final int to = (int) Math.min(rawData.size(), (long) from + tileLength);
+        final RangeXYSeries input = new RangeXYSeries(rawData, from, to);
+        final int sampledSize = (int) Math.ceil(tileSize * (double) (to - from) / tileLength);
+        final FixedSizeEditableXYSeries output = new FixedSizeEditableXYSeries(getTitle(), sampledSize);
+        if (sampledSize >= input.size() || sampledSize < 3) {
+            // too few points to sample; keep everything or as many of the end points as fit:
+            for (int i = 0; i < sampledSize; i++) {
+                final int j = sampledSize >= input.size() ? i : i == 0 ? 0 : input.size() - 1;
+                output.setX(input.getXDouble(j), i);
+                output.setY(input.getYDouble(j), i);
+            }
+        } else {
+            getAlgorithm().run(input, output);
+        }
+        return new Tile(output);
+    }
+
+    /**
+     * Evicts least recently used tiles until the cache is within its budget.
+     */
+    private void trimCache() {
+        final Iterator<Map.Entry<Long, Tile>> it = cache.entrySet().iterator();
+        while (cacheBytes > maxCacheBytes && it.hasNext()) {
+            cacheBytes -= it.next().getValue().bytes();
+            it.remove();
+        }
+    }
+
+    /**
+     * Discards all sampled tiles; tiles are resampled as they become visible.
+     */
+    @Override
+    public synchronized void resample() {
+        generation++;
+        pending.clear();
+        cache.clear();
+        cacheBytes = 0;
+        level = -1;
+        markChanged();
+    }
+
+    /**
+     * Writes every zoom level in its entirety, concatenating its tiles.  Cached tiles are reused
+     * and the rest are sampled without being added to the cache, so this may take a while for
+     * large series.  The file may be restored as a {@link SampledXYSeries} using
+     * {@link SampledXYSeries#read(File, XYSeries, boolean)}.
+     * @param file The file to write; will be overwritten if it exists.
+     * @throws IOException
+     */
+    @Override
+    public void write(File file) throws IOException {
+        final int rawSize = getRawData().size();
+        final List<XYSeries> levels = new ArrayList<>(levelCount);
+        for (int l = 0; l < levelCount; l++) {
+            final int tileLength = getTileLength(l);
+            final Tile[] tiles = new Tile[rawSize == 0 ? 0 : (rawSize - 1) / tileLength + 1];
+            synchronized (this) {
+                for (int i = 0; i < tiles.length; i++) {
+                    tiles[i] = cache.get(getKey(l, i));
+                }
+            }
+            int levelSize = 0;
+            for (int i = 0; i < tiles.length; i++) {
+                if (tiles[i] == null) {
+                    tiles[i] = sampleTile(l, i);
+                }
+                levelSize += tiles[i].series.size();
+            }
+            final FixedSizeEditableXYSeries level = new FixedSizeEditableXYSeries(getTitle(), levelSize);
+            int offset = 0;
+            for (Tile tile : tiles) {
+                for (int i = 0; i < tile.series.size(); i++, offset++) {
+                    SeriesUtils.setXY(level, tile.series.getXDouble(i), tile.series.getYDouble(i), offset);
+                }
+            }
+            levels.add(level);
+        }
+        write(file, levels);
+    }
+
+    public synchronized long getMaxCacheBytes() {
+        return maxCacheBytes;
+    }
+
+    /**
+     * Sets the approximate max number of bytes used to cache sampled tiles.  Visible tiles
+     * remain visible when evicted, but must be resampled when next assembled.
+     * @param maxCacheBytes
+     */
+    public synchronized void setMaxCacheBytes(long maxCacheBytes) {
+        this.maxCacheBytes = maxCacheBytes;
+        trimCache();
+    }
+
+    /**
+     * @return The approximate number of bytes currently used by cached tiles.
+     */
+    public synchronized long getCacheBytes() {
+        return cacheBytes;
+    }
+
+    public int getTileSize() {
+        return tileSize;
+    }
+
+    /**
+     * @return The index of the active zoom level or -1 if rawData is active.
+     */
+    public synchronized int getLevel() {
+        return level;
+    }
+
+    @Override
+    public double getMaxZoomFactor() {
+        return Math.pow(getRatio(), levelCount);
+    }
+
+    @Override
+    public synchronized int size() {
+        return level < 0 ? getRawData().size() : size;
+    }
+
+    @Override
+    public synchronized Number getX(int index) {
+        return level < 0 ? getRawData().getX(index) : toNumber(getXDouble(index));
+    }
+
+    @Override
+    public synchronized Number getY(int index) {
+        return level < 0 ? getRawData().getY(index) : toNumber(getYDouble(index));
+    }
+
+    @Override
+    public synchronized double getXDouble(int index) {
+        if (level < 0) {
+            return SeriesUtils.getXDouble(getRawData(), index);
+        }
+        checkIndex(index);
+        return xVals[index];
+    }
+
+    @Override
+    public synchronized double getYDouble(int index) {
+        if (level < 0) {
+            return SeriesUtils.getYDouble(getRawData(), index);
+        }
+        checkIndex(index);
+        return yVals[index];
+    }
+
+    @Override
+    public synchronized void copyX(int fromIndex, int toIndex, double[] dst) {
+        if (level < 0) {
+            SeriesUtils.copyX(getRawData(), fromIndex, toIndex, dst);
+        } else {
+            checkRange(fromIndex, toIndex);
+            System.arraycopy(xVals, fromIndex, dst, 0, toIndex - fromIndex);
+        }
+    }
+
+    @Override
+    public synchronized void copyY(int fromIndex, int toIndex, double[] dst) {
+        if (level < 0) {
+            SeriesUtils.copyY(getRawData(), fromIndex, toIndex, dst);
+        } else {
+            checkRange(fromIndex, toIndex);
+            System.arraycopy(yVals, fromIndex, dst, 0, toIndex - fromIndex);
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private void checkRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException(
+                    "fromIndex: " + fromIndex + ", toIndex: " + toIndex + ", Size: " + size);
+        }
+    }
+
+    private static Number toNumber(double value) {
+        return Double.isNaN(value) ? null : value;
+    }
+}
@@ -56,7 +56,7 @@ public class XYConstraints {
     }
 
     public boolean contains(@NonNull RectRegion rectRegion) {
-        return contains(rectRegion.getMinY(), rectRegion.getMinY())
+        return contains(rectRegion.getMinX(), rectRegion.getMinY())
                 && contains(rectRegion.getMaxX(), rectRegion.getMaxY());
     }
 
@@ -65,23 +65,37 @@ public class XYConstraints {
             // this is essentially an invisible point:
             return false;
         }
+        return contains(x.doubleValue(), y.doubleValue());
+    }
+
+    /**
+     * Primitive equivalent of {@link #contains(Number, Number)}, where {@link Double#NaN}
+     * represents null.
+     * @param x
+     * @param y
+     * @return
+     * @since 1.5.12
+     */
+    public boolean contains(double x, double y) {
+        if (Double.isNaN(x) || Double.isNaN(y)) {
+            // this is essentially an invisible point:
+            return false;
+        }
 
         if (minX == null && maxX == null && minY == null && maxY == null) {
             //there are no constraints
             return true;
         }
 
-        final double dx = x.doubleValue();
-        if (minX != null && dx < minX.doubleValue()) {
+        if (minX != null && x < minX.doubleValue()) {
             return false;
-        } else if (maxX != null && dx > maxX.doubleValue()) {
+        } else if (maxX != null && x > maxX.doubleValue()) {
             return false;
         }
 
-        final double dy = y.doubleValue();
-        if (minY != null && dy < minY.doubleValue()) {
+        if (minY != null && y < minY.doubleValue()) {
             return false;
-        } else if (maxY != null && dy > maxY.doubleValue()) {
+        } else if (maxY != null && y > maxY.doubleValue()) {
             return false;
         }
 
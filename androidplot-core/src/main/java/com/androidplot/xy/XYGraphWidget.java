@@ -27,6 +27,7 @@ import androidx.annotation.Nullable;
 
 import com.androidplot.R;
 import com.androidplot.Region;
+import com.androidplot.ui.BitmapLayer;
 import com.androidplot.ui.Insets;
 import com.androidplot.ui.LayoutManager;
 import com.androidplot.ui.RenderStack;
@@ -131,6 +132,9 @@ public class XYGraphWidget extends Widget {
     private boolean drawMarkersEnabled = true;
     private boolean drawGridOnTop;
 
+    // cached rendering of the grid and line labels; null unless grid caching is enabled:
+    private BitmapLayer gridCache;
+
     /**
      * Set of edges for which line labels should be displayed
      */
@@ -615,11 +619,74 @@ public class XYGraphWidget extends Widget {
     }
 
     /**
-     * Draws the grid and domain/range labels for the plot.
+     * Draws the grid and domain/range labels for the plot, from the grid cache if grid caching
+     * is enabled.
      *
      * @param canvas
      */
     protected void drawGrid(Canvas canvas) {
+        if (gridCache != null && getRotation() == Rotation.NONE) {
+            drawCachedGrid(canvas);
+        } else {
+            renderGrid(canvas);
+        }
+    }
+
+    /**
+     * Draws the grid and line labels from the grid cache, first re-rendering the cache if
+     * {@link #computeGridKey()} has changed since it was rendered.
+     *
+     * @param canvas
+     */
+    protected void drawCachedGrid(Canvas canvas) {
+        gridCache.draw(canvas, getWidgetDimensions().canvasRect, computeGridKey());
+    }
+
+    /**
+     * Computes a value that changes whenever the rendering of the grid and line labels changes:
+     * the plot's bounds, origins and step models, the grid and label rects, and this widget's
+     * version, paints and line label styles.
+     * Changes to a {@link LineLabelStyle}'s {@link Format} or to a custom
+     * {@link LineLabelRenderer} can't be observed and must be followed by a call to
+     * {@link #markChanged()}.
+     * @return
+     * @since 1.5.12
+     */
+    protected long computeGridKey() {
+        long key = StateUtils.mix(getVersion(), drawGridOnTop ? ONE : ZERO);
+        key = StateUtils.mix(key, plot.getBounds());
+        key = StateUtils.mix(key, plot.getDomainOrigin());
+        key = StateUtils.mix(key, plot.getRangeOrigin());
+        key = StateUtils.mix(key, plot.getDomainStepModel());
+        key = StateUtils.mix(key, plot.getRangeStepModel());
+        key = StateUtils.mix(key, gridRect);
+        key = StateUtils.mix(key, labelRect);
+        key = StateUtils.mix(key, gridBackgroundPaint);
+        key = StateUtils.mix(key, domainGridLinePaint);
+        key = StateUtils.mix(key, domainSubGridLinePaint);
+        key = StateUtils.mix(key, domainOriginLinePaint);
+        key = StateUtils.mix(key, rangeGridLinePaint);
+        key = StateUtils.mix(key, rangeSubGridLinePaint);
+        key = StateUtils.mix(key, rangeOriginLinePaint);
+        for (Edge edge : lineLabelEdges) {
+            final LineLabelStyle style = getLineLabelStyle(edge);
+            key = StateUtils.mix(key, System.identityHashCode(getLineLabelRenderer(edge)));
+            key = StateUtils.mix(key, System.identityHashCode(style));
+            if (style != null) {
+                key = StateUtils.mix(key, System.identityHashCode(style.getFormat()));
+                key = StateUtils.mix(key, style.getRotation());
+                key = StateUtils.mix(key, style.getPaint());
+            }
+        }
+        return key;
+    }
+
+    /**
+     * Renders the grid and domain/range labels for the plot.
+     *
+     * @param canvas
+     */
+    protected void renderGrid(Canvas canvas) {
         if (!drawGridOnTop) {
             drawGridBackground(canvas);
         }
@@ -827,6 +894,7 @@ public class XYGraphWidget extends Widget {
 
     public void setGridBackgroundPaint(Paint gridBackgroundPaint) {
         this.gridBackgroundPaint = gridBackgroundPaint;
+        markChanged();
     }
 
     /**
@@ -843,6 +911,7 @@ public class XYGraphWidget extends Widget {
      */
     public void setDomainGridLinePaint(Paint gridLinePaint) {
         this.domainGridLinePaint = gridLinePaint;
+        markChanged();
     }
 
     /**
@@ -866,6 +935,7 @@ public class XYGraphWidget extends Widget {
      */
     public void setDomainSubGridLinePaint(Paint gridLinePaint) {
         this.domainSubGridLinePaint = gridLinePaint;
+        markChanged();
     }
 
     /**
@@ -875,6 +945,7 @@ public class XYGraphWidget extends Widget {
      */
     public void setRangeGridLinePaint(Paint gridLinePaint) {
         this.rangeGridLinePaint = gridLinePaint;
+        markChanged();
     }
 
     /**
@@ -891,6 +962,7 @@ public class XYGraphWidget extends Widget {
      */
     public void setRangeSubGridLinePaint(Paint gridLinePaint) {
         this.rangeSubGridLinePaint = gridLinePaint;
+        markChanged();
     }
 
     public int getLinesPerRangeLabel() {
@@ -899,6 +971,7 @@ public class XYGraphWidget extends Widget {
 
     public void setLinesPerRangeLabel(int linesPerRangeLabel) {
         this.linesPerRangeLabel = linesPerRangeLabel;
+        markChanged();
     }
 
     public int getLinesPerDomainLabel() {
@@ -907,6 +980,7 @@ public class XYGraphWidget extends Widget {
 
     public void setLinesPerDomainLabel(int linesPerDomainLabel) {
         this.linesPerDomainLabel = linesPerDomainLabel;
+        markChanged();
     }
 
     public Paint getDomainOriginLinePaint() {
@@ -915,6 +989,7 @@ public class XYGraphWidget extends Widget {
 
     public void setDomainOriginLinePaint(Paint domainOriginLinePaint) {
         this.domainOriginLinePaint = domainOriginLinePaint;
+        markChanged();
     }
 
     public Paint getRangeOriginLinePaint() {
@@ -923,6 +998,7 @@ public class XYGraphWidget extends Widget {
 
     public void setRangeOriginLinePaint(Paint rangeOriginLinePaint) {
         this.rangeOriginLinePaint = rangeOriginLinePaint;
+        markChanged();
     }
 
     /**
@@ -960,6 +1036,7 @@ public class XYGraphWidget extends Widget {
      */
     public void setDomainCursorPosition(Float domainCursorPosition) {
         this.domainCursorPosition = domainCursorPosition;
+        markChanged();
     }
 
     public Float getRangeCursorPosition() {
@@ -977,6 +1054,7 @@ public class XYGraphWidget extends Widget {
      */
     public void setRangeCursorPosition(Float rangeCursorPosition) {
         this.rangeCursorPosition = rangeCursorPosition;
+        markChanged();
     }
 
     public boolean isDrawGridOnTop() {
@@ -985,6 +1063,7 @@ public class XYGraphWidget extends Widget {
 
     public void setDrawGridOnTop(boolean drawGridOnTop) {
         this.drawGridOnTop = drawGridOnTop;
+        markChanged();
     }
 
     public boolean isDrawMarkersEnabled() {
@@ -993,6 +1072,7 @@ public class XYGraphWidget extends Widget {
 
     public void setDrawMarkersEnabled(boolean drawMarkersEnabled) {
         this.drawMarkersEnabled = drawMarkersEnabled;
+        markChanged();
     }
 
     public Paint getDomainCursorPaint() {
@@ -1005,6 +1085,7 @@ public class XYGraphWidget extends Widget {
      */
     public void setDomainCursorPaint(Paint domainCursorPaint) {
         this.domainCursorPaint = domainCursorPaint;
+        markChanged();
     }
 
     public Paint getRangeCursorPaint() {
@@ -1017,6 +1098,7 @@ public class XYGraphWidget extends Widget {
      */
     public void setRangeCursorPaint(Paint rangeCursorPaint) {
         this.rangeCursorPaint = rangeCursorPaint;
+        markChanged();
     }
 
     public float getLineExtensionTop() {
@@ -1025,6 +1107,7 @@ public class XYGraphWidget extends Widget {
 
     public void setLineExtensionTop(float lineExtensionTop) {
         this.lineExtensionTop = lineExtensionTop;
+        markChanged();
     }
 
     public float getLineExtensionBottom() {
@@ -1033,6 +1116,7 @@ public class XYGraphWidget extends Widget {
 
     public void setLineExtensionBottom(float lineExtensionBottom) {
         this.lineExtensionBottom = lineExtensionBottom;
+        markChanged();
     }
 
     public float getLineExtensionLeft() {
@@ -1041,6 +1125,7 @@ public class XYGraphWidget extends Widget {
 
     public void setLineExtensionLeft(float lineExtensionLeft) {
         this.lineExtensionLeft = lineExtensionLeft;
+        markChanged();
     }
 
     public float getLineExtensionRight() {
@@ -1049,6 +1134,7 @@ public class XYGraphWidget extends Widget {
 
     public void setLineExtensionRight(float lineExtensionRight) {
         this.lineExtensionRight = lineExtensionRight;
+        markChanged();
     }
 
     protected Map<Edge, LineLabelStyle> getDefaultLineLabelStyles() {
@@ -1075,6 +1161,7 @@ public class XYGraphWidget extends Widget {
 
     public void setLineLabelRenderer(Edge edge, LineLabelRenderer renderer) {
         lineLabelRenderers.put(edge, renderer);
+        markChanged();
     }
 
     public LineLabelStyle getLineLabelStyle(Edge edge) {
@@ -1083,6 +1170,7 @@ public class XYGraphWidget extends Widget {
 
     public void setLineLabelStyle(Edge edge, LineLabelStyle style) {
         lineLabelStyles.put(edge, style);
+        markChanged();
     }
 
     public CursorLabelFormatter getCursorLabelFormatter() {
@@ -1104,6 +1192,7 @@ public class XYGraphWidget extends Widget {
     public void setGridInsets(Insets gridInsets) {
         this.gridInsets = gridInsets;
         recalculateSizes(null);
+        markChanged();
     }
 
     /**
@@ -1116,6 +1205,42 @@ public class XYGraphWidget extends Widget {
     public void setLineLabelInsets(Insets lineLabelInsets) {
         this.lineLabelInsets = lineLabelInsets;
         recalculateSizes(null);
+        markChanged();
+    }
+
+    /**
+     * Not supported; series change without this widget being notified, so a cached rendering
+     * would go stale.  See {@link #setGridCachingEnabled(boolean)} to cache only the grid.
+     * @param cachingEnabled
+     * @throws UnsupportedOperationException if cachingEnabled is true.
+     */
+    @Override
+    public void setCachingEnabled(boolean cachingEnabled) {
+        if (cachingEnabled) {
+            throw new UnsupportedOperationException(
+                    "XYGraphWidget does not support caching; use setGridCachingEnabled.");
+        }
+        super.setCachingEnabled(false);
+    }
+
+    public boolean isGridCachingEnabled() {
+        return gridCache != null;
+    }
+
+    /**
+     * Enables caching of the rendered grid and line labels in a bitmap, so that they're only
+     * re-rendered when the plot's bounds, origins or step models, or the widget's layout, paints
+     * or line label styles change.  Useful for plots with fixed boundaries.
+     * @param gridCachingEnabled
+     * @since 1.5.12
+     */
+    public void setGridCachingEnabled(boolean gridCachingEnabled) {
+        if (!gridCachingEnabled) {
+            gridCache = null;
+        } else if (gridCache == null) {
+            gridCache = new BitmapLayer(canvas -> renderGrid(canvas));
+        }
+        markChanged();
     }
 
     public RectF getGridRect() {
@@ -1140,6 +1265,7 @@ public class XYGraphWidget extends Widget {
 
     public void setGridClippingEnabled(boolean gridClippingEnabled) {
         isGridClippingEnabled = gridClippingEnabled;
+        markChanged();
     }
 
     public boolean isLineLabelEnabled(Edge position) {
@@ -1152,10 +1278,12 @@ public class XYGraphWidget extends Widget {
             Collections.addAll(positionSet, positions);
         }
         this.lineLabelEdges = positionSet;
+        markChanged();
     }
 
     public void setLineLabelEdges(Collection<Edge> positions) {
         this.lineLabelEdges = EnumSet.copyOf(positions);
+        markChanged();
     }
 
     protected void setLineLabelEdges(int bitfield) {
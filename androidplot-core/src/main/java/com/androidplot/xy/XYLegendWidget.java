@@ -19,6 +19,7 @@ package com.androidplot.xy;
 import android.graphics.*;
 import androidx.annotation.NonNull;
 
+import com.androidplot.Versioned;
 import com.androidplot.ui.LayoutManager;
 import com.androidplot.ui.SeriesBundle;
 import com.androidplot.ui.Size;
@@ -77,6 +78,17 @@ public class XYLegendWidget extends LegendWidget<XYLegendItem> {
         }
     }
 
+    @Override
+    protected long getItemVersion(@NonNull XYLegendItem item) {
+        long version = 31 * super.getItemVersion(item) + System.identityHashCode(item.item);
+        if (item.item instanceof Versioned) {
+            version = 31 * version + ((Versioned) item.item).getVersion();
+        } else if (item.item instanceof XYRegionFormatter) {
+            version = 31 * version + ((XYRegionFormatter) item.item).getPaint().getColor();
+        }
+        return version;
+    }
+
     @Override
     protected List<XYLegendItem> getLegendItems() {
         final ArrayList<XYLegendItem> items = new ArrayList<>();
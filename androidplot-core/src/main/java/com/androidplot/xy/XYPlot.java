@@ -337,7 +337,52 @@ public class XYPlot extends Plot<XYSeries, XYSeriesFormatter, XYSeriesRenderer,
         // this call must be AFTER the notify so that if the listener
         // is a synchronized series, it has the opportunity to
         // place a read lock on it's data.
-        getRegistry().estimate(this); // TODO: clean this mechanism up!!!
+        if(getRegistry().estimate(this)) { // TODO: clean this mechanism up!!!
+            // the estimator may have activated a zoom level with different bounds:
+            calculateMinMaxVals();
+        }
+    }
+
+    /**
+     * Boundaries, limits, origins, step models and markers are compared by value so that
+     * changes made directly to the objects returned by their getters are also detected.
+     */
+    @Override
+    protected long computeState() {
+        long state = super.computeState();
+        if (state == UNKNOWN_STATE) {
+            return state;
+        }
+        state = mixState(state, constraints.getMinX());
+        state = mixState(state, constraints.getMaxX());
+        state = mixState(state, constraints.getMinY());
+        state = mixState(state, constraints.getMaxY());
+        state = mixState(state, constraints.getDomainFramingModel().ordinal());
+        state = mixState(state, constraints.getRangeFramingModel().ordinal());
+        state = mixState(state, constraints.getDomainLowerBoundaryMode().ordinal());
+        state = mixState(state, constraints.getDomainUpperBoundaryMode().ordinal());
+        state = mixState(state, constraints.getRangeLowerBoundaryMode().ordinal());
+        state = mixState(state, constraints.getRangeUpperBoundaryMode().ordinal());
+        state = StateUtils.mix(state, innerLimits);
+        state = StateUtils.mix(state, outerLimits);
+        state = mixState(state, userDomainOrigin);
+        state = mixState(state, userRangeOrigin);
+        state = StateUtils.mix(state, domainStepModel);
+        state = StateUtils.mix(state, rangeStepModel);
+        try {
+            for (int i = 0; i < xValueMarkers.size(); i++) {
+                state = mixState(state, System.identityHashCode(xValueMarkers.get(i)));
+                state = mixState(state, xValueMarkers.get(i).getValue());
+            }
+            for (int i = 0; i < yValueMarkers.size(); i++) {
+                state = mixState(state, System.identityHashCode(yValueMarkers.get(i)));
+                state = mixState(state, yValueMarkers.get(i).getValue());
+            }
+        } catch (RuntimeException e) {
+            // markers were added or removed concurrently:
+            return UNKNOWN_STATE;
+        }
+        return state;
     }
 
     /**
@@ -363,10 +408,12 @@ public class XYPlot extends Plot<XYSeries, XYSeriesFormatter, XYSeriesRenderer,
 
     public void setCursorPosition(PointF point) {
         getGraph().setCursorPosition(point);
+        markChanged();
     }
 
     public void setCursorPosition(float x, float y) {
         getGraph().setCursorPosition(x, y);
+        markChanged();
     }
 
     /**
@@ -782,6 +829,7 @@ public class XYPlot extends Plot<XYSeries, XYSeriesFormatter, XYSeriesRenderer,
      */
     public void setLinesPerRangeLabel(int linesPerLabel) {
         graph.setLinesPerRangeLabel(linesPerLabel);
+        markChanged();
     }
 
     /**
@@ -802,6 +850,7 @@ public class XYPlot extends Plot<XYSeries, XYSeriesFormatter, XYSeriesRenderer,
      */
     public void setLinesPerDomainLabel(int linesPerDomainLabel) {
         graph.setLinesPerDomainLabel(linesPerDomainLabel);
+        markChanged();
     }
 
     public StepMode getDomainStepMode() {
@@ -810,6 +859,7 @@ public class XYPlot extends Plot<XYSeries, XYSeriesFormatter, XYSeriesRenderer,
 
     public void setDomainStepMode(StepMode domainStepMode) {
         domainStepModel.setMode(domainStepMode);
+        markChanged();
     }
 
     public double getDomainStepValue() {
@@ -818,6 +868,7 @@ public class XYPlot extends Plot<XYSeries, XYSeriesFormatter, XYSeriesRenderer,
 
     public void setDomainStepValue(double domainStepValue) {
         domainStepModel.setValue(domainStepValue);
+        markChanged();
     }
 
     public void setDomainStep(StepMode mode, double value) {
@@ -831,6 +882,7 @@ public class XYPlot extends Plot<XYSeries, XYSeriesFormatter, XYSeriesRenderer,
 
     public void setRangeStepMode(StepMode rangeStepMode) {
         rangeStepModel.setMode(rangeStepMode);
+        markChanged();
     }
 
     public double getRangeStepValue() {
@@ -839,6 +891,7 @@ public class XYPlot extends Plot<XYSeries, XYSeriesFormatter, XYSeriesRenderer,
 
     public void setRangeStepValue(double rangeStepValue) {
         rangeStepModel.setValue(rangeStepValue);
+        markChanged();
     }
 
     public void setRangeStep(StepMode mode, double value) {
@@ -852,6 +905,7 @@ public class XYPlot extends Plot<XYSeries, XYSeriesFormatter, XYSeriesRenderer,
 
     public void setLegend(XYLegendWidget legend) {
         this.legend = legend;
+        markChanged();
     }
 
     public XYGraphWidget getGraph() {
@@ -860,6 +914,7 @@ public class XYPlot extends Plot<XYSeries, XYSeriesFormatter, XYSeriesRenderer,
 
     public void setGraph(XYGraphWidget graph) {
         this.graph = graph;
+        markChanged();
     }
 
     public TextLabelWidget getDomainTitle() {
@@ -868,10 +923,12 @@ public class XYPlot extends Plot<XYSeries, XYSeriesFormatter, XYSeriesRenderer,
 
     public void setDomainTitle(TextLabelWidget domainTitle) {
         this.domainTitle = domainTitle;
+        markChanged();
     }
 
     public void setDomainLabel(String domainLabel) {
         getDomainTitle().setText(domainLabel);
+        markChanged();
     }
 
     public TextLabelWidget getRangeTitle() {
@@ -880,10 +937,12 @@ public class XYPlot extends Plot<XYSeries, XYSeriesFormatter, XYSeriesRenderer,
 
     public void setRangeTitle(TextLabelWidget rangeTitle) {
         this.rangeTitle = rangeTitle;
+        markChanged();
     }
 
     public void setRangeLabel(String rangeLabel) {
         getRangeTitle().setText(rangeLabel);
+        markChanged();
     }
 
     /**
@@ -954,6 +1013,7 @@ public class XYPlot extends Plot<XYSeries, XYSeriesFormatter, XYSeriesRenderer,
         setUserMaxX((mode == BoundaryMode.FIXED) ? boundary : null);
         setDomainUpperBoundaryMode(mode);
         setDomainFramingModel(XYFramingModel.EDGE);
+        markChanged();
     }
 
     protected synchronized void setDomainLowerBoundaryMode(BoundaryMode mode) {
@@ -974,6 +1034,7 @@ public class XYPlot extends Plot<XYSeries, XYSeriesFormatter, XYSeriesRenderer,
         setUserMinX((mode == BoundaryMode.FIXED) ? boundary : null);
         setDomainLowerBoundaryMode(mode);
         setDomainFramingModel(XYFramingModel.EDGE);
+        markChanged();
     }
 
     protected synchronized void setRangeUpperBoundaryMode(BoundaryMode mode) {
@@ -994,6 +1055,7 @@ public class XYPlot extends Plot<XYSeries, XYSeriesFormatter, XYSeriesRenderer,
         setUserMaxY((mode == BoundaryMode.FIXED) ? boundary : null);
         setRangeUpperBoundaryMode(mode);
         setRangeFramingModel(XYFramingModel.EDGE);
+        markChanged();
     }
 
     protected synchronized void setRangeLowerBoundaryMode(BoundaryMode mode) {
@@ -1014,6 +1076,7 @@ public class XYPlot extends Plot<XYSeries, XYSeriesFormatter, XYSeriesRenderer,
         setUserMinY((mode == BoundaryMode.FIXED) ? boundary : null);
         setRangeLowerBoundaryMode(mode);
         setRangeFramingModel(XYFramingModel.EDGE);
+        markChanged();
     }
 
     public XYCoords getOrigin() {
@@ -1033,6 +1096,7 @@ public class XYPlot extends Plot<XYSeries, XYSeriesFormatter, XYSeriesRenderer,
             throw new NullPointerException("Origin value cannot be null.");
         }
         this.userDomainOrigin = origin;
+        markChanged();
     }
 
     public synchronized void setUserRangeOrigin(Number origin) {
@@ -1040,6 +1104,7 @@ public class XYPlot extends Plot<XYSeries, XYSeriesFormatter, XYSeriesRenderer,
             throw new NullPointerException("Origin value cannot be null.");
         }
         this.userRangeOrigin = origin;
+        markChanged();
     }
 
     @SuppressWarnings("SameParameterValue")
@@ -1168,6 +1233,7 @@ public class XYPlot extends Plot<XYSeries, XYSeriesFormatter, XYSeriesRenderer,
 
     public void setDomainStepModel(StepModel domainStepModel) {
         this.domainStepModel = domainStepModel;
+        markChanged();
     }
 
     public StepModel getRangeStepModel() {
@@ -1176,6 +1242,7 @@ public class XYPlot extends Plot<XYSeries, XYSeriesFormatter, XYSeriesRenderer,
 
     public void setRangeStepModel(StepModel rangeStepModel) {
         this.rangeStepModel = rangeStepModel;
+        markChanged();
     }
 
     @Override
@@ -77,6 +77,7 @@ public abstract class XYSeriesFormatter<XYRegionFormatterType extends XYRegionFo
 
     public void setPointLabeler(PointLabeler pointLabeler) {
         this.pointLabeler = pointLabeler;
+        markChanged();
     }
 
     public boolean hasPointLabelFormatter() {
@@ -92,5 +93,6 @@ public abstract class XYSeriesFormatter<XYRegionFormatterType extends XYRegionFo
 
     public void setPointLabelFormatter(PointLabelFormatter pointLabelFormatter) {
         this.pointLabelFormatter = pointLabelFormatter;
+        markChanged();
     }
 }
@@ -9,12 +9,26 @@ public class XYSeriesRegistry extends SeriesRegistry<XYSeriesBundle, XYSeries, X
 
     private Estimator estimator;
 
-    public void estimate(XYPlot plot) {
+    /**
+     * Runs the active estimator, if any, against each series.
+     * @param plot
+     * @return True if the estimator changed any {@link Versioned} series, in which case the
+     * plot's bounds may need to be recalculated.
+     */
+    public boolean estimate(XYPlot plot) {
+        boolean isChanged = false;
         if(estimator != null) {
             for (XYSeriesBundle sf : getSeriesAndFormatterList()) {
+                final long version = getVersion(sf.getSeries());
                 getEstimator().run(plot, sf);
+                isChanged |= getVersion(sf.getSeries()) != version;
             }
         }
+        return isChanged;
+    }
+
+    private static long getVersion(XYSeries series) {
+        return series instanceof Versioned ? ((Versioned) series).getVersion() : 0;
     }
 
     @Override
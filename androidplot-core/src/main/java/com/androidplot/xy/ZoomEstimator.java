@@ -1,8 +1,11 @@
 package com.androidplot.xy;
 
+import android.graphics.RectF;
+
 /**
  * Estimates optimal zoom level to be applied to a {@link SampledXYSeries} based on the current
- * visible bounds of the owning {@link XYPlot}.
+ * visible bounds of the owning {@link XYPlot}.  Also selects the timeframe of each
+ * {@link SampledCandlestickSeries}.
  */
 public class ZoomEstimator extends Estimator {
 
@@ -10,13 +13,52 @@ public class ZoomEstimator extends Estimator {
     public void run(XYPlot plot, XYSeriesBundle sf) {
         if(sf.getSeries() instanceof SampledXYSeries) {
             SampledXYSeries oxy = (SampledXYSeries) sf.getSeries();
-            final double factor = calculateZoom(oxy, plot.getBounds());
+            if(oxy instanceof TiledSampledXYSeries) {
+                // tiles are assembled for the visible region only:
+                ((TiledSampledXYSeries) oxy).setVisibleRegion(plot.getBounds().getxRegion());
+            }
+            final double factor = calculateZoom(plot, oxy);
             oxy.setZoomFactor(factor);
+        } else if(sf.getSeries() instanceof SampledCandlestickSeries.CandleSeries) {
+            final SampledCandlestickSeries candles =
+                    ((SampledCandlestickSeries.CandleSeries) sf.getSeries()).getOwner();
+            // the four series of a candlestick chart share a timeframe; select it once:
+            if(sf.getSeries() == candles.getHighSeries()) {
+                selectLevel(plot, candles);
+            }
+        }
+    }
+
+    /**
+     * Activates the level of series whose candles are wide enough for the current state of plot.
+     * @param plot
+     * @param series
+     * @since 1.5.12
+     */
+    protected void selectLevel(XYPlot plot, SampledCandlestickSeries series) {
+        final RectF gridRect = plot.getGraph().getGridRect();
+        final RectRegion bounds = plot.getBounds();
+        if(gridRect != null && bounds.getxRegion().isDefined()) {
+            series.selectLevel(Math.abs(bounds.getxRegion().length().doubleValue()), gridRect.width());
         }
     }
 
+    /**
+     * @param plot
+     * @param series
+     * @return The zoom factor to apply to series for the current state of plot.
+     * @since 1.5.12
+     */
+    protected double calculateZoom(XYPlot plot, SampledXYSeries series) {
+        return calculateZoom(series, plot.getBounds());
+    }
+
     protected double calculateZoom(SampledXYSeries series, RectRegion visibleBounds) {
         RectRegion seriesBounds = series.getBounds();
+        if(seriesBounds == null || !seriesBounds.getxRegion().isDefined()) {
+            // nothing sampled yet:
+            return 1;
+        }
         final double ratio = seriesBounds.getxRegion().ratio(visibleBounds.getxRegion()).doubleValue();
         final double maxFactor = series.getMaxZoomFactor();
         final double factor = Math.abs(Math.round(maxFactor / ratio));
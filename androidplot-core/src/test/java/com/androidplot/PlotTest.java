@@ -282,6 +282,18 @@ public class PlotTest extends AndroidplotTest {
         assertEquals(Color.parseColor(param3), plot.getBackgroundPaint().getColor());
     }
 
+    @Test
+    public void configure_withTripleBufferedRenderMode_setsRenderMode() throws Exception {
+        Plot plot = new MockPlot("MockPlot");
+
+        HashMap<String, String> params = new HashMap<String, String>();
+        params.put("renderMode", "use_triple_buffered_background_thread");
+
+        Fig.configure(RuntimeEnvironment.application, plot, params);
+
+        assertEquals(Plot.RenderMode.USE_TRIPLE_BUFFERED_BACKGROUND_THREAD, plot.getRenderMode());
+    }
+
     @Test
     public void setTitle_setsTitle() {
         Plot plot = new MockPlot("foo");
@@ -332,6 +344,57 @@ public class PlotTest extends AndroidplotTest {
         assertEquals(44f, plot.getPlotPaddingBottom());
     }
 
+    @Test
+    public void isDirty_returnsTrue_ifDirtyTrackingDisabled() {
+        Plot plot = new MockPlot("MockPlot");
+        plot.addSeries(new MockVersionedSeries(), new MockFormatter1());
+        plot.renderOnCanvas(new Canvas());
+        assertTrue(plot.isDirty());
+    }
+
+    @Test
+    public void isDirty_returnsFalse_untilSomethingChanges() {
+        Plot plot = new MockPlot("MockPlot");
+        plot.setDirtyTrackingEnabled(true);
+        MockVersionedSeries series = new MockVersionedSeries();
+        MockFormatter1 formatter = new MockFormatter1();
+        plot.addSeries(series, formatter);
+        assertTrue(plot.isDirty());
+
+        plot.renderOnCanvas(new Canvas());
+        assertFalse(plot.isDirty());
+
+        series.version++;
+        assertTrue(plot.isDirty());
+        plot.renderOnCanvas(new Canvas());
+        assertFalse(plot.isDirty());
+
+        formatter.markChanged();
+        assertTrue(plot.isDirty());
+        plot.renderOnCanvas(new Canvas());
+
+        plot.getTitle().setText("changed");
+        assertTrue(plot.isDirty());
+        plot.renderOnCanvas(new Canvas());
+
+        plot.markChanged();
+        assertTrue(plot.isDirty());
+        plot.renderOnCanvas(new Canvas());
+
+        plot.addSeries(new MockVersionedSeries(), formatter);
+        assertTrue(plot.isDirty());
+    }
+
+    @Test
+    public void isDirty_returnsTrue_ifAnySeriesIsNotVersioned() {
+        Plot plot = new MockPlot("MockPlot");
+        plot.setDirtyTrackingEnabled(true);
+        plot.addSeries(new MockVersionedSeries(), new MockFormatter1());
+        plot.addSeries(new MockSeries(), new MockFormatter1());
+        plot.renderOnCanvas(new Canvas());
+        assertTrue(plot.isDirty());
+    }
+
     static class MockPlotListener implements PlotListener {
 
         public void onBeforeDraw(Plot source, Canvas canvas) {
@@ -358,6 +421,16 @@ public class PlotTest extends AndroidplotTest {
         }
     }
 
+    static class MockVersionedSeries extends MockSeries implements Versioned {
+
+        long version;
+
+        @Override
+        public long getVersion() {
+            return version;
+        }
+    }
+
     static class MockSeries2 implements Series {
 
         public String getTitle() {
@@ -0,0 +1,123 @@
+package com.androidplot;
+
+import android.graphics.Bitmap;
+
+import com.androidplot.test.AndroidplotTest;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNotNull;
+import static junit.framework.Assert.assertNotSame;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertSame;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * Tests {@link Plot.TripleBufferedCanvas}
+ */
+public class TripleBufferedCanvasTest extends AndroidplotTest {
+
+    private Plot.TripleBufferedCanvas buffers;
+
+    @Before
+    public void setUp() {
+        buffers = new Plot.TripleBufferedCanvas();
+    }
+
+    private void renderFrame() {
+        assertNotNull(buffers.getCanvas());
+        buffers.swap();
+    }
+
+    @Test
+    public void getCanvas_returnsNullUntilResized() {
+        assertNull(buffers.getCanvas());
+        assertNull(buffers.getBitmap());
+    }
+
+    @Test
+    public void getBitmap_claimsMostRecentFrame() {
+        buffers.resize(10, 10);
+        final Bitmap initial = buffers.getBitmap();
+        assertNotNull(initial);
+
+        renderFrame();
+        final Bitmap frame = buffers.getBitmap();
+        assertNotSame(initial, frame);
+
+        // nothing new has been rendered:
+        assertSame(frame, buffers.getBitmap());
+    }
+
+    @Test
+    public void swap_neverDrawsIntoClaimedBitmap() {
+        buffers.resize(10, 10);
+        renderFrame();
+        final Bitmap claimed = buffers.getBitmap();
+
+        // frames rendered while the UI thread holds a bitmap alternate between the other two:
+        renderFrame();
+        renderFrame();
+        renderFrame();
+        final Bitmap next = buffers.getBitmap();
+        assertNotSame(claimed, next);
+
+        final Set<Bitmap> seen = Collections.newSetFromMap(new IdentityHashMap<Bitmap, Boolean>());
+        seen.add(claimed);
+        seen.add(next);
+        for (int i = 0; i < 6; i++) {
+            final Bitmap previous = buffers.getBitmap();
+            renderFrame();
+            final Bitmap current = buffers.getBitmap();
+            assertNotSame(previous, current);
+            seen.add(current);
+        }
+        assertEquals(3, seen.size());
+    }
+
+    @Test
+    public void swap_discardsFrameRenderedDuringResize() {
+        buffers.resize(10, 10);
+        renderFrame();
+        final Bitmap claimed = buffers.getBitmap();
+
+        // the render thread is mid-frame when the view is resized:
+        assertNotNull(buffers.getCanvas());
+        buffers.resize(20, 20);
+        buffers.swap();
+
+        final Bitmap front = buffers.getBitmap();
+        assertNotSame(claimed, front);
+        assertEquals(20, front.getWidth());
+        assertEquals(20, front.getHeight());
+
+        renderFrame();
+        final Bitmap frame = buffers.getBitmap();
+        assertNotSame(front, frame);
+        assertEquals(20, frame.getWidth());
+    }
+
+    @Test
+    public void recycle_dropsBuffersThatMayBeDisplayed() {
+        buffers.resize(10, 10);
+        final Bitmap initial = buffers.getBitmap();
+        renderFrame();
+
+        // initial is now the ready buffer, and may still be referenced by the display list:
+        final Bitmap front = buffers.getBitmap();
+        buffers.recycle();
+        assertFalse(initial.isRecycled());
+        assertFalse(front.isRecycled());
+        assertNull(buffers.getCanvas());
+        assertNull(buffers.getBitmap());
+
+        buffers.resizeToLast();
+        assertNotNull(buffers.getBitmap());
+    }
+}
@@ -1,5 +1,6 @@
 package com.androidplot.ui.widget;
 
+import android.graphics.Bitmap;
 import android.graphics.Canvas;
 import android.graphics.RectF;
 import androidx.annotation.NonNull;
@@ -13,6 +14,7 @@ import com.androidplot.ui.Size;
 import com.androidplot.ui.SizeMetric;
 import com.androidplot.ui.SizeMode;
 import com.androidplot.ui.VerticalPositioning;
+import com.androidplot.util.DisplayDimensions;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -22,10 +24,12 @@ import org.mockito.Mockito;
 
 import static junit.framework.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyFloat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.ArgumentMatchers.nullable;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -99,6 +103,26 @@ public class WidgetTest extends AndroidplotTest {
         verify(widget).onResize(isNull(), any(RectF.class));
     }
 
+    @Test
+    public void draw_withCachingEnabled_rendersOnlyWhenChanged() {
+        final RectF rect = new RectF(0, 0, 200, 200);
+        widget.layout(new DisplayDimensions(rect, rect, rect));
+        widget.setCachingEnabled(true);
+        widget.draw(canvas);
+        widget.draw(canvas);
+
+        verify(widget, times(1)).doOnDraw(any(Canvas.class), any(RectF.class));
+        verify(canvas, times(2)).drawBitmap(any(Bitmap.class), anyFloat(), anyFloat(), isNull());
+
+        widget.markChanged();
+        widget.draw(canvas);
+        verify(widget, times(2)).doOnDraw(any(Canvas.class), any(RectF.class));
+
+        widget.setCachingEnabled(false);
+        widget.draw(canvas);
+        verify(widget, times(3)).doOnDraw(eq(canvas), any(RectF.class));
+    }
+
     static class TestWidget extends Widget {
 
         public TestWidget(@NonNull LayoutManager layoutManager, @NonNull Size size) {
@@ -0,0 +1,95 @@
+package com.androidplot.util;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static junit.framework.Assert.assertEquals;
+
+public class ArrayDequeListTest {
+
+    @Test
+    public void addFirstAndAddLast_maintainOrder() {
+        ArrayDequeList<Integer> list = new ArrayDequeList<>(2);
+        list.addLast(2);
+        list.addLast(3);
+        list.addFirst(1);
+        list.addFirst(0);
+        list.addLast(4);
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4), list);
+    }
+
+    @Test
+    public void removeFirstAndRemoveLast_removeEnds() {
+        ArrayDequeList<Integer> list = new ArrayDequeList<>(4);
+        list.addAll(Arrays.asList(1, 2, 3, 4, 5));
+        assertEquals(1, (int) list.removeFirst());
+        assertEquals(5, (int) list.removeLast());
+        assertEquals(Arrays.asList(2, 3, 4), list);
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void removeFirst_throwsNoSuchElementException_ifEmpty() {
+        new ArrayDequeList<Integer>().removeFirst();
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void get_throwsIndexOutOfBoundsException_ifIndexExceedsSize() {
+        ArrayDequeList<Integer> list = new ArrayDequeList<>();
+        list.add(1);
+        list.get(1);
+    }
+
+    @Test
+    public void addAndRemoveByIndex_acrossWrappedBuffer() {
+        ArrayDequeList<Integer> list = new ArrayDequeList<>(4);
+        list.addLast(2);
+        list.addLast(3);
+        list.addFirst(1);
+        list.add(1, 9);
+        assertEquals(Arrays.asList(1, 9, 2, 3), list);
+
+        assertEquals(9, (int) list.remove(1));
+        assertEquals(Arrays.asList(1, 2, 3), list);
+
+        list.set(2, 7);
+        assertEquals(7, (int) list.get(2));
+    }
+
+    @Test
+    public void randomOperations_matchLinkedList() {
+        final Random random = new Random(42);
+        final ArrayDequeList<Integer> list = new ArrayDequeList<>(1);
+        final LinkedList<Integer> expected = new LinkedList<>();
+        for (int i = 0; i < 10000; i++) {
+            switch (random.nextInt(5)) {
+                case 0:
+                    list.addFirst(i);
+                    expected.addFirst(i);
+                    break;
+                case 1:
+                case 2:
+                    list.addLast(i);
+                    expected.addLast(i);
+                    break;
+                case 3:
+                    if (!expected.isEmpty()) {
+                        assertEquals(expected.removeFirst(), list.removeFirst());
+                    }
+                    break;
+                case 4:
+                    if (!expected.isEmpty()) {
+                        assertEquals(expected.removeLast(), list.removeLast());
+                    }
+                    break;
+            }
+        }
+        assertEquals(expected, list);
+
+        list.clear();
+        assertEquals(0, list.size());
+    }
+}
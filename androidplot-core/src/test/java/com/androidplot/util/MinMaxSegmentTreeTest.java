@@ -0,0 +1,57 @@
+package com.androidplot.util;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+public class MinMaxSegmentTreeTest {
+
+    @Test
+    public void getMinAndGetMax_ignoreNulls() {
+        MinMaxSegmentTree tree = new MinMaxSegmentTree(new double[] {Double.NaN, 4, -2, Double.NaN, 9});
+        assertEquals(-2d, tree.getMin(0, 5));
+        assertEquals(9d, tree.getMax(0, 5));
+        assertEquals(4d, tree.getMax(0, 2));
+        assertTrue(Double.isNaN(tree.getMin(3, 4)));
+        assertTrue(Double.isNaN(tree.getMax(2, 2)));
+    }
+
+    @Test
+    public void update_replacesLeaf() {
+        MinMaxSegmentTree tree = new MinMaxSegmentTree(new double[] {1, 2, 3});
+        tree.update(1, -5, 10);
+        assertEquals(-5d, tree.getMin(0, 3));
+        assertEquals(10d, tree.getMax(1, 2));
+        assertEquals(3d, tree.getMax(2, 3));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void getMin_throwsIndexOutOfBoundsException_ifRangeExceedsSize() {
+        new MinMaxSegmentTree(new double[] {1, 2, 3}).getMin(1, 4);
+    }
+
+    @Test
+    public void randomRanges_matchFullScan() {
+        final Random random = new Random(3);
+        final double[] values = new double[1001];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt(20) == 0 ? Double.NaN : random.nextGaussian();
+        }
+        final MinMaxSegmentTree tree = new MinMaxSegmentTree(values);
+        for (int q = 0; q < 1000; q++) {
+            final int from = random.nextInt(values.length);
+            final int to = from + random.nextInt(values.length - from + 1);
+            double min = Double.NaN;
+            double max = Double.NaN;
+            for (int i = from; i < to; i++) {
+                min = MinMaxSegmentTree.min(min, values[i]);
+                max = MinMaxSegmentTree.max(max, values[i]);
+            }
+            assertEquals(min, tree.getMin(from, to));
+            assertEquals(max, tree.getMax(from, to));
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.androidplot.util;
+
+import com.androidplot.Plot;
+import com.androidplot.PlotListener;
+import com.androidplot.test.AndroidplotTest;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import static junit.framework.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class RedrawerTest extends AndroidplotTest {
+
+    private static final long MS = 1000000;
+
+    private Plot plot;
+    private Redrawer redrawer;
+
+    // receives the redrawer's render notifications, standing in for the plot's render thread:
+    private PlotListener renderListener;
+
+    @Before
+    public void setUp() {
+        plot = mock(Plot.class);
+        when(plot.redrawIfDirty()).thenReturn(true);
+        redrawer = new Redrawer(plot, 10, false);
+        ArgumentCaptor<PlotListener> listener = ArgumentCaptor.forClass(PlotListener.class);
+        verify(plot).addListener(listener.capture());
+        renderListener = listener.getValue();
+    }
+
+    @After
+    public void tearDown() {
+        redrawer.finish();
+    }
+
+    private void render() {
+        renderListener.onBeforeDraw(plot, null);
+        renderListener.onAfterDraw(plot, null);
+    }
+
+    @Test
+    public void nextDeadline_keepsDeadline_ifOnSchedule() {
+        assertEquals(110 * MS, redrawer.nextDeadline(110 * MS, 10 * MS, 105 * MS));
+        assertEquals(0, redrawer.getMissedFrames());
+    }
+
+    @Test
+    public void nextDeadline_skipsPassedDeadlines() {
+        // deadlines at 110, 120 and 130ms have passed:
+        assertEquals(140 * MS, redrawer.nextDeadline(110 * MS, 10 * MS, 135 * MS));
+        assertEquals(3, redrawer.getMissedFrames());
+
+        // a deadline that is due now has also passed:
+        assertEquals(150 * MS, redrawer.nextDeadline(140 * MS, 10 * MS, 140 * MS));
+        assertEquals(4, redrawer.getMissedFrames());
+    }
+
+    @Test
+    public void redrawPlots_skipsPlotStillRendering() {
+        redrawer.redrawPlots(100 * MS);
+        redrawer.redrawPlots(200 * MS);
+        verify(plot, times(1)).redrawIfDirty();
+        assertEquals(1, redrawer.getMissedFrames());
+
+        render();
+        redrawer.redrawPlots(300 * MS);
+        verify(plot, times(2)).redrawIfDirty();
+        assertEquals(1, redrawer.getMissedFrames());
+    }
+
+    @Test
+    public void redrawPlots_redrawsPlotWithStaleRender() {
+        // the plot never renders the first request, e.g. because it was detached:
+        redrawer.redrawPlots(100 * MS);
+        redrawer.redrawPlots(1099 * MS);
+        verify(plot, times(1)).redrawIfDirty();
+
+        redrawer.redrawPlots(1100 * MS);
+        verify(plot, times(2)).redrawIfDirty();
+    }
+
+    @Test
+    public void redrawPlots_withDirtyTracking_doesNotWaitOnCleanPlots() {
+        // nothing has changed, so no render is requested:
+        when(plot.redrawIfDirty()).thenReturn(false);
+        redrawer.redrawPlots(100 * MS);
+
+        // the plot's data changes before the next frame:
+        when(plot.redrawIfDirty()).thenReturn(true);
+        redrawer.redrawPlots(200 * MS);
+
+        verify(plot, times(2)).redrawIfDirty();
+        assertEquals(0, redrawer.getMissedFrames());
+    }
+
+    @Test
+    public void getAchievedRate_countsRenderedFrames() {
+        redrawer.updateStatistics(MS);
+        for (int i = 0; i < 20; i++) {
+            redrawer.redrawPlots((i + 1) * 50 * MS);
+            // renders complete at half the rate redraws are attempted:
+            if (i % 2 == 0) {
+                render();
+            }
+        }
+        redrawer.updateStatistics(1001 * MS);
+        assertEquals(10f, redrawer.getAchievedRate(), 0.001f);
+    }
+
+    @Test
+    public void adjustRate_lowersRate_ifFramesMissed() {
+        assertEquals(24f, Redrawer.adjustRate(30, 1, 30, MS, 1), 0.001f);
+    }
+
+    @Test
+    public void adjustRate_lowersRate_ifRenderExceedsBudget() {
+        // budget at 30hz is ~33ms:
+        assertEquals(24f, Redrawer.adjustRate(30, 1, 30, 31 * MS, 0), 0.001f);
+    }
+
+    @Test
+    public void adjustRate_raisesRate_ifRenderWellWithinBudget() {
+        assertEquals(25f, Redrawer.adjustRate(20, 1, 30, 10 * MS, 0), 0.001f);
+    }
+
+    @Test
+    public void adjustRate_keepsRate_ifRenderWithinBudget() {
+        assertEquals(20f, Redrawer.adjustRate(20, 1, 30, 30 * MS, 0), 0.001f);
+    }
+
+    @Test
+    public void adjustRate_staysWithinLimits() {
+        assertEquals(30f, Redrawer.adjustRate(28, 1, 30, MS, 0), 0.001f);
+        assertEquals(5f, Redrawer.adjustRate(6, 5, 30, 500 * MS, 3), 0.001f);
+    }
+}
@@ -25,6 +25,7 @@ import java.util.Arrays;
 import java.util.List;
 import static junit.framework.Assert.assertEquals;
 import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertTrue;
 import static junit.framework.Assert.fail;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -308,4 +309,70 @@ public class SeriesUtilsTest {
         assertEquals(0, result.getMin().intValue());
         assertEquals(4, result.getMax().intValue());
     }
+
+    @Test
+    public void searchX_findsFirstIndexBeyondX() {
+        SimpleXYSeries series = new SimpleXYSeries(Arrays.asList(0, 1, null, null, 2, 2, 3),
+                Arrays.asList(0, 0, 0, 0, 0, 0, 0), "series");
+
+        // the index found may be preceded by nulls:
+        assertEquals(2, SeriesUtils.searchX(series, 2, false));
+        assertEquals(2, SeriesUtils.searchX(series, 1.5, false));
+        assertEquals(6, SeriesUtils.searchX(series, 2, true));
+        assertEquals(1, SeriesUtils.searchX(series, 1, false));
+        assertEquals(0, SeriesUtils.searchX(series, -1, true));
+        assertEquals(7, SeriesUtils.searchX(series, 3, true));
+    }
+
+    @Test
+    public void minMax_onPrimitiveXYSeries_calculatesExpectedRegion() {
+        CircularXYSeries series = new CircularXYSeries("test", 8);
+        for(int i = 0; i < NULLS.size(); i++) {
+            series.addLast(NULLS.get(i), NULLS.get(i));
+        }
+
+        // force a scan of the primitive values by supplying constraints:
+        RectRegion minMax = SeriesUtils.minMax(new XYConstraints(-10, 10, null, 3), series);
+        assertEquals(-1, minMax.getMinX().doubleValue(), 0);
+        assertEquals(2, minMax.getMaxX().doubleValue(), 0);
+        assertEquals(-1, minMax.getMinY().doubleValue(), 0);
+        assertEquals(2, minMax.getMaxY().doubleValue(), 0);
+
+        Region minMaxY = SeriesUtils.minMaxY(series);
+        assertEquals(-1, minMaxY.getMin().doubleValue(), 0);
+        assertEquals(4, minMaxY.getMax().doubleValue(), 0);
+    }
+
+    @Test
+    public void copyY_copiesNullsAsNaN() {
+        SimpleXYSeries series = new SimpleXYSeries(NULLS, SimpleXYSeries.ArrayFormat.Y_VALS_ONLY, null);
+        double[] result = new double[3];
+        SeriesUtils.copyY(series, 2, 5, result);
+        assertTrue(Double.isNaN(result[0]));
+        assertEquals(4, result[1], 0);
+        assertTrue(Double.isNaN(result[2]));
+
+        SeriesUtils.copyX(series, 2, 5, result);
+        assertEquals(2, result[0], 0);
+        assertEquals(4, result[2], 0);
+    }
+
+    @Test
+    public void contentHash_matchesForEqualContentAndDetectsChanges() {
+        SimpleXYSeries boxed = new SimpleXYSeries(LINEAR, NULLS, "boxed");
+        CircularXYSeries primitive = new CircularXYSeries("primitive", LINEAR.size());
+        for (int i = 0; i < LINEAR.size(); i++) {
+            primitive.addLast(LINEAR.get(i).doubleValue(),
+                    NULLS.get(i) != null ? NULLS.get(i).doubleValue() : Double.NaN);
+        }
+        final long hash = SeriesUtils.contentHash(boxed);
+        assertEquals(hash, SeriesUtils.contentHash(primitive));
+
+        boxed.setY(3, 0);
+        assertTrue(hash != SeriesUtils.contentHash(boxed));
+        boxed.setY(null, 0);
+        assertEquals(hash, SeriesUtils.contentHash(boxed));
+        boxed.removeLast();
+        assertTrue(hash != SeriesUtils.contentHash(boxed));
+    }
 }
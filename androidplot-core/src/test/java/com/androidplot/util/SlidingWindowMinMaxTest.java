@@ -0,0 +1,76 @@
+package com.androidplot.util;
+
+import org.junit.Test;
+
+import java.util.ArrayDeque;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+public class SlidingWindowMinMaxTest {
+
+    @Test
+    public void getMinAndGetMax_returnNaN_ifEmpty() {
+        SlidingWindowMinMax window = new SlidingWindowMinMax();
+        assertTrue(Double.isNaN(window.getMin()));
+        assertTrue(Double.isNaN(window.getMax()));
+    }
+
+    @Test
+    public void nulls_occupyPositionsButAreIgnored() {
+        SlidingWindowMinMax window = new SlidingWindowMinMax();
+        window.addLast(5);
+        window.addLast(Double.NaN);
+        window.addLast(3);
+        assertEquals(3, window.size());
+        assertEquals(3d, window.getMin());
+        assertEquals(5d, window.getMax());
+
+        window.removeFirst();
+        window.removeFirst();
+        assertEquals(3d, window.getMin());
+        assertEquals(3d, window.getMax());
+
+        window.removeFirst();
+        assertTrue(Double.isNaN(window.getMin()));
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void removeFirst_throwsNoSuchElementException_ifEmpty() {
+        new SlidingWindowMinMax().removeFirst();
+    }
+
+    @Test
+    public void randomWindow_matchesFullScan() {
+        final Random random = new Random(7);
+        final SlidingWindowMinMax window = new SlidingWindowMinMax();
+        final ArrayDeque<Double> expected = new ArrayDeque<>();
+        for (int i = 0; i < 10000; i++) {
+            if (expected.isEmpty() || random.nextInt(3) > 0) {
+                final double value = random.nextInt(10) == 0 ? Double.NaN : random.nextInt(100);
+                window.addLast(value);
+                expected.addLast(value);
+            } else {
+                window.removeFirst();
+                expected.removeFirst();
+            }
+
+            double min = Double.NaN;
+            double max = Double.NaN;
+            for (double value : expected) {
+                if (!Double.isNaN(value)) {
+                    min = Double.isNaN(min) ? value : Math.min(min, value);
+                    max = Double.isNaN(max) ? value : Math.max(max, value);
+                }
+            }
+            assertEquals(expected.size(), window.size());
+            assertEquals(min, window.getMin());
+            assertEquals(max, window.getMax());
+        }
+
+        window.clear();
+        assertEquals(0, window.size());
+    }
+}
@@ -0,0 +1,91 @@
+package com.androidplot.xy;
+
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertTrue;
+
+public class CandlestickAggregatorTest {
+
+    @Test
+    public void addTick_updatesCurrentCandle() {
+        CandlestickAggregator aggregator = new CandlestickAggregator(60, 10);
+        aggregator.addTick(61, 10);
+        aggregator.addTick(70, 12);
+        aggregator.addTick(80, 8);
+        aggregator.addTick(119, 11);
+
+        assertEquals(1, aggregator.size());
+        assertEquals(60d, aggregator.getOpenSeries().getX(0));
+        assertEquals(10d, aggregator.getOpenSeries().getY(0));
+        assertEquals(12d, aggregator.getHighSeries().getY(0));
+        assertEquals(8d, aggregator.getLowSeries().getY(0));
+        assertEquals(11d, aggregator.getCloseSeries().getY(0));
+    }
+
+    @Test
+    public void addTick_startsNewCandleEachInterval() {
+        CandlestickAggregator aggregator = new CandlestickAggregator(60, 10);
+        aggregator.addTick(0, 10);
+        aggregator.addTick(60, 20);
+
+        // no candle is produced for intervals without ticks:
+        aggregator.addTick(200, 30);
+        assertEquals(3, aggregator.size());
+        assertEquals(60d, aggregator.getCloseSeries().getX(1));
+        assertEquals(180d, aggregator.getCloseSeries().getX(2));
+        assertEquals(30d, aggregator.getOpenSeries().getY(2));
+    }
+
+    @Test
+    public void addTick_ignoresStaleAndNullTicks() {
+        CandlestickAggregator aggregator = new CandlestickAggregator(60, 10);
+        assertTrue(aggregator.addTick(60, 10));
+        assertFalse(aggregator.addTick(59, 20));
+        assertFalse(aggregator.addTick(61, Double.NaN));
+        assertEquals(1, aggregator.size());
+        assertEquals(10d, aggregator.getHighSeries().getY(0));
+    }
+
+    @Test
+    public void addTicks_evictsOldestCandles_andTracksBounds() {
+        CandlestickAggregator aggregator = new CandlestickAggregator(1, 3);
+        assertNull(((FastXYSeries) aggregator.getHighSeries()).minMax());
+        double[] timestamps = {0, 0.5, 1, 2, 3, 3.5};
+        double[] prices = {100, 1, 5, 6, 7, 50};
+        assertEquals(6, aggregator.addTicks(timestamps, prices, 0, 6));
+
+        // the first candle, holding the lowest low and highest high, was evicted:
+        assertEquals(3, aggregator.size());
+        assertEquals(1d, aggregator.getOpenSeries().getX(0));
+        RectRegion bounds = ((FastXYSeries) aggregator.getLowSeries()).minMax();
+        assertEquals(1d, bounds.getMinX().doubleValue());
+        assertEquals(3d, bounds.getMaxX().doubleValue());
+        assertEquals(5d, bounds.getMinY().doubleValue());
+        assertEquals(50d, bounds.getMaxY().doubleValue());
+
+        double[] closes = new double[3];
+        ((PrimitiveXYSeries) aggregator.getCloseSeries()).copyY(0, 3, closes);
+        assertEquals(5d, closes[0]);
+        assertEquals(6d, closes[1]);
+        assertEquals(50d, closes[2]);
+    }
+
+    @Test
+    public void minMax_withCapacityOfOne() {
+        CandlestickAggregator aggregator = new CandlestickAggregator(1, 1);
+        aggregator.addTick(0, 100);
+        aggregator.addTick(1, 5);
+        aggregator.addTick(1.5, 6);
+        RectRegion bounds = ((FastXYSeries) aggregator.getHighSeries()).minMax();
+        assertEquals(5d, bounds.getMinY().doubleValue());
+        assertEquals(6d, bounds.getMaxY().doubleValue());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructor_rejectsNonPositiveInterval() {
+        new CandlestickAggregator(0, 10);
+    }
+}
@@ -0,0 +1,193 @@
+package com.androidplot.xy;
+
+import com.androidplot.util.SeriesUtils;
+
+import org.junit.Test;
+
+import java.util.NoSuchElementException;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertTrue;
+
+public class CircularXYSeriesTest {
+
+    @Test
+    public void addLast_evictsOldest_whenFull() {
+        CircularXYSeries series = new CircularXYSeries("test", 3);
+        series.addLast(1, 10);
+        series.addLast(2, 20);
+        series.addLast(3, 30);
+        assertTrue(series.isFull());
+
+        series.addLast(4, 40);
+        assertEquals(3, series.size());
+        assertEquals(2d, series.getX(0));
+        assertEquals(20d, series.getY(0));
+        assertEquals(4d, series.getX(2));
+        assertEquals(40d, series.getY(2));
+    }
+
+    @Test
+    public void getY_returnsNull_forNullValues() {
+        CircularXYSeries series = new CircularXYSeries("test", 3);
+        series.addLast(1, null);
+        assertEquals(1d, series.getX(0));
+        assertNull(series.getY(0));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void getX_throwsIndexOutOfBoundsException_ifIndexExceedsSize() {
+        CircularXYSeries series = new CircularXYSeries("test", 3);
+        series.addLast(1, 1);
+        series.getX(1);
+    }
+
+    @Test
+    public void removeFirst_removesOldest() {
+        CircularXYSeries series = new CircularXYSeries("test", 2);
+        series.addLast(1, 10);
+        series.addLast(2, 20);
+        series.addLast(3, 30);
+
+        XYCoords first = series.removeFirst();
+        assertEquals(2d, first.x);
+        assertEquals(20d, first.y);
+        assertEquals(1, series.size());
+        assertEquals(3d, series.getX(0));
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void removeFirst_throwsNoSuchElementException_ifEmpty() {
+        new CircularXYSeries("test", 2).removeFirst();
+    }
+
+    @Test
+    public void minMax_tracksEvictedExtremes() {
+        CircularXYSeries series = new CircularXYSeries("test", 3);
+        assertNull(series.minMax());
+
+        series.addLast(1, 100);
+        series.addLast(2, -100);
+        series.addLast(3, 5);
+        RectRegion minMax = series.minMax();
+        assertEquals(1d, minMax.getMinX().doubleValue());
+        assertEquals(3d, minMax.getMaxX().doubleValue());
+        assertEquals(-100d, minMax.getMinY().doubleValue());
+        assertEquals(100d, minMax.getMaxY().doubleValue());
+
+        // evict both y extremes:
+        series.addLast(4, 6);
+        series.addLast(5, 7);
+        minMax = series.minMax();
+        assertEquals(3d, minMax.getMinX().doubleValue());
+        assertEquals(5d, minMax.getMaxX().doubleValue());
+        assertEquals(5d, minMax.getMinY().doubleValue());
+        assertEquals(7d, minMax.getMaxY().doubleValue());
+    }
+
+    @Test
+    public void minMax_ascendingXOrder_usesFirstAndLastX() {
+        CircularXYSeries series = new CircularXYSeries("test", 3);
+        series.setXOrder(OrderedXYSeries.XOrder.ASCENDING);
+        for(int i = 0; i < 10; i++) {
+            series.addLast(i, i * 2);
+        }
+        RectRegion minMax = series.minMax();
+        assertEquals(7d, minMax.getMinX().doubleValue());
+        assertEquals(9d, minMax.getMaxX().doubleValue());
+        assertEquals(14d, minMax.getMinY().doubleValue());
+        assertEquals(18d, minMax.getMaxY().doubleValue());
+    }
+
+    @Test
+    public void minMax_matchesSeriesUtils() {
+        CircularXYSeries series = new CircularXYSeries("test", 50);
+        for(int i = 0; i < 500; i++) {
+            series.addLast(Math.random(), Math.random());
+        }
+
+        final RectRegion expected = new RectRegion();
+        for(int i = 0; i < series.size(); i++) {
+            expected.union(series.getX(i), series.getY(i));
+        }
+        final RectRegion minMax = SeriesUtils.minMax(series);
+        assertEquals(expected.getMinX().doubleValue(), minMax.getMinX().doubleValue());
+        assertEquals(expected.getMaxX().doubleValue(), minMax.getMaxX().doubleValue());
+        assertEquals(expected.getMinY().doubleValue(), minMax.getMinY().doubleValue());
+        assertEquals(expected.getMaxY().doubleValue(), minMax.getMaxY().doubleValue());
+    }
+
+    @Test
+    public void clear_removesEverything() {
+        CircularXYSeries series = new CircularXYSeries("test", 3);
+        series.addLast(1, 1);
+        series.addLast(2, 2);
+        series.clear();
+        assertEquals(0, series.size());
+        assertNull(series.minMax());
+    }
+
+    @Test
+    public void copyY_copiesAcrossBufferWrap() {
+        CircularXYSeries series = new CircularXYSeries("test", 4);
+        for(int i = 0; i < 6; i++) {
+            series.addLast(i, i * 10);
+        }
+
+        double[] result = new double[4];
+        series.copyY(0, 4, result);
+        assertEquals(20d, result[0]);
+        assertEquals(30d, result[1]);
+        assertEquals(40d, result[2]);
+        assertEquals(50d, result[3]);
+
+        series.copyX(1, 3, result);
+        assertEquals(3d, result[0]);
+        assertEquals(4d, result[1]);
+    }
+
+    @Test
+    public void getYDouble_returnsNaN_forNullValues() {
+        CircularXYSeries series = new CircularXYSeries("test", 4);
+        series.addLast(1, null);
+        assertTrue(Double.isNaN(series.getYDouble(0)));
+        assertEquals(1d, series.getXDouble(0));
+    }
+
+    @Test
+    public void addLast_withArrays_evictsOldest() {
+        CircularXYSeries series = new CircularXYSeries("test", 3);
+        series.addLast(new double[] {1, 2, 3, 4}, new double[] {40, 30, 20, 10});
+        assertEquals(3, series.size());
+        assertEquals(2d, series.getX(0));
+        assertEquals(30d, series.minMax().getMaxY().doubleValue());
+    }
+
+    @Test
+    public void removeFirst_withCount_trimsHead() {
+        CircularXYSeries series = new CircularXYSeries("test", 3);
+        series.addLast(new double[] {1, 2, 3, 4}, new double[] {10, 20, 30, 40});
+        series.removeFirst(2);
+        assertEquals(1, series.size());
+        assertEquals(4d, series.getX(0));
+        assertEquals(40d, series.minMax().getMinY().doubleValue());
+    }
+
+    @Test
+    public void getVersion_changesWithEachModification() {
+        final CircularXYSeries series = new CircularXYSeries("series", 2);
+        long version = series.getVersion();
+        series.addLast(1, 1);
+        assertFalse(series.getVersion() == version);
+
+        version = series.getVersion();
+        series.minMax();
+        series.getY(0);
+        assertEquals(version, series.getVersion());
+
+        series.removeFirst();
+        assertFalse(series.getVersion() == version);
+    }
+}
@@ -0,0 +1,75 @@
+package com.androidplot.xy;
+
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertTrue;
+
+public class FixedSizeEditableXYSeriesTest {
+
+    @Test
+    public void constructor_initializesNullValues() {
+        FixedSizeEditableXYSeries series = new FixedSizeEditableXYSeries("test", 3);
+        assertEquals(3, series.size());
+        assertNull(series.getX(0));
+        assertNull(series.getY(2));
+        assertTrue(Double.isNaN(series.getYDouble(2)));
+    }
+
+    @Test
+    public void setXAndSetY_storeValuesAndNulls() {
+        FixedSizeEditableXYSeries series = new FixedSizeEditableXYSeries("test", 2);
+        series.setX(1, 0);
+        series.setY(10, 0);
+        series.setX(2.5, 1);
+        series.setY(Double.NaN, 1);
+        assertEquals(1d, series.getX(0));
+        assertEquals(10d, series.getY(0));
+        assertEquals(2.5, series.getXDouble(1));
+        assertNull(series.getY(1));
+
+        series.setY(null, 0);
+        assertNull(series.getY(0));
+        series.setY((Number) 5, 0);
+        assertEquals(5d, series.getY(0));
+    }
+
+    @Test
+    public void resize_growsWithNulls_andShrinksFromEnd() {
+        FixedSizeEditableXYSeries series = new FixedSizeEditableXYSeries("test", 2);
+        series.setX(1, 0);
+        series.setY(2, 0);
+        series.setX(3, 1);
+        series.setY(4, 1);
+
+        series.resize(1);
+        assertEquals(1, series.size());
+
+        // values dropped by shrinking must not reappear when growing again:
+        series.resize(100);
+        assertEquals(100, series.size());
+        assertEquals(1d, series.getX(0));
+        assertNull(series.getX(1));
+        assertNull(series.getY(99));
+    }
+
+    @Test
+    public void copyY_copiesNullsAsNaN() {
+        FixedSizeEditableXYSeries series = new FixedSizeEditableXYSeries("test", 3);
+        series.setY(1, 0);
+        series.setY(3, 2);
+        double[] result = new double[3];
+        series.copyY(0, 3, result);
+        assertEquals(1d, result[0]);
+        assertTrue(Double.isNaN(result[1]));
+        assertEquals(3d, result[2]);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void getX_throwsIndexOutOfBoundsException_ifIndexExceedsSize() {
+        FixedSizeEditableXYSeries series = new FixedSizeEditableXYSeries("test", 4);
+        series.resize(2);
+        series.getX(2);
+    }
+}
@@ -0,0 +1,154 @@
+package com.androidplot.xy;
+
+import com.androidplot.Region;
+import com.androidplot.util.SeriesUtils;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNull;
+
+public class IndexedXYSeriesTest {
+
+    private static SimpleXYSeries randomSeries(int size, long seed) {
+        final Random random = new Random(seed);
+        final List<Number> xVals = new ArrayList<>(size);
+        final List<Number> yVals = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            xVals.add(random.nextInt(25) == 0 ? null : i);
+            yVals.add(random.nextInt(25) == 0 ? null : random.nextInt(1000));
+        }
+        return new SimpleXYSeries(xVals, yVals, "random");
+    }
+
+    @Test
+    public void minMaxY_matchesFullScan() {
+        final SimpleXYSeries series = randomSeries(1000, 1);
+        final IndexedXYSeries indexed = new IndexedXYSeries(series, 8);
+        final Random random = new Random(2);
+        for (int q = 0; q < 500; q++) {
+            final int from = random.nextInt(series.size());
+            final int to = from + random.nextInt(series.size() - from + 1);
+            final Region expected = new Region();
+            for (int i = from; i < to; i++) {
+                if (series.getX(i) != null) {
+                    expected.union(series.getY(i));
+                }
+            }
+            assertSameRegion(expected, indexed.minMaxY(from, to));
+        }
+    }
+
+    @Test
+    public void minMaxY_matchesFullScan_asSeriesIsAppendedToAndTrimmed() {
+        final SimpleXYSeries series = randomSeries(10, 5);
+        final IndexedXYSeries indexed = new IndexedXYSeries(series, 4);
+        final Random random = new Random(6);
+        int nextX = series.size();
+        for (int batch = 0; batch < 50; batch++) {
+            for (int i = random.nextInt(20); i > 0; i--) {
+                series.addLast(nextX++, random.nextInt(1000));
+            }
+            if (batch % 10 == 9) {
+                // not an append, so the index is rebuilt:
+                series.removeFirst();
+            }
+            final int from = random.nextInt(series.size());
+            final int to = from + random.nextInt(series.size() - from + 1);
+            final Region expected = new Region();
+            for (int i = from; i < to; i++) {
+                if (series.getX(i) != null) {
+                    expected.union(series.getY(i));
+                }
+            }
+            assertSameRegion(expected, indexed.minMaxY(from, to));
+            assertEquals(OrderedXYSeries.XOrder.ASCENDING, indexed.getXOrder());
+        }
+    }
+
+    @Test
+    public void getXOrder_returnsNone_ifAppendedXValsNotAscending() {
+        final SimpleXYSeries series = new SimpleXYSeries(
+                SimpleXYSeries.ArrayFormat.Y_VALS_ONLY, "series", 1, 2, 3, 4);
+        final IndexedXYSeries indexed = new IndexedXYSeries(series, 2);
+        series.addLast(1, 100);
+        series.addLast(5, -100);
+
+        // doesn't throw while rendering:
+        assertEquals(100d, indexed.minMaxY(0, 6).getMax().doubleValue());
+        assertEquals(OrderedXYSeries.XOrder.NONE, indexed.getXOrder());
+
+        series.removeLast();
+        series.removeLast();
+        assertEquals(OrderedXYSeries.XOrder.ASCENDING, indexed.getXOrder());
+    }
+
+    private static void assertSameRegion(Region expected, Region result) {
+        if (expected.getMin() == null) {
+            assertNull(result);
+        } else {
+            assertEquals(expected.getMin().doubleValue(), result.getMin().doubleValue());
+            assertEquals(expected.getMax().doubleValue(), result.getMax().doubleValue());
+        }
+    }
+
+    @Test
+    public void minMaxY_includesPointsAppendedAfterIndexing() {
+        final SimpleXYSeries series = new SimpleXYSeries(
+                SimpleXYSeries.ArrayFormat.Y_VALS_ONLY, "series", 1, 2, 3, 4);
+        final IndexedXYSeries indexed = new IndexedXYSeries(series, 2);
+        series.addLast(4, 100);
+        assertEquals(100d, indexed.minMaxY(1, 5).getMax().doubleValue());
+        assertEquals(100d, indexed.minMax().getMaxY().doubleValue());
+        assertEquals(4d, indexed.minMax().getMaxX().doubleValue());
+    }
+
+    @Test
+    public void minMaxY_reindexesAfterVersionedSeriesChanges() {
+        final SimpleXYSeries series = new SimpleXYSeries(
+                SimpleXYSeries.ArrayFormat.Y_VALS_ONLY, "series", 1, 2, 3, 4, 5, 6, 7, 8);
+        final IndexedXYSeries indexed = new IndexedXYSeries(series, 2);
+        assertEquals(8d, indexed.minMaxY(0, 8).getMax().doubleValue());
+
+        series.setY(100, 2);
+        series.setY(-100, 5);
+        assertEquals(100d, indexed.minMaxY(0, 8).getMax().doubleValue());
+        assertEquals(-100d, indexed.minMaxY(0, 8).getMin().doubleValue());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructor_throwsIllegalArgumentException_ifXValsNotAscending() {
+        new IndexedXYSeries(new SimpleXYSeries(
+                SimpleXYSeries.ArrayFormat.XY_VALS_INTERLEAVED, "series", 1, 1, 0, 2));
+    }
+
+    @Test
+    public void seriesUtilsMinMax_withDomainConstraints_matchesUnindexedSeries() {
+        final SimpleXYSeries series = randomSeries(5000, 3);
+        final IndexedXYSeries indexed = new IndexedXYSeries(series);
+        final Random random = new Random(4);
+        for (int q = 0; q < 200; q++) {
+            final int minX = random.nextInt(5000) - 100;
+            final XYConstraints constraints =
+                    new XYConstraints(minX, minX + random.nextInt(1000), null, null);
+            final RectRegion expected = SeriesUtils.minMax(constraints, series);
+            final RectRegion result = SeriesUtils.minMax(constraints, indexed);
+            assertSameValue(expected.getMinX(), result.getMinX());
+            assertSameValue(expected.getMaxX(), result.getMaxX());
+            assertSameValue(expected.getMinY(), result.getMinY());
+            assertSameValue(expected.getMaxY(), result.getMaxY());
+        }
+    }
+
+    private static void assertSameValue(Number expected, Number actual) {
+        if (expected == null) {
+            assertNull(actual);
+        } else {
+            assertEquals(expected.doubleValue(), actual.doubleValue());
+        }
+    }
+}
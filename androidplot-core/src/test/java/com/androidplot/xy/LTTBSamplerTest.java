@@ -36,6 +36,30 @@ public class LTTBSamplerTest extends AndroidplotTest {
 
     }
 
+    @Test
+    public void run_primitiveSeries_producesSameResultAsBoxedSeries() {
+        final int size = 1000;
+        SimpleXYSeries boxed = new SimpleXYSeries("boxed");
+        CircularXYSeries primitive = new CircularXYSeries("primitive", size);
+        for(int i = 0; i < size; i++) {
+            final double y = Math.random();
+            boxed.addLast(i, y);
+            primitive.addLast(i, y);
+        }
+
+        FixedSizeEditableXYSeries boxedResult = new FixedSizeEditableXYSeries("boxed", 100);
+        FixedSizeEditableXYSeries primitiveResult = new FixedSizeEditableXYSeries("primitive", 100);
+        RectRegion boxedBounds = new LTTBSampler().run(boxed, boxedResult);
+        RectRegion primitiveBounds = new LTTBSampler().run(primitive, primitiveResult);
+
+        for(int i = 0; i < boxedResult.size(); i++) {
+            assertEquals(boxedResult.getX(i).doubleValue(), primitiveResult.getX(i).doubleValue());
+            assertEquals(boxedResult.getY(i).doubleValue(), primitiveResult.getY(i).doubleValue());
+        }
+        assertEquals(boxedBounds.getMinY().doubleValue(), primitiveBounds.getMinY().doubleValue());
+        assertEquals(boxedBounds.getMaxY().doubleValue(), primitiveBounds.getMaxY().doubleValue());
+    }
+
 //    @Test
 //    public void testDownsample() throws Exception {
 //
@@ -26,6 +26,8 @@ import org.mockito.*;
 import java.util.*;
 
 import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNotNull;
+import static junit.framework.Assert.assertTrue;
 import static org.mockito.Mockito.*;
 
 public class LineAndPointRendererTest extends AndroidplotTest {
@@ -185,6 +187,46 @@ public class LineAndPointRendererTest extends AndroidplotTest {
 
     }
 
+    @Test
+    public void testDrawSeries_withDecimation() throws Exception {
+
+        // 100x100 plot space:
+        plotArea = new RectF(0, 0, 99, 99);
+        LineAndPointFormatter formatter = new LineAndPointFormatter(Color.RED, Color.RED, null, null);
+        formatter.setDecimationEnabled(true);
+
+        // 10 points per pixel column:
+        SimpleXYSeries series = new SimpleXYSeries("some data");
+        for(int i = 0; i < 1000; i++) {
+            series.addLast(i, i % 10);
+        }
+
+        LineAndPointRenderer renderer = Mockito.spy(new LineAndPointRenderer(xyPlot));
+        xyPlot.addSeries(series, formatter);
+        xyPlot.calculateMinMaxVals();
+        renderer.drawSeries(canvas, plotArea, series, formatter);
+
+        ArgumentCaptor<List> capturedPoints= ArgumentCaptor.forClass(List.class);
+        verify(renderer, times(1)).renderPoints(
+                eq(canvas),
+                eq(plotArea),
+                eq(series),
+                eq(0),
+                eq(series.size()),
+                capturedPoints.capture(),
+                eq(formatter));
+
+        int retained = 0;
+        for(Object p : capturedPoints.getValue()) {
+            if(p != null) {
+                retained++;
+            }
+        }
+        assertTrue(retained <= 4 * 100);
+        assertNotNull(capturedPoints.getValue().get(0));
+        assertNotNull(capturedPoints.getValue().get(series.size() - 1));
+    }
+
     @Test
     public void testCullPointsCache() throws Exception {
         LineAndPointFormatter formatter =
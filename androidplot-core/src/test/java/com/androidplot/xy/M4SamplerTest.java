@@ -0,0 +1,85 @@
+package com.androidplot.xy;
+
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+public class M4SamplerTest {
+
+    @Test
+    public void run_keepsFirstMinMaxLastOfEachBucket() {
+        SimpleXYSeries input = new SimpleXYSeries("input");
+        input.setXOrder(OrderedXYSeries.XOrder.ASCENDING);
+        final double[] y = {5, 9, 1, 3, 4, 4, 8, 2, 6, 7};
+        for (int i = 0; i < y.length; i++) {
+            input.addLast(i, y[i]);
+        }
+
+        // two buckets spanning x 0-4.5 and 4.5-9:
+        FixedSizeEditableXYSeries output = new FixedSizeEditableXYSeries("output", 8);
+        RectRegion bounds = new M4Sampler().run(input, output);
+
+        final double[] expectedX = {0, 1, 2, 4, 5, 6, 7, 9};
+        assertEquals(expectedX.length, output.size());
+        for (int i = 0; i < expectedX.length; i++) {
+            assertEquals(expectedX[i], output.getXDouble(i));
+            assertEquals(y[(int) expectedX[i]], output.getYDouble(i));
+        }
+        assertEquals(0d, bounds.getMinX().doubleValue());
+        assertEquals(9d, bounds.getMaxX().doubleValue());
+        assertEquals(1d, bounds.getMinY().doubleValue());
+        assertEquals(9d, bounds.getMaxY().doubleValue());
+    }
+
+    @Test
+    public void run_preservesSpikes() {
+        SimpleXYSeries input = new SimpleXYSeries("input");
+        for (int i = 0; i < 10000; i++) {
+            input.addLast(i, i == 4321 ? 100 : i == 8765 ? -100 : Math.sin(i));
+        }
+        FixedSizeEditableXYSeries output = new FixedSizeEditableXYSeries("output", 400);
+        RectRegion bounds = new M4Sampler().run(input, output);
+
+        assertTrue(output.size() <= 400);
+        double max = 0;
+        double min = 0;
+        for (int i = 0; i < output.size(); i++) {
+            max = Math.max(max, output.getYDouble(i));
+            min = Math.min(min, output.getYDouble(i));
+        }
+        assertEquals(100d, max);
+        assertEquals(-100d, min);
+        assertEquals(100d, bounds.getMaxY().doubleValue());
+        assertEquals(-100d, bounds.getMinY().doubleValue());
+    }
+
+    @Test
+    public void run_skipsNullsAndShrinksOutput() {
+        SimpleXYSeries input = new SimpleXYSeries("input");
+        input.addLast(0, 1);
+        input.addLast(1, null);
+        input.addLast(null, 3);
+        input.addLast(3, 4);
+        FixedSizeEditableXYSeries output = new FixedSizeEditableXYSeries("output", 100);
+        new M4Sampler().run(input, output);
+
+        assertEquals(2, output.size());
+        assertEquals(0d, output.getXDouble(0));
+        assertEquals(3d, output.getXDouble(1));
+    }
+
+    @Test
+    public void run_withSampledXYSeries() {
+        SimpleXYSeries input = new SimpleXYSeries("input");
+        for (int i = 0; i < 1000; i++) {
+            input.addLast(i, Math.sin(i));
+        }
+        SampledXYSeries sampled = new SampledXYSeries(input, 2, 100);
+        sampled.setAlgorithm(new M4Sampler());
+        sampled.setZoomFactor(2);
+        assertTrue(sampled.size() <= 500);
+        assertEquals(0d, sampled.getXDouble(0));
+        assertEquals(999d, sampled.getXDouble(sampled.size() - 1));
+    }
+}
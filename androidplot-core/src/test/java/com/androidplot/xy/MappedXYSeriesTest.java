@@ -0,0 +1,78 @@
+package com.androidplot.xy;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertTrue;
+
+public class MappedXYSeriesTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void write_thenMap_roundTripsValues() throws IOException {
+        final SimpleXYSeries series = new SimpleXYSeries(
+                Arrays.<Number>asList(1, 2, null, 4, 5),
+                Arrays.<Number>asList(10, null, 30, -40, 50), "source");
+        final File file = folder.newFile();
+        MappedXYSeries.write(file, series);
+
+        final MappedXYSeries mapped = new MappedXYSeries(file, "mapped");
+        assertEquals("mapped", mapped.getTitle());
+        assertEquals(5, mapped.size());
+        assertEquals(OrderedXYSeries.XOrder.ASCENDING, mapped.getXOrder());
+        assertEquals(1d, mapped.getX(0));
+        assertEquals(10d, mapped.getY(0));
+        assertNull(mapped.getY(1));
+        assertNull(mapped.getX(2));
+        assertEquals(-40d, mapped.getY(3));
+
+        final double[] yVals = new double[3];
+        mapped.copyY(1, 4, yVals);
+        assertTrue(Double.isNaN(yVals[0]));
+        assertEquals(30d, yVals[1]);
+        assertEquals(-40d, yVals[2]);
+    }
+
+    @Test
+    public void minMax_isReadFromHeader() throws IOException {
+        final File file = folder.newFile();
+        MappedXYSeries.write(file, new SimpleXYSeries(
+                SimpleXYSeries.ArrayFormat.XY_VALS_INTERLEAVED, "source", 3, 7, 1, -2, 2, 9));
+
+        final MappedXYSeries mapped = new MappedXYSeries(file, "mapped");
+        assertEquals(OrderedXYSeries.XOrder.NONE, mapped.getXOrder());
+        final RectRegion minMax = mapped.minMax();
+        assertEquals(1d, minMax.getMinX().doubleValue());
+        assertEquals(3d, minMax.getMaxX().doubleValue());
+        assertEquals(-2d, minMax.getMinY().doubleValue());
+        assertEquals(9d, minMax.getMaxY().doubleValue());
+    }
+
+    @Test
+    public void minMax_returnsNull_ifEmpty() throws IOException {
+        final File file = folder.newFile();
+        MappedXYSeries.write(file, new SimpleXYSeries("empty"));
+        final MappedXYSeries mapped = new MappedXYSeries(file, "mapped");
+        assertEquals(0, mapped.size());
+        assertNull(mapped.minMax());
+    }
+
+    @Test(expected = IOException.class)
+    public void constructor_throwsIOException_ifNotASeriesFile() throws IOException {
+        final File file = folder.newFile();
+        final FileOutputStream out = new FileOutputStream(file);
+        out.write(new byte[MappedXYSeries.HEADER_SIZE]);
+        out.close();
+        new MappedXYSeries(file, "mapped");
+    }
+}
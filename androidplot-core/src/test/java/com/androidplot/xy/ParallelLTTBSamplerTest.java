@@ -0,0 +1,103 @@
+package com.androidplot.xy;
+
+import org.junit.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertTrue;
+
+public class ParallelLTTBSamplerTest {
+
+    @Test
+    public void run_withoutNullsOrChunking_matchesLTTBSampler() {
+        SimpleXYSeries input = new SimpleXYSeries("input");
+        for (int i = 0; i < 1000; i++) {
+            input.addLast(i, Math.random());
+        }
+        FixedSizeEditableXYSeries expected = new FixedSizeEditableXYSeries("expected", 100);
+        FixedSizeEditableXYSeries actual = new FixedSizeEditableXYSeries("actual", 100);
+        new LTTBSampler().run(input, expected);
+        new ParallelLTTBSampler().run(input, actual);
+
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.getXDouble(i), actual.getXDouble(i));
+            assertEquals(expected.getYDouble(i), actual.getYDouble(i));
+        }
+    }
+
+    @Test
+    public void run_preservesGaps() {
+        SimpleXYSeries input = new SimpleXYSeries("input");
+        for (int i = 0; i < 3000; i++) {
+            input.addLast(i, i >= 1000 && i < 1010 ? null : Math.sin(i));
+        }
+        input.addLast(null, 5);
+        input.addLast(3001, 1);
+        input.addLast(3002, 2);
+
+        FixedSizeEditableXYSeries output = new FixedSizeEditableXYSeries("output", 300);
+        RectRegion bounds = new ParallelLTTBSampler().run(input, output);
+
+        assertTrue(output.size() <= 300);
+        int gaps = 0;
+        double lastX = -1;
+        for (int i = 0; i < output.size(); i++) {
+            if (output.getY(i) == null) {
+                assertNull(output.getX(i));
+                gaps++;
+            } else {
+                // x order is preserved:
+                assertTrue(output.getXDouble(i) > lastX);
+                lastX = output.getXDouble(i);
+            }
+        }
+        assertEquals(2, gaps);
+        assertEquals(0d, output.getXDouble(0));
+        assertEquals(3002d, output.getXDouble(output.size() - 1));
+        assertEquals(0d, bounds.getMinX().doubleValue());
+        assertEquals(3002d, bounds.getMaxX().doubleValue());
+    }
+
+    @Test
+    public void run_withManyChunks() {
+        SimpleXYSeries input = new SimpleXYSeries("input");
+        for (int i = 0; i < 100000; i++) {
+            input.addLast(i, i == 54321 ? 100 : Math.sin(i));
+        }
+        FixedSizeEditableXYSeries output = new FixedSizeEditableXYSeries("output", 1000);
+        new ParallelLTTBSampler(new ForkJoinPool(4), 1000).run(input, output);
+
+        assertEquals(1000, output.size());
+        double max = 0;
+        double lastX = -1;
+        for (int i = 0; i < output.size(); i++) {
+            assertTrue(output.getXDouble(i) > lastX);
+            lastX = output.getXDouble(i);
+            max = Math.max(max, output.getYDouble(i));
+        }
+        assertEquals(100d, max);
+    }
+
+    @Test
+    public void run_withMoreCapacityThanInput_copiesInput() {
+        SimpleXYSeries input = new SimpleXYSeries("input");
+        input.addLast(0, 1);
+        input.addLast(1, null);
+        input.addLast(2, 3);
+        FixedSizeEditableXYSeries output = new FixedSizeEditableXYSeries("output", 10);
+        new ParallelLTTBSampler().run(input, output);
+
+        assertEquals(3, output.size());
+        assertEquals(1d, output.getYDouble(0));
+        assertNull(output.getY(1));
+        assertEquals(3d, output.getYDouble(2));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructor_throwsIllegalArgumentException_ifChunkSizeTooSmall() {
+        new ParallelLTTBSampler(new ForkJoinPool(), 2);
+    }
+}
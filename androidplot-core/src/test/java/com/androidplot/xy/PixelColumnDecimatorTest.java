@@ -0,0 +1,82 @@
+package com.androidplot.xy;
+
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+
+public class PixelColumnDecimatorTest {
+
+    private static float[] points(float... xy) {
+        return xy;
+    }
+
+    private static void assertRetained(PixelColumnDecimator decimator, int... expected) {
+        assertEquals(expected.length, decimator.size());
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], decimator.get(i));
+        }
+    }
+
+    @Test
+    public void decimate_keepsFirstMinMaxLastPerColumn() {
+        PixelColumnDecimator decimator = new PixelColumnDecimator();
+        final float[] points = points(
+                0.1f, 5, 0.2f, 9, 0.3f, 1, 0.4f, 3, 0.5f, 4,  // column 0
+                1.0f, 4, 1.5f, 8);                               // column 1
+        assertEquals(6, decimator.decimate(points, 7));
+        assertRetained(decimator, 0, 1, 2, 4, 5, 6);
+    }
+
+    @Test
+    public void decimate_keepsAllPoints_whenOnePerColumn() {
+        PixelColumnDecimator decimator = new PixelColumnDecimator();
+        final float[] points = points(0, 0, 1, 1, 2, 2, 3, 3);
+        assertEquals(4, decimator.decimate(points, 4));
+        assertRetained(decimator, 0, 1, 2, 3);
+    }
+
+    @Test
+    public void decimate_preservesGaps() {
+        PixelColumnDecimator decimator = new PixelColumnDecimator();
+        final float[] points = points(
+                0.1f, 1, 0.2f, 2, 0.3f, 3,
+                Float.NaN, Float.NaN, Float.NaN, Float.NaN,
+                0.4f, 4, 0.5f, 5);
+        decimator.decimate(points, 7);
+
+        // the run is split by the gap; consecutive nulls are collapsed:
+        assertRetained(decimator, 0, 2, 3, 5, 6);
+    }
+
+    @Test
+    public void decimate_handlesUnorderedX() {
+        PixelColumnDecimator decimator = new PixelColumnDecimator();
+
+        // returns to column 0 after visiting column 5; each visit is its own run:
+        final float[] points = points(0.1f, 1, 0.2f, 2, 5.5f, 3, 0.3f, 4, 0.4f, 5, 0.5f, 6);
+        decimator.decimate(points, 6);
+        assertRetained(decimator, 0, 1, 2, 3, 5);
+    }
+
+    @Test
+    public void decimate_boundsOutputByColumnCount() {
+        PixelColumnDecimator decimator = new PixelColumnDecimator();
+        final int count = 100000;
+        final float[] points = new float[count * 2];
+        for (int i = 0; i < count; i++) {
+            points[i * 2] = i / 100f;
+            points[i * 2 + 1] = (float) Math.sin(i);
+        }
+        final int retained = decimator.decimate(points, count);
+        assertEquals(true, retained <= 4 * 1000);
+        assertEquals(0, decimator.get(0));
+        assertEquals(count - 1, decimator.get(retained - 1));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void get_throwsIndexOutOfBoundsException() {
+        PixelColumnDecimator decimator = new PixelColumnDecimator();
+        decimator.decimate(points(0, 0), 1);
+        decimator.get(1);
+    }
+}
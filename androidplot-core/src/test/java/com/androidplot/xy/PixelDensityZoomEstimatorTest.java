@@ -0,0 +1,56 @@
+package com.androidplot.xy;
+
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+
+public class PixelDensityZoomEstimatorTest {
+
+    @Test
+    public void selectLevel_selectsCoarsestLevelSatisfyingDensity() {
+        PixelDensityZoomEstimator estimator = new PixelDensityZoomEstimator(2, 0);
+
+        // level factors for a ratio of 2 are 2, 4, 8, 16:
+        assertEquals(-1, estimator.selectLevel(-1, 1.5, 2, 4));
+        assertEquals(0, estimator.selectLevel(-1, 2, 2, 4));
+        assertEquals(1, estimator.selectLevel(-1, 7.9, 2, 4));
+        assertEquals(3, estimator.selectLevel(-1, 1000, 2, 4));
+        assertEquals(1, estimator.selectLevel(3, 5, 2, 4));
+        assertEquals(-1, estimator.selectLevel(3, 0.5, 2, 4));
+    }
+
+    @Test
+    public void selectLevel_appliesHysteresis() {
+        PixelDensityZoomEstimator estimator = new PixelDensityZoomEstimator(2, 0.25f);
+
+        // level 1 (4x) is satisfied but not by a wide enough margin to switch to:
+        assertEquals(0, estimator.selectLevel(0, 4.5, 2, 4));
+        assertEquals(1, estimator.selectLevel(0, 5, 2, 4));
+
+        // once at level 1, small reductions in density don't switch back:
+        assertEquals(1, estimator.selectLevel(1, 3.5, 2, 4));
+        assertEquals(1, estimator.selectLevel(1, 3, 2, 4));
+        assertEquals(0, estimator.selectLevel(1, 2.9, 2, 4));
+
+        // large jumps skip levels:
+        assertEquals(3, estimator.selectLevel(0, 100, 2, 4));
+        assertEquals(-1, estimator.selectLevel(3, 1, 2, 4));
+    }
+
+    @Test
+    public void selectLevel_clampsToAvailableLevels() {
+        PixelDensityZoomEstimator estimator = new PixelDensityZoomEstimator();
+        assertEquals(1, estimator.selectLevel(5, 100, 2, 2));
+        assertEquals(-1, estimator.selectLevel(0, 100, 2, 0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructor_throwsIllegalArgumentException_ifHysteresisInvalid() {
+        new PixelDensityZoomEstimator(2, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructor_throwsIllegalArgumentException_ifPointsPerPixelInvalid() {
+        new PixelDensityZoomEstimator(0, 0.25f);
+    }
+}
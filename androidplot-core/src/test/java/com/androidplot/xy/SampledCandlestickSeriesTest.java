@@ -0,0 +1,104 @@
+package com.androidplot.xy;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+
+public class SampledCandlestickSeriesTest {
+
+    /**
+     * 12 one-minute candles; candle i opens at i, closes at i + 0.5, and spans i - 1 to i + 1,
+     * except for candle 7 whose high is 100.
+     */
+    private static CandlestickSeries newBase() {
+        List<Number> xVals = new ArrayList<>();
+        List<CandlestickSeries.Item> items = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            xVals.add(i * 60);
+            items.add(new CandlestickSeries.Item(i - 1, i == 7 ? 100 : i + 1, i, i + 0.5));
+        }
+        return new CandlestickSeries(xVals, items);
+    }
+
+    @Test
+    public void constructor_rollsUpEachLevel() {
+        SampledCandlestickSeries series = new SampledCandlestickSeries(newBase(), 60, 5, 2);
+        assertEquals(3, series.getLevelCount());
+        assertEquals(12, series.size(0));
+        assertEquals(300d, series.getInterval(1));
+        assertEquals(600d, series.getInterval(2));
+
+        // 5 minute candles: minutes 0-4, 5-9 and 10-11:
+        series.setLevel(1);
+        assertEquals(3, series.getHighSeries().size());
+        assertEquals(300d, series.getOpenSeries().getX(1));
+        assertEquals(5d, series.getOpenSeries().getY(1));
+        assertEquals(9.5d, series.getCloseSeries().getY(1));
+        assertEquals(100d, series.getHighSeries().getY(1));
+        assertEquals(4d, series.getLowSeries().getY(1));
+
+        // 10 minute candles, rolled up from the 5 minute candles:
+        series.setLevel(2);
+        assertEquals(2, series.getHighSeries().size());
+        assertEquals(0d, series.getOpenSeries().getY(0));
+        assertEquals(9.5d, series.getCloseSeries().getY(0));
+        assertEquals(-1d, series.getLowSeries().getY(0));
+        assertEquals(600d, series.getCloseSeries().getX(1));
+        assertEquals(11.5d, series.getCloseSeries().getY(1));
+
+        RectRegion bounds = ((FastXYSeries) series.getHighSeries()).minMax();
+        assertEquals(-1d, bounds.getMinY().doubleValue());
+        assertEquals(100d, bounds.getMaxY().doubleValue());
+    }
+
+    @Test
+    public void selectLevel_selectsFinestLevelWithWideEnoughCandles() {
+        SampledCandlestickSeries series = new SampledCandlestickSeries(newBase(), 60, 5, 2);
+        series.setMinCandleWidth(4);
+
+        // 720 seconds over 100 pixels; one minute candles are 8.3 pixels wide:
+        series.selectLevel(720, 100);
+        assertEquals(0, series.getLevel());
+
+        // 7200 seconds; one minute candles are 0.83 pixels, five minute candles 4.2 pixels:
+        series.selectLevel(7200, 100);
+        assertEquals(1, series.getLevel());
+
+        // the coarsest level is used when no level is wide enough:
+        series.selectLevel(1000000, 100);
+        assertEquals(2, series.getLevel());
+    }
+
+    @Test
+    public void constructor_skipsNullValuesWhenRollingUp() {
+        SimpleXYSeries high = new SimpleXYSeries("high");
+        SimpleXYSeries low = new SimpleXYSeries("low");
+        SimpleXYSeries open = new SimpleXYSeries("open");
+        SimpleXYSeries close = new SimpleXYSeries("close");
+        for (int i = 0; i < 5; i++) {
+            high.addLast(i, i == 1 ? null : 10 + i);
+            low.addLast(i, i == 0 ? null : i);
+            open.addLast(i, i == 0 ? null : 5 + i);
+            close.addLast(i, i == 4 ? null : 5 - i);
+        }
+        SampledCandlestickSeries series = new SampledCandlestickSeries(high, low, open, close, 1, 5);
+
+        series.setLevel(1);
+        assertEquals(1, series.getHighSeries().size());
+        assertEquals(14d, series.getHighSeries().getY(0));
+        assertEquals(1d, series.getLowSeries().getY(0));
+        assertEquals(6d, series.getOpenSeries().getY(0));
+        assertEquals(2d, series.getCloseSeries().getY(0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructor_rejectsDescendingXVals() {
+        new SampledCandlestickSeries(new CandlestickSeries(Arrays.<Number>asList(2, 1),
+                Arrays.asList(new CandlestickSeries.Item(1, 2, 1, 2),
+                        new CandlestickSeries.Item(1, 2, 1, 2))), 1, 2);
+    }
+}
@@ -1,11 +1,26 @@
 package com.androidplot.xy;
 
+import com.androidplot.Plot;
 import com.androidplot.test.*;
 
 import org.junit.*;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNotNull;
+import static junit.framework.Assert.assertTrue;
+import static junit.framework.Assert.assertNull;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 /**
@@ -13,6 +28,9 @@ import static org.mockito.Mockito.verify;
  */
 public class SampledXYSeriesTest extends AndroidplotTest {
 
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
     @Test
     public void testInit() throws Exception {
 
@@ -79,6 +97,213 @@ public class SampledXYSeriesTest extends AndroidplotTest {
         assertEquals(5, sampledXYSeries.getZoomLevels().size());
     }
 
+    @Test
+    public void testResample_withCascading() {
+        XYSeries rawData = TestUtils.generateXYSeries("my series", 2000);
+        SampledXYSeries sampledXYSeries = new SampledXYSeries(
+                rawData, OrderedXYSeries.XOrder.ASCENDING, 2, 100, true);
+        assertTrue(sampledXYSeries.isCascading());
+        assertEquals(4, sampledXYSeries.getZoomLevels().size());
+        assertEquals(1000, sampledXYSeries.getZoomLevels().get(0).size());
+        assertEquals(125, sampledXYSeries.getZoomLevels().get(3).size());
+
+        // the first and last points survive every level:
+        final EditableXYSeries coarsest = sampledXYSeries.getZoomLevels().get(3);
+        assertEquals(rawData.getX(0).doubleValue(), coarsest.getX(0).doubleValue());
+        assertEquals(rawData.getX(1999).doubleValue(), coarsest.getX(124).doubleValue());
+        assertNotNull(sampledXYSeries.getBounds());
+    }
+
+    @Test
+    public void testResample_usesExecutor() {
+        XYSeries rawData = TestUtils.generateXYSeries("my series", 2000);
+        SampledXYSeries sampledXYSeries = new SampledXYSeries(rawData, 2, 100);
+        final AtomicInteger executed = new AtomicInteger();
+        sampledXYSeries.setExecutor(new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                executed.incrementAndGet();
+                command.run();
+            }
+        });
+        sampledXYSeries.resample();
+        assertEquals(4, executed.get());
+        assertEquals(4, sampledXYSeries.getZoomLevels().size());
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void testResample_propagatesSamplerExceptions() {
+        XYSeries rawData = TestUtils.generateXYSeries("my series", 2000);
+        SampledXYSeries sampledXYSeries = new SampledXYSeries(rawData, 2, 100);
+        sampledXYSeries.setAlgorithm(new Sampler() {
+            @Override
+            public RectRegion run(XYSeries input, EditableXYSeries output) {
+                throw new IllegalStateException();
+            }
+        });
+    }
+
+    @Test
+    public void testResample_async() {
+        XYSeries rawData = TestUtils.generateXYSeries("my series", 2000);
+        SampledXYSeries sampledXYSeries = new SampledXYSeries(rawData, 2, 100);
+        final List<Runnable> queue = new ArrayList<>();
+        sampledXYSeries.setExecutor(new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                queue.add(command);
+            }
+        });
+        sampledXYSeries.setAsync(true);
+        Plot plot = mock(Plot.class);
+        sampledXYSeries.onBeforeDraw(plot, null);
+
+        // previous levels are served until replaced:
+        XYSeries previous = sampledXYSeries.getZoomLevels().get(1);
+        sampledXYSeries.resample();
+        assertEquals(4, queue.size());
+        sampledXYSeries.setZoomFactor(4);
+        assertEquals(500, sampledXYSeries.size());
+
+        // levels are published coarsest first:
+        queue.remove(0).run();
+        assertEquals(previous, sampledXYSeries.getZoomLevels().get(1));
+        assertEquals(125, sampledXYSeries.getZoomLevels().get(3).size());
+        verify(plot).redraw();
+        while (!queue.isEmpty()) {
+            queue.remove(0).run();
+        }
+        assertTrue(previous != sampledXYSeries.getZoomLevels().get(1));
+        assertEquals(500, sampledXYSeries.size());
+        verify(plot, times(4)).redraw();
+    }
+
+    @Test
+    public void testConstructor_async() throws InterruptedException {
+        XYSeries rawData = TestUtils.generateXYSeries("my series", 2000);
+        SampledXYSeries sampledXYSeries = new SampledXYSeries(
+                rawData, OrderedXYSeries.XOrder.ASCENDING, 2, 100, false, true);
+
+        // rawData is served until levels are available:
+        assertEquals(4, sampledXYSeries.getZoomLevels().size());
+        assertEquals(2000, sampledXYSeries.size());
+
+        for (int i = 0; i < 100 && sampledXYSeries.getZoomLevels().contains(null); i++) {
+            Thread.sleep(50);
+        }
+        sampledXYSeries.setZoomFactor(4);
+        assertEquals(500, sampledXYSeries.size());
+        assertNotNull(sampledXYSeries.minMax());
+    }
+
+    @Test
+    public void testResample_asyncFallsBackToCoarserLevels() {
+        XYSeries rawData = TestUtils.generateXYSeries("my series", 2000);
+        SampledXYSeries sampledXYSeries = new SampledXYSeries(rawData, 2, 100);
+        final List<Runnable> queue = new ArrayList<>();
+        sampledXYSeries.setExecutor(new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                queue.add(command);
+            }
+        });
+        sampledXYSeries.setAsync(true);
+
+        // a change in the number of levels discards previous levels:
+        sampledXYSeries.setThreshold(200);
+        sampledXYSeries.resample();
+        assertEquals(3, sampledXYSeries.getZoomLevels().size());
+        assertNull(sampledXYSeries.getZoomLevels().get(0));
+        sampledXYSeries.setZoomFactor(2);
+        assertEquals(2000, sampledXYSeries.size());
+
+        // coarsest level (250 points) is served until the requested level is ready:
+        queue.remove(0).run();
+        assertEquals(250, sampledXYSeries.size());
+        queue.remove(0).run();
+        assertEquals(500, sampledXYSeries.size());
+        queue.remove(0).run();
+        assertEquals(1000, sampledXYSeries.size());
+
+        // results of superseded resamples are discarded:
+        sampledXYSeries.resample();
+        List<Runnable> stale = new ArrayList<>(queue);
+        queue.clear();
+        sampledXYSeries.resample();
+        List<EditableXYSeries> levels = sampledXYSeries.getZoomLevels();
+        for (Runnable r : stale) {
+            r.run();
+        }
+        assertTrue(levels == sampledXYSeries.getZoomLevels());
+    }
+
+    @Test
+    public void testWrite_thenRead_restoresZoomLevels() throws IOException {
+        XYSeries rawData = TestUtils.generateXYSeries("my series", 2000);
+        SampledXYSeries sampledXYSeries = new SampledXYSeries(rawData, 2, 100);
+        File file = folder.newFile();
+        sampledXYSeries.write(file);
+
+        for (boolean map : new boolean[]{false, true}) {
+            SampledXYSeries restored = SampledXYSeries.read(file, rawData, map);
+            assertEquals(sampledXYSeries.getRatio(), restored.getRatio());
+            assertEquals(sampledXYSeries.getThreshold(), restored.getThreshold());
+            assertEquals(sampledXYSeries.getXOrder(), restored.getXOrder());
+            assertEquals(sampledXYSeries.getBounds().getMinY().doubleValue(),
+                    restored.getBounds().getMinY().doubleValue());
+            assertEquals(sampledXYSeries.getBounds().getMaxX().doubleValue(),
+                    restored.getBounds().getMaxX().doubleValue());
+            assertEquals(4, restored.getZoomLevels().size());
+            for (int i = 0; i < 4; i++) {
+                XYSeries expected = sampledXYSeries.getZoomLevels().get(i);
+                XYSeries actual = restored.getZoomLevels().get(i);
+                assertEquals(expected.size(), actual.size());
+                for (int j = 0; j < expected.size(); j++) {
+                    assertEquals(expected.getX(j), actual.getX(j));
+                    assertEquals(expected.getY(j), actual.getY(j));
+                }
+            }
+            restored.setZoomFactor(4);
+            assertEquals(500, restored.size());
+        }
+    }
+
+    @Test
+    public void testGetZoomLevels_copiesMappedLevelsOntoHeap() throws IOException {
+        XYSeries rawData = TestUtils.generateXYSeries("my series", 2000);
+        File file = folder.newFile();
+        new SampledXYSeries(rawData, 2, 100).write(file);
+
+        SampledXYSeries restored = SampledXYSeries.read(file, rawData, true);
+        restored.setZoomFactor(4);
+        assertEquals(500, restored.size());
+        final Number y = restored.getY(10);
+
+        EditableXYSeries level = restored.getZoomLevels().get(1);
+        assertTrue(level instanceof FixedSizeEditableXYSeries);
+        assertEquals(y, level.getY(10));
+        level.setY(-1, 10);
+        assertEquals(-1, restored.getZoomLevels().get(1).getY(10).intValue());
+    }
+
+    @Test
+    public void testRead_returnsNullWhenRawDataChanged() throws IOException {
+        SimpleXYSeries rawData = (SimpleXYSeries) TestUtils.generateXYSeries("my series", 2000);
+        SampledXYSeries sampledXYSeries = new SampledXYSeries(rawData, 2, 100);
+        File file = folder.newFile();
+        sampledXYSeries.write(file);
+
+        rawData.setY(-1, 1000);
+        assertNull(SampledXYSeries.read(file, rawData, false));
+    }
+
+    @Test(expected = IOException.class)
+    public void testRead_rejectsInvalidFiles() throws IOException {
+        File file = folder.newFile();
+        MappedXYSeries.write(file, TestUtils.generateXYSeries("my series", 2000));
+        SampledXYSeries.read(file, TestUtils.generateXYSeries("my series", 2000), false);
+    }
+
     /**
      * Ignored until null support is added to {@link LTTBSampler}.
      */
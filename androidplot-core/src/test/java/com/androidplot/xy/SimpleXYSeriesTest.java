@@ -22,6 +22,8 @@ import java.util.Arrays;
 import java.util.NoSuchElementException;
 
 import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertTrue;
 
 public class SimpleXYSeriesTest {
 
@@ -202,4 +204,167 @@ public class SimpleXYSeriesTest {
         series.clear();
         assertEquals(0, series.size());
     }
+
+    @Test
+    public void minMax_tracksSlidingWindow() {
+        SimpleXYSeries series = new SimpleXYSeries("series");
+        assertNull(series.minMax());
+
+        series.addLast(1, 100);
+        series.addLast(2, -100);
+        series.addLast(3, null);
+        series.addLast(4, 5);
+        RectRegion minMax = series.minMax();
+        assertEquals(1d, minMax.getMinX().doubleValue());
+        assertEquals(4d, minMax.getMaxX().doubleValue());
+        assertEquals(-100d, minMax.getMinY().doubleValue());
+        assertEquals(100d, minMax.getMaxY().doubleValue());
+
+        // evict both y extremes:
+        series.removeFirst();
+        series.removeFirst();
+        minMax = series.minMax();
+        assertEquals(3d, minMax.getMinX().doubleValue());
+        assertEquals(4d, minMax.getMaxX().doubleValue());
+        assertEquals(5d, minMax.getMinY().doubleValue());
+        assertEquals(5d, minMax.getMaxY().doubleValue());
+    }
+
+    @Test
+    public void minMax_reflectsUntrackedModifications() {
+        SimpleXYSeries series = new SimpleXYSeries(
+                Arrays.asList(1, 2, 3, 4, 5),
+                SimpleXYSeries.ArrayFormat.Y_VALS_ONLY, "series");
+        assertEquals(5d, series.minMax().getMaxY().doubleValue());
+
+        series.setY(50, 2);
+        assertEquals(50d, series.minMax().getMaxY().doubleValue());
+
+        series.removeLast();
+        series.addFirst(-1, -10);
+        RectRegion minMax = series.minMax();
+        assertEquals(-1d, minMax.getMinX().doubleValue());
+        assertEquals(3d, minMax.getMaxX().doubleValue());
+        assertEquals(-10d, minMax.getMinY().doubleValue());
+        assertEquals(50d, minMax.getMaxY().doubleValue());
+
+        series.setModel(Arrays.asList(7, 8), SimpleXYSeries.ArrayFormat.Y_VALS_ONLY);
+        minMax = series.minMax();
+        assertEquals(0d, minMax.getMinX().doubleValue());
+        assertEquals(1d, minMax.getMaxX().doubleValue());
+        assertEquals(7d, minMax.getMinY().doubleValue());
+        assertEquals(8d, minMax.getMaxY().doubleValue());
+    }
+
+    @Test
+    public void minMax_usesIndexBounds_withImplicitXVals() {
+        SimpleXYSeries series = new SimpleXYSeries(
+                Arrays.asList(3, 1, 2),
+                SimpleXYSeries.ArrayFormat.Y_VALS_ONLY, "series");
+        series.useImplicitXVals();
+        series.addLast(null, 0);
+        RectRegion minMax = series.minMax();
+        assertEquals(0d, minMax.getMinX().doubleValue());
+        assertEquals(3d, minMax.getMaxX().doubleValue());
+        assertEquals(0d, minMax.getMinY().doubleValue());
+        assertEquals(3d, minMax.getMaxY().doubleValue());
+    }
+
+    @Test
+    public void addLast_withArrays_appendsAllValues() {
+        SimpleXYSeries series = new SimpleXYSeries("series");
+        series.addLast(1, 1);
+        series.addLast(new double[] {2, 3, 4}, new double[] {20, Double.NaN, -40});
+        assertEquals(4, series.size());
+        assertEquals(3d, series.getX(2));
+        assertNull(series.getY(2));
+
+        RectRegion minMax = series.minMax();
+        assertEquals(1d, minMax.getMinX().doubleValue());
+        assertEquals(4d, minMax.getMaxX().doubleValue());
+        assertEquals(-40d, minMax.getMinY().doubleValue());
+        assertEquals(20d, minMax.getMaxY().doubleValue());
+    }
+
+    @Test
+    public void removeFirst_withCount_trimsHead() {
+        SimpleXYSeries series = new SimpleXYSeries("series");
+        series.addLast(new double[] {1, 2, 3, 4}, new double[] {40, 30, 20, 10});
+        series.removeFirst(2);
+        assertEquals(2, series.size());
+        assertEquals(3d, series.getX(0));
+        assertEquals(20d, series.minMax().getMaxY().doubleValue());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void addLast_withArrays_throwsIllegalArgumentException_ifLengthsDiffer() {
+        SimpleXYSeries series = new SimpleXYSeries("series");
+        series.addLast(new double[] {1, 2, 3}, new double[] {10, 20});
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void removeFirst_withCount_throwsIndexOutOfBoundsException_ifCountExceedsSize() {
+        SimpleXYSeries series = new SimpleXYSeries("series");
+        series.addLast(1, 1);
+        series.removeFirst(2);
+    }
+
+    @Test
+    public void setXY_withArrays_replacesRange() {
+        SimpleXYSeries series = new SimpleXYSeries(
+                SimpleXYSeries.ArrayFormat.Y_VALS_ONLY, "series", 1, 2, 3, 4);
+        series.setXY(new double[] {10, 11}, new double[] {-5, 50}, 1);
+        assertEquals(4, series.size());
+        assertEquals(10d, series.getX(1));
+        assertEquals(50d, series.getY(2));
+        assertEquals(3, series.getX(3));
+
+        RectRegion minMax = series.minMax();
+        assertEquals(-5d, minMax.getMinY().doubleValue());
+        assertEquals(50d, minMax.getMaxY().doubleValue());
+        assertEquals(11d, minMax.getMaxX().doubleValue());
+    }
+
+    @Test
+    public void setModel_withArrays_replacesValues() {
+        SimpleXYSeries series = new SimpleXYSeries(
+                SimpleXYSeries.ArrayFormat.Y_VALS_ONLY, "series", 1, 2, 3, 4);
+        series.setModel(null, new double[] {7, 8});
+        assertEquals(2, series.size());
+        assertEquals(1, series.getX(1));
+        assertEquals(8d, series.getY(1));
+
+        series.setModel(new double[] {5, 6, 7}, new double[] {1, 2, 3});
+        assertEquals(3, series.size());
+        assertEquals(7d, series.getX(2));
+        assertEquals(5d, series.minMax().getMinX().doubleValue());
+    }
+
+    @Test
+    public void getVersion_changesWithEachModification() {
+        SimpleXYSeries series = new SimpleXYSeries("series");
+        long version = series.getVersion();
+        series.addLast(1, 1);
+        assertTrue(series.getVersion() != version);
+
+        version = series.getVersion();
+        series.setY(2, 0);
+        assertTrue(series.getVersion() != version);
+
+        version = series.getVersion();
+        series.getY(0);
+        series.minMax();
+        assertEquals(version, series.getVersion());
+
+        series.removeFirst();
+        assertTrue(series.getVersion() != version);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void getYValues_isReadOnly() {
+        SimpleXYSeries series = new SimpleXYSeries(
+                SimpleXYSeries.ArrayFormat.Y_VALS_ONLY, "series", 1, 2, 3);
+        assertEquals(3, series.getYValues().size());
+        series.getYValues().add(4);
+    }
 }
@@ -0,0 +1,100 @@
+package com.androidplot.xy;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertNull;
+
+public class SnapshotXYSeriesTest {
+
+    @Test
+    public void values_areNotVisible_untilPublishedAndLatched() {
+        SnapshotXYSeries series = new SnapshotXYSeries("test", 3);
+        series.addLast(1, 10);
+        series.latch();
+        assertEquals(0, series.size());
+        assertNull(series.minMax());
+
+        series.publish();
+        assertEquals(0, series.size());
+
+        series.latch();
+        assertEquals(1, series.size());
+        assertEquals(1d, series.getX(0));
+        assertEquals(10d, series.getY(0));
+    }
+
+    @Test
+    public void latch_pinsMostRecentSnapshot() {
+        SnapshotXYSeries series = new SnapshotXYSeries("test", 3);
+        for (int i = 0; i < 5; i++) {
+            series.addLast(i, i * 10);
+            series.publish();
+        }
+        series.latch();
+        assertEquals(3, series.size());
+        assertEquals(2d, series.getX(0));
+        assertEquals(4d, series.getX(2));
+
+        RectRegion minMax = series.minMax();
+        assertEquals(20d, minMax.getMinY().doubleValue());
+        assertEquals(40d, minMax.getMaxY().doubleValue());
+
+        // a frame with nothing new published keeps the same snapshot:
+        series.latch();
+        assertEquals(40d, series.getY(2));
+
+        series.clear();
+        series.publish();
+        series.latch();
+        assertEquals(0, series.size());
+    }
+
+    @Test
+    public void latch_alwaysSeesConsistentSnapshot() throws InterruptedException {
+        final SnapshotXYSeries series = new SnapshotXYSeries("test", 100);
+        final AtomicBoolean done = new AtomicBoolean();
+        final Thread producer = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                for (int i = 0; i < 20000; i++) {
+                    series.addLast(i, i);
+                    series.publish();
+                }
+                done.set(true);
+            }
+        });
+        producer.start();
+
+        boolean inconsistent = false;
+        while (!done.get()) {
+            series.latch();
+            final int size = series.size();
+            for (int i = 1; i < size; i++) {
+                if (series.getXDouble(i) != series.getXDouble(i - 1) + 1
+                        || series.getYDouble(i) != series.getXDouble(i)) {
+                    inconsistent = true;
+                }
+            }
+        }
+        producer.join();
+        assertFalse(inconsistent);
+
+        series.latch();
+        assertEquals(19999d, series.getX(99));
+    }
+
+    @Test
+    public void getVersion_changesOnlyWhenPublished() {
+        final SnapshotXYSeries series = new SnapshotXYSeries("series", 4);
+        final long version = series.getVersion();
+        series.addLast(1, 1);
+        assertEquals(version, series.getVersion());
+
+        series.publish();
+        assertFalse(series.getVersion() == version);
+    }
+}
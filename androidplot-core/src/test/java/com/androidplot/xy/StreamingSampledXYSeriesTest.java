@@ -0,0 +1,122 @@
+package com.androidplot.xy;
+
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+
+public class StreamingSampledXYSeriesTest {
+
+    @Test
+    public void update_addsZoomLevels_asRawDataGrows() {
+        SimpleXYSeries raw = new SimpleXYSeries("raw");
+        StreamingSampledXYSeries series =
+                new StreamingSampledXYSeries(raw, OrderedXYSeries.XOrder.ASCENDING, 2, 10);
+        assertEquals(0, series.getZoomLevels().size());
+
+        for (int i = 0; i < 20; i++) {
+            raw.addLast(i, i);
+        }
+        series.update();
+        assertEquals(0, series.getZoomLevels().size());
+
+        for (int i = 20; i < 1000; i++) {
+            raw.addLast(i, Math.sin(i));
+        }
+        series.update();
+
+        // 1000 -> ~500 -> ~250 -> ~125 -> ~62 -> ~31 -> ~15:
+        assertEquals(6, series.getZoomLevels().size());
+        for (int i = 0; i < series.getZoomLevels().size(); i++) {
+            final EditableXYSeries level = series.getZoomLevels().get(i);
+            final int expectedSize = (int) (1000 / Math.pow(2, i + 1));
+            assertEquals(expectedSize, level.size(), 2);
+
+            // first and last points always match the raw data:
+            assertEquals(0d, level.getX(0).doubleValue());
+            assertEquals(999d, level.getX(level.size() - 1).doubleValue());
+        }
+    }
+
+    @Test
+    public void update_incrementally_matchesSingleUpdate() {
+        SimpleXYSeries raw1 = new SimpleXYSeries("raw1");
+        SimpleXYSeries raw2 = new SimpleXYSeries("raw2");
+        StreamingSampledXYSeries incremental =
+                new StreamingSampledXYSeries(raw1, OrderedXYSeries.XOrder.ASCENDING, 3, 5);
+        for (int i = 0; i < 2000; i++) {
+            final double y = Math.random();
+            raw1.addLast(i, y);
+            raw2.addLast(i, y);
+            if (i % 7 == 0) {
+                incremental.update();
+            }
+        }
+        incremental.update();
+        StreamingSampledXYSeries single =
+                new StreamingSampledXYSeries(raw2, OrderedXYSeries.XOrder.ASCENDING, 3, 5);
+
+        assertEquals(single.getZoomLevels().size(), incremental.getZoomLevels().size());
+        for (int i = 0; i < single.getZoomLevels().size(); i++) {
+            final EditableXYSeries expected = single.getZoomLevels().get(i);
+            final EditableXYSeries actual = incremental.getZoomLevels().get(i);
+            assertEquals(expected.size(), actual.size());
+            for (int j = 0; j < expected.size(); j++) {
+                assertEquals(expected.getX(j), actual.getX(j));
+                assertEquals(expected.getY(j), actual.getY(j));
+            }
+        }
+    }
+
+    @Test
+    public void update_preservesSpikes() {
+        SimpleXYSeries raw = new SimpleXYSeries("raw");
+        for (int i = 0; i < 1000; i++) {
+            raw.addLast(i, i == 500 ? 100 : 0);
+        }
+        StreamingSampledXYSeries series =
+                new StreamingSampledXYSeries(raw, OrderedXYSeries.XOrder.ASCENDING, 2, 10);
+        final EditableXYSeries level = series.getZoomLevels().get(0);
+        double max = 0;
+        for (int i = 0; i < level.size(); i++) {
+            max = Math.max(max, level.getY(i).doubleValue());
+        }
+        assertEquals(100d, max);
+        assertEquals(100d, series.minMax().getMaxY().doubleValue());
+    }
+
+    @Test
+    public void update_rebuildsLevels_ifRawDataShrinks() {
+        SimpleXYSeries raw = new SimpleXYSeries("raw");
+        for (int i = 0; i < 100; i++) {
+            raw.addLast(i, i);
+        }
+        StreamingSampledXYSeries series =
+                new StreamingSampledXYSeries(raw, OrderedXYSeries.XOrder.ASCENDING, 2, 10);
+        // 100 -> ~50 -> ~25 -> ~12:
+        assertEquals(3, series.getZoomLevels().size());
+
+        raw.removeFirst(90);
+        series.update();
+        assertEquals(0, series.getZoomLevels().size());
+        assertEquals(90d, series.minMax().getMinX().doubleValue());
+    }
+
+    @Test
+    public void setAsync_isIgnored() {
+        final StreamingSampledXYSeries series =
+                new StreamingSampledXYSeries(new SimpleXYSeries("raw"), 2, 10);
+        series.setAsync(true);
+        assertFalse(series.isAsync());
+    }
+
+    @Test
+    public void setAlgorithm_isIgnored() {
+        final SimpleXYSeries raw = new SimpleXYSeries(SimpleXYSeries.ArrayFormat.Y_VALS_ONLY, "raw",
+                1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20);
+        final StreamingSampledXYSeries series = new StreamingSampledXYSeries(raw, 2, 4);
+        final int levels = series.getZoomLevels().size();
+        series.setAlgorithm(new M4Sampler());
+        assertEquals(levels, series.getZoomLevels().size());
+    }
+}
@@ -0,0 +1,212 @@
+package com.androidplot.xy;
+
+import com.androidplot.Region;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+public class TiledSampledXYSeriesTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private SimpleXYSeries rawData;
+    private int samplerRuns;
+
+    @Before
+    public void setUp() {
+        rawData = new SimpleXYSeries("raw");
+        for (int i = 0; i < 100000; i++) {
+            rawData.addLast(i, Math.sin(i));
+        }
+        samplerRuns = 0;
+    }
+
+    private TiledSampledXYSeries newSeries() {
+        TiledSampledXYSeries series = new TiledSampledXYSeries(rawData, 2, 100, 100);
+        series.setAlgorithm(new Sampler() {
+            @Override
+            public RectRegion run(XYSeries input, EditableXYSeries output) {
+                samplerRuns++;
+                return new LTTBSampler().run(input, output);
+            }
+        });
+        return series;
+    }
+
+    @Test
+    public void constructor_calculatesLevels() {
+        TiledSampledXYSeries series = newSeries();
+
+        // 50000, 25000, ... 196:
+        assertEquals(Math.pow(2, 9), series.getMaxZoomFactor());
+        assertEquals(0d, series.getBounds().getMinX().doubleValue());
+        assertEquals(99999d, series.getBounds().getMaxX().doubleValue());
+
+        // nothing is sampled until needed:
+        assertEquals(0, samplerRuns);
+        assertEquals(rawData.size(), series.size());
+    }
+
+    @Test
+    public void setZoomFactor_assemblesVisibleTiles() {
+        TiledSampledXYSeries series = newSeries();
+        series.setVisibleRegion(new Region(1000, 2000));
+        series.setZoomFactor(4);
+
+        // level 1 tiles each cover 400 raw points; tiles 2-5 are visible plus one on either side:
+        assertEquals(1, series.getLevel());
+        assertEquals(6, samplerRuns);
+        assertEquals(600, series.size());
+        assertEquals(400d, series.getX(0).doubleValue());
+        assertEquals(2799d, series.getX(series.size() - 1).doubleValue());
+        double lastX = -1;
+        for (int i = 0; i < series.size(); i++) {
+            assertTrue(series.getXDouble(i) > lastX);
+            lastX = series.getXDouble(i);
+        }
+        assertEquals(6 * 100 * 16, series.getCacheBytes());
+
+        // zooming back in restores rawData:
+        series.setZoomFactor(1);
+        assertEquals(-1, series.getLevel());
+        assertEquals(rawData.size(), series.size());
+    }
+
+    @Test
+    public void write_writesEveryLevel() throws IOException {
+        TiledSampledXYSeries series = newSeries();
+        series.setVisibleRegion(new Region(1000, 2000));
+        series.setZoomFactor(4);
+        final long cacheBytes = series.getCacheBytes();
+        File file = folder.newFile();
+        series.write(file);
+
+        // uncached tiles are sampled but not cached:
+        assertEquals(cacheBytes, series.getCacheBytes());
+
+        SampledXYSeries restored = SampledXYSeries.read(file, rawData, false);
+        assertEquals(9, restored.getZoomLevels().size());
+        assertEquals(50000, restored.getZoomLevels().get(0).size());
+
+        // the visible tiles of level 1 were written as cached:
+        EditableXYSeries level = restored.getZoomLevels().get(1);
+        assertEquals(25000, level.size());
+        for (int i = 0; i < series.size(); i++) {
+            assertEquals(series.getXDouble(i), level.getX(100 + i).doubleValue());
+            assertEquals(series.getYDouble(i), level.getY(100 + i).doubleValue());
+        }
+    }
+
+    @Test
+    public void setZoomFactor_reusesCachedTiles() {
+        TiledSampledXYSeries series = newSeries();
+        series.setVisibleRegion(new Region(1000, 2000));
+        series.setZoomFactor(4);
+        assertEquals(6, samplerRuns);
+
+        series.setZoomFactor(4);
+        assertEquals(6, samplerRuns);
+
+        // pan by one tile:
+        series.setVisibleRegion(new Region(1400, 2400));
+        series.setZoomFactor(4);
+        assertEquals(7, samplerRuns);
+        assertEquals(800d, series.getX(0).doubleValue());
+    }
+
+    @Test
+    public void setMaxCacheBytes_evictsLeastRecentlyUsedTiles() {
+        TiledSampledXYSeries series = newSeries();
+        series.setMaxCacheBytes(6 * 100 * 16);
+        series.setVisibleRegion(new Region(1000, 2000));
+        series.setZoomFactor(4);
+        series.setVisibleRegion(new Region(50000, 51000));
+        series.setZoomFactor(4);
+        // 5 tiles are visible; only the most recently used tile of the first window remains:
+        assertEquals(11, samplerRuns);
+        assertEquals(6 * 100 * 16, series.getCacheBytes());
+
+        series.setVisibleRegion(new Region(1000, 2000));
+        series.setZoomFactor(4);
+        assertEquals(16, samplerRuns);
+
+        // visible tiles remain visible even when they exceed the budget:
+        series.setMaxCacheBytes(0);
+        assertEquals(0, series.getCacheBytes());
+        assertEquals(600, series.size());
+    }
+
+    @Test
+    public void resample_discardsTiles() {
+        TiledSampledXYSeries series = newSeries();
+        series.setVisibleRegion(new Region(1000, 2000));
+        series.setZoomFactor(4);
+        series.resample();
+        assertEquals(0, series.getCacheBytes());
+        assertEquals(rawData.size(), series.size());
+        series.setZoomFactor(4);
+        assertEquals(12, samplerRuns);
+    }
+
+    @Test
+    public void setZoomFactor_async_servesCachedLevelsUntilTilesAreReady() {
+        TiledSampledXYSeries series = newSeries();
+        final List<Runnable> queue = new ArrayList<>();
+        series.setExecutor(new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                queue.add(command);
+            }
+        });
+        series.setAsync(true);
+        series.setVisibleRegion(new Region(1000, 2000));
+
+        // nothing is cached, so rawData remains active while tiles are sampled:
+        series.setZoomFactor(4);
+        assertEquals(-1, series.getLevel());
+        assertEquals(0, samplerRuns);
+        assertEquals(6, queue.size());
+
+        // pending tiles are not requested again:
+        series.setZoomFactor(4);
+        assertEquals(6, queue.size());
+        while (!queue.isEmpty()) {
+            queue.remove(0).run();
+        }
+        series.setZoomFactor(4);
+        assertEquals(1, series.getLevel());
+        assertEquals(600, series.size());
+
+        // zooming in serves the cached coarser level until finer tiles are ready:
+        series.setZoomFactor(2);
+        assertEquals(1, series.getLevel());
+        assertTrue(queue.size() > 0);
+        while (!queue.isEmpty()) {
+            queue.remove(0).run();
+        }
+        series.setZoomFactor(2);
+        assertEquals(0, series.getLevel());
+
+        // tiles sampled before a resample are discarded:
+        series.setZoomFactor(8);
+        List<Runnable> stale = new ArrayList<>(queue);
+        queue.clear();
+        series.resample();
+        for (Runnable r : stale) {
+            r.run();
+        }
+        assertEquals(0, series.getCacheBytes());
+    }
+}
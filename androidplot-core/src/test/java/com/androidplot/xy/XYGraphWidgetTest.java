@@ -21,6 +21,7 @@ import android.graphics.*;
 
 import com.androidplot.test.*;
 import com.androidplot.ui.*;
+import com.androidplot.util.DisplayDimensions;
 
 import org.junit.*;
 import org.mockito.*;
@@ -159,6 +160,27 @@ public class XYGraphWidgetTest extends AndroidplotTest {
         runDrawGridTest();
     }
 
+    @Test(expected = UnsupportedOperationException.class)
+    public void setCachingEnabled_throwsUnsupportedOperationException() {
+        graphWidget.setCachingEnabled(true);
+    }
+
+    @Test
+    public void drawGrid_withGridCachingEnabled_rendersOnlyWhenChanged() {
+        final RectF rect = new RectF(0, 0, 100, 100);
+        graphWidget.layout(new DisplayDimensions(rect, rect, rect));
+        graphWidget.setGridCachingEnabled(true);
+        graphWidget.drawGrid(canvas);
+        graphWidget.drawGrid(canvas);
+
+        verify(graphWidget, times(1)).renderGrid(any(Canvas.class));
+        verify(canvas, times(2)).drawBitmap(any(Bitmap.class), anyFloat(), anyFloat(), (Paint) eq(null));
+
+        bounds.setMaxX(200);
+        graphWidget.drawGrid(canvas);
+        verify(graphWidget, times(2)).renderGrid(any(Canvas.class));
+    }
+
     @Test
     public void drawCursors_withCursorPaintAndPosition_drawsCursorLines() {
         final Paint domainCursorPaint = new Paint();
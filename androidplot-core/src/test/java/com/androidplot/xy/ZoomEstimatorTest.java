@@ -1,5 +1,7 @@
 package com.androidplot.xy;
 
+import android.graphics.RectF;
+
 import com.androidplot.test.*;
 
 import org.junit.*;
@@ -43,6 +45,28 @@ public class ZoomEstimatorTest extends AndroidplotTest {
         verify(series).setZoomFactor(1);
     }
 
+    @Test
+    public void testRun_selectsCandlestickLevel() {
+        ZoomEstimator estimator = new ZoomEstimator();
+        SampledCandlestickSeries series = new SampledCandlestickSeries(
+                TestUtils.generateXYSeries("high", 1000), TestUtils.generateXYSeries("low", 1000),
+                TestUtils.generateXYSeries("open", 1000), TestUtils.generateXYSeries("close", 1000),
+                1, 5, 2);
+
+        XYGraphWidget graph = mock(XYGraphWidget.class);
+        when(graph.getGridRect()).thenReturn(new RectF(0, 0, 100, 100));
+        when(xyPlot.getGraph()).thenReturn(graph);
+        when(xyPlot.getBounds()).thenReturn(new RectRegion(0, 100, 0, 1000));
+
+        // only the high series selects the level:
+        estimator.run(xyPlot, new XYSeriesBundle(series.getLowSeries(), null));
+        assertEquals(0, series.getLevel());
+
+        // 100 candles over 100 pixels are too narrow; 20 five point candles are 5 pixels wide:
+        estimator.run(xyPlot, new XYSeriesBundle(series.getHighSeries(), null));
+        assertEquals(1, series.getLevel());
+    }
+
     @Test
     public void testCalculateZoom() {
         ZoomEstimator estimator = spy(new ZoomEstimator());
@@ -97,8 +97,8 @@ public class CandlestickChartActivity extends Activity {
 
         // add some padding to range boundaries:
         final Region minMax = SeriesUtils.minMax(
-                candlestickSeries.getHighSeries().getyVals(),
-                candlestickSeries.getLowSeries().getyVals());
+                candlestickSeries.getHighSeries().getYValues(),
+                candlestickSeries.getLowSeries().getYValues());
 
         plot.setRangeBoundaries(
                 minMax.getMin().doubleValue() - 1,
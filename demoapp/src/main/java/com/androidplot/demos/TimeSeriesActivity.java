@@ -162,6 +162,6 @@ public class TimeSeriesActivity extends Activity {
     @Override
     public void onSaveInstanceState(Bundle bundle) {
         // persist our series data so we don't have to regenerate each time:
-        bundle.putSerializable(SERIES_TITLE, series.getyVals().toArray(new Number[]{}));
+        bundle.putSerializable(SERIES_TITLE, series.getYValues().toArray(new Number[]{}));
     }
 }
\ No newline at end of file